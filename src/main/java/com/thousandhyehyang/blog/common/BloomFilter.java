@@ -0,0 +1,101 @@
+package com.thousandhyehyang.blog.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터
+ * 포함 여부를 고정 크기 비트 배열로 근사하여, "포함되지 않음"은 항상 정확하고 "포함됨"은 설정한 확률로 오탐할 수 있습니다.
+ * 추가와 조회는 락 없이 여러 스레드에서 동시에 호출할 수 있으며, 항목 삭제는 지원하지 않습니다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    /**
+     * 예상 항목 수와 오탐률에 맞는 크기로 필터 생성
+     *
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 허용 오탐률 (0과 1 사이)
+     * @return 빈 블룸 필터
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("예상 항목 수는 양수, 오탐률은 0과 1 사이여야 합니다.");
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long bitCount = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 포함 가능성 확인
+     *
+     * @param value 확인할 값
+     * @return false이면 확실히 포함되지 않음, true이면 포함되었을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        // 음수 해시도 비트 범위 안으로
+        return (combined & 0x7fffffffL) % bitCount;
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 후 비트 확산 (상위/하위 32비트를 두 개의 해시로 사용)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -19,18 +19,25 @@ public enum ErrorCode {
     
     // 파일 매핑 관련 에러
     DUPLICATE_FILE_MAPPING(HttpStatus.CONFLICT, "이미 매핑된 파일입니다."),
+
+    // 동시 수정 관련 에러
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청이 먼저 변경했습니다. 새로 고친 뒤 다시 시도해주세요."),
     
     // 인증 관련 에러
     AUTHENTICATION_ERROR(HttpStatus.UNAUTHORIZED, "인증에 실패했습니다."),
     
     // 유효성 검증 관련 에러
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "입력값이 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "페이지 커서가 유효하지 않습니다."),
+
+    // 요청 제한 관련 에러
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    STREAM_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     
     // 서버 내부 에러
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 서버 오류가 발생했습니다."),
 
     // 구독 관련 에러
-    DUPLICATE_SUBSCRIPTION(HttpStatus.CONFLICT, "이미 구독 중인 이메일입니다."),
     SUBSCRIBER_NOT_FOUND(HttpStatus.NOT_FOUND, "구독자를 찾을 수 없습니다.");
     
     private final HttpStatus status;
@@ -0,0 +1,54 @@
+package com.thousandhyehyang.blog.common;
+
+import com.thousandhyehyang.blog.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (생성 시간, ID) 기반 키셋 페이지네이션 커서
+ * 마지막으로 조회한 행의 정렬 키를 담아 다음 페이지를 OFFSET 없이 인덱스 범위 조회로 가져올 수 있게 합니다.
+ * 클라이언트에는 URL-safe Base64로 인코딩된 불투명한 문자열로 전달됩니다.
+ *
+ * @param createdAt 마지막 행의 생성 시간
+ * @param id 마지막 행의 ID (생성 시간이 같은 행의 순서를 결정)
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서를 문자열로 인코딩
+     *
+     * @return URL-safe Base64 문자열
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열을 커서로 디코딩
+     *
+     * @param value 인코딩된 커서 문자열
+     * @return 디코딩된 커서
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("커서 형식이 올바르지 않습니다.");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("커서 형식이 올바르지 않습니다.");
+        }
+    }
+}
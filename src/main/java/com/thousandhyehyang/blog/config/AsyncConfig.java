@@ -22,6 +22,9 @@ public class AsyncConfig implements AsyncConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
 
+    // 일반 비동기 작업 최대 스레드 수 (DB 커넥션 풀 크기 산정에도 사용)
+    static final int ASYNC_MAX_POOL_SIZE = 10;
+
     /**
      * 비동기 작업을 처리할 스레드 풀 설정
      * @return 설정된 ThreadPoolTaskExecutor
@@ -31,13 +34,57 @@ public class AsyncConfig implements AsyncConfigurer {
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
+        executor.setMaxPoolSize(ASYNC_MAX_POOL_SIZE);
         executor.setQueueCapacity(25);
         executor.setThreadNamePrefix("Async-");
         executor.initialize();
         return executor;
     }
 
+    /**
+     * 이미지 파생본 생성을 처리할 스레드 풀 설정
+     * 이미지 리사이즈는 CPU와 메모리를 많이 사용하므로 스레드 수와 대기열을 작게 제한합니다.
+     * 대기열이 가득 차면 작업을 거부(TaskRejectedException)하며, 요청 스레드에서 대신 실행하지 않습니다.
+     * 거부된 이미지는 ImageVariantService가 보충 목록에 기록해 나중에 다시 처리합니다.
+     * @return 설정된 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public Executor imageProcessingExecutor() {
+        int poolSize = imageProcessingPoolSize();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("ImageProc-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 처리 스레드 수 (CPU 코어의 절반)
+     */
+    static int imageProcessingPoolSize() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * 실시간 댓글 스트림(SSE) 전송을 처리할 스레드 풀 설정
+     * 구독자별 전송은 한 번에 하나의 작업만 실행되므로, 느린 클라이언트가 있어도 다른 구독자 전송이 막히지 않습니다.
+     * 대기열이 가득 차 작업이 거부되면 해당 구독을 종료합니다 (클라이언트가 재연결).
+     * @return 설정된 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "commentStreamExecutor")
+    public Executor commentStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("CommentStream-");
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * 비동기 메서드에서 발생한 예외를 처리하는 핸들러
      * @return 비동기 예외 처리기
@@ -0,0 +1,52 @@
+package com.thousandhyehyang.blog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * DB 커넥션 풀 설정 클래스
+ * 커넥션 풀 크기를 직접 지정하지 않은 경우, DB를 사용하는 스레드 수에 맞춰 풀 크기를 정합니다.
+ * (Connector/J 옵션과 타임아웃은 application-prod.yml에서 설정)
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    /**
+     * 커넥션 풀 크기 계산
+     * 요청 처리용 커넥션 + 일반 비동기 작업 + 이미지 처리 + 스케줄러 스레드 수
+     * (스케줄러 스레드는 SchedulingConfig에서 지정하며, 모든 스레드가 동시에 DB 작업을 실행할 수 있다고 가정)
+     * 요청 스레드(Tomcat 최대 200개)에 모두 커넥션을 주지 않고, 나머지 요청은 커넥션 대기로 제한합니다.
+     *
+     * @param environment 환경 설정
+     * @return Hikari 풀 크기 설정기
+     */
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // 설정 파일에서 maximum-pool-size를 지정한 경우 그대로 사용
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMaximumPoolSize() < 1) {
+                    int requestConnections = environment.getProperty("app.datasource.request-connections", Integer.class, 10);
+                    int poolSize = requestConnections
+                            + AsyncConfig.ASYNC_MAX_POOL_SIZE
+                            + AsyncConfig.imageProcessingPoolSize()
+                            + SchedulingConfig.SCHEDULER_POOL_SIZE;
+
+                    dataSource.setMaximumPoolSize(poolSize);
+                    logger.info("DB 커넥션 풀 크기 설정: 최대_커넥션_수={} (요청={}, 비동기={}, 이미지={}, 스케줄러={})",
+                            poolSize, requestConnections, AsyncConfig.ASYNC_MAX_POOL_SIZE,
+                            AsyncConfig.imageProcessingPoolSize(), SchedulingConfig.SCHEDULER_POOL_SIZE);
+                }
+                return bean;
+            }
+        };
+    }
+}
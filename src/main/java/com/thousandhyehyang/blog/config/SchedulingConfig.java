@@ -1,7 +1,9 @@
 package com.thousandhyehyang.blog.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * 스케줄링 기능을 활성화하는 설정 클래스
@@ -10,5 +12,23 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
-    // 스케줄링 관련 추가 설정이 필요한 경우 여기에 구현
-}
\ No newline at end of file
+
+    // 스케줄러 스레드 수 (DataSourceConfig의 커넥션 풀 크기 계산에도 사용)
+    public static final int SCHEDULER_POOL_SIZE = 4;
+
+    /**
+     * @Scheduled 작업을 실행하는 스케줄러
+     * 기본 스케줄러는 스레드가 하나뿐이어서 파일 정리, 피드 재생성 같은 긴 작업이 실행되는 동안
+     * SSE 하트비트 같은 짧은 주기 작업이 밀리므로 여러 스레드에서 실행합니다.
+     * @return 설정된 ThreadPoolTaskScheduler
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(SCHEDULER_POOL_SIZE);
+        scheduler.setThreadNamePrefix("Scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
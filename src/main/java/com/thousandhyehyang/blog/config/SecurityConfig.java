@@ -3,6 +3,7 @@ package com.thousandhyehyang.blog.config;
 import com.thousandhyehyang.blog.security.CustomOAuth2UserService;
 import com.thousandhyehyang.blog.security.JwtAuthenticationFilter;
 import com.thousandhyehyang.blog.security.OAuth2AuthenticationSuccessHandler;
+import com.thousandhyehyang.blog.security.RateLimitFilter;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -50,13 +51,16 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+    private final RateLimitFilter rateLimitFilter;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
                           CustomOAuth2UserService customOAuth2UserService,
-                          OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler) {
+                          OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
+                          RateLimitFilter rateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -75,9 +79,15 @@ public class SecurityConfig {
                         // 구독 API는 로그인 없이 사용 가능하도록 허용
                         .requestMatchers("/subscriptions/**").permitAll()
 
+                        // 피드와 사이트맵 공개
+                        .requestMatchers(HttpMethod.GET, "/feed.xml", "/sitemap.xml").permitAll()
+
                         // 헬스 체크 엔드포인트 공개
                         .requestMatchers("/health/**").permitAll()
 
+                        // 운영 메트릭은 ADMIN만 조회 가능
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 게시글 조회는 전체 공개
                         .requestMatchers(HttpMethod.GET, "/posts/**").permitAll()
 
@@ -102,6 +112,8 @@ public class SecurityConfig {
                         .redirectionEndpoint(redirection -> redirection.baseUri("/oauth2/callback/*"))
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 익명 쓰기 API 속도 제한은 JWT 검증보다 먼저 수행
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 .headers(headers -> headers
                         .xssProtection(xss -> xss.headerValue(XXssProtectionHeaderWriter.HeaderValue.ENABLED_MODE_BLOCK))
                         .contentTypeOptions(contentTypeOptions -> contentTypeOptions.disable())
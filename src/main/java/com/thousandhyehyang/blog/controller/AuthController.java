@@ -4,17 +4,21 @@ import com.thousandhyehyang.blog.common.ApiResponse;
 import com.thousandhyehyang.blog.dto.TokenRefreshRequest;
 import com.thousandhyehyang.blog.dto.TokenRefreshResponse;
 import com.thousandhyehyang.blog.entity.Account;
+import com.thousandhyehyang.blog.security.AccessTokenRevocationService;
 import com.thousandhyehyang.blog.security.RedisTokenService;
+import com.thousandhyehyang.blog.security.RefreshTokenCookieFactory;
 import com.thousandhyehyang.blog.security.TokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/auth")
 @Tag(name = "Authentication", description = "인증 관련 API")
@@ -22,63 +26,98 @@ public class AuthController {
 
     private final TokenProvider tokenProvider;
     private final RedisTokenService redisTokenService;
+    private final RefreshTokenCookieFactory refreshTokenCookieFactory;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
-    public AuthController(TokenProvider tokenProvider, RedisTokenService redisTokenService) {
+    public AuthController(TokenProvider tokenProvider,
+                          RedisTokenService redisTokenService,
+                          RefreshTokenCookieFactory refreshTokenCookieFactory,
+                          AccessTokenRevocationService accessTokenRevocationService) {
         this.tokenProvider = tokenProvider;
         this.redisTokenService = redisTokenService;
+        this.refreshTokenCookieFactory = refreshTokenCookieFactory;
+        this.accessTokenRevocationService = accessTokenRevocationService;
     }
 
     /**
      * 액세스 토큰 재발급
+     * 사용한 리프레시 토큰은 새 토큰으로 교체되며, 이미 교체된 토큰이 다시 사용되면 해당 기기의 세션을 폐기합니다.
+     * 단, 교체 직후 유예 시간 안에 이전 토큰으로 다시 요청하면 (여러 탭의 동시 요청, 재시도) 이미 발급된 새 토큰을 다시 전달합니다.
      *
      * @param refreshToken 쿠키에서 추출한 리프레시 토큰
+     * @param response     HTTP 응답 객체
      */
     @PostMapping("/refresh-token")
-    @Operation(summary = "액세스 토큰 재발급", description = "HttpOnly 쿠키의 Refresh Token으로 Access Token을 재발급합니다.")
-    public ResponseEntity<ApiResponse<TokenRefreshResponse>> refreshToken(@CookieValue(name = "refreshToken") String refreshToken) {
+    @Operation(summary = "액세스 토큰 재발급", description = "HttpOnly 쿠키의 Refresh Token으로 Access Token을 재발급하고 Refresh Token을 교체합니다.")
+    public ResponseEntity<ApiResponse<TokenRefreshResponse>> refreshToken(
+            @CookieValue(name = RefreshTokenCookieFactory.COOKIE_NAME) String refreshToken,
+            HttpServletResponse response) {
 
-        // 리프레시 토큰 검증
-        if (!tokenProvider.validateToken(refreshToken) || !tokenProvider.isRefreshToken(refreshToken)) {
+        // 리프레시 토큰 검증 (서명, 만료, 타입을 한 번에 확인)
+        Optional<TokenProvider.RefreshTokenClaims> parsed = tokenProvider.parseRefreshToken(refreshToken);
+        if (parsed.isEmpty()) {
             return ResponseEntity.badRequest().body(ApiResponse.error("Invalid refresh token"));
         }
 
-        // 토큰에서 사용자 ID 가져오기
-        Long userId = tokenProvider.getUserIdFromToken(refreshToken);
-
-        // Redis에서 리프레시 토큰 검증
-        if (!redisTokenService.validateRefreshToken(userId, refreshToken)) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Invalid or expired refresh token"));
-        }
+        Long userId = parsed.get().userId();
+        String deviceId = parsed.get().deviceId();
 
-        // 새 액세스 토큰 생성
-        String newAccessToken = tokenProvider.createAccessToken(userId);
+        // 같은 기기 ID로 새 리프레시 토큰 발급 후 Redis에서 원자적으로 교체
+        String newRefreshToken = tokenProvider.createRefreshToken(userId, deviceId);
+        RedisTokenService.Rotation rotation =
+                redisTokenService.rotateRefreshToken(userId, deviceId, refreshToken, newRefreshToken);
 
-        return ResponseEntity.ok(ApiResponse.success(new TokenRefreshResponse(newAccessToken)));
+        switch (rotation.result()) {
+            case ROTATED -> {
+                response.addCookie(refreshTokenCookieFactory.create(rotation.refreshToken()));
+                String newAccessToken = tokenProvider.createAccessToken(userId);
+                return ResponseEntity.ok(ApiResponse.success(new TokenRefreshResponse(newAccessToken)));
+            }
+            case REUSED -> {
+                response.addCookie(refreshTokenCookieFactory.expire());
+                return ResponseEntity.badRequest().body(ApiResponse.error("Refresh token reuse detected"));
+            }
+            default -> {
+                return ResponseEntity.badRequest().body(ApiResponse.error("Invalid or expired refresh token"));
+            }
+        }
     }
 
     /**
-     * 로그아웃 처리 (리프레시 토큰 제거 및 쿠키 만료)
+     * 로그아웃 처리 (액세스 토큰 폐기, 리프레시 토큰 제거 및 쿠키 만료)
+     * 쿠키의 리프레시 토큰으로 기기를 확인할 수 있으면 해당 기기만, 아니면 모든 기기를 로그아웃합니다.
      *
-     * @param account  인증된 사용자 계정
-     * @param response HTTP 응답 객체
+     * @param account       인증된 사용자 계정
+     * @param authorization 요청의 Authorization 헤더
+     * @param refreshToken  쿠키에서 추출한 리프레시 토큰 (선택)
+     * @param response      HTTP 응답 객체
      */
     @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "현재 로그인한 사용자의 리프레시 토큰을 무효화하고 쿠키를 만료시킵니다.", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "로그아웃", description = "현재 액세스 토큰과 현재 기기의 리프레시 토큰을 무효화하고 쿠키를 만료시킵니다.", security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<ApiResponse<Void>> logout(
             @AuthenticationPrincipal Account account,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @CookieValue(name = RefreshTokenCookieFactory.COOKIE_NAME, required = false) String refreshToken,
             HttpServletResponse response) {
         if (account != null) {
+            // 만료 전까지 남은 액세스 토큰 폐기
+            if (authorization != null && authorization.startsWith("Bearer ")) {
+                tokenProvider.parseAccessToken(authorization.substring("Bearer ".length()))
+                        .ifPresent(claims -> accessTokenRevocationService.revoke(claims.tokenId(), claims.expiresAt()));
+            }
+
             // Redis에서 리프레시 토큰 삭제
-            redisTokenService.deleteRefreshToken(account.getId());
+            Optional<TokenProvider.RefreshTokenClaims> parsed = Optional.ofNullable(refreshToken)
+                    .flatMap(tokenProvider::parseRefreshToken)
+                    .filter(claims -> claims.userId().equals(account.getId()));
+            if (parsed.isPresent()) {
+                redisTokenService.deleteRefreshToken(account.getId(), parsed.get().deviceId());
+            } else {
+                redisTokenService.deleteAllRefreshTokens(account.getId());
+            }
 
             // 리프레시 토큰 쿠키 삭제
-            Cookie cookie = new Cookie("refreshToken", "");
-            cookie.setHttpOnly(true);
-            cookie.setPath("/");
-            cookie.setMaxAge(0); // 즉시 만료
-            // 프로덕션 환경에서는 secure 플래그를 true로 설정해야 합니다
-            // cookie.setSecure(true);
-            response.addCookie(cookie);
+            response.addCookie(refreshTokenCookieFactory.expire());
 
             return ResponseEntity.ok(ApiResponse.success(null, "Logged out successfully"));
         }
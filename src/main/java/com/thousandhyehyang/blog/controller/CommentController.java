@@ -2,19 +2,21 @@ package com.thousandhyehyang.blog.controller;
 
 import com.thousandhyehyang.blog.common.ApiResponse;
 import com.thousandhyehyang.blog.dto.comment.CommentCreateRequest;
+import com.thousandhyehyang.blog.dto.comment.CommentPageResponse;
 import com.thousandhyehyang.blog.dto.comment.CommentResponse;
 import com.thousandhyehyang.blog.dto.comment.CommentUpdateRequest;
 import com.thousandhyehyang.blog.service.comment.CommentService;
+import com.thousandhyehyang.blog.service.comment.CommentStreamService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 댓글 컨트롤러
@@ -26,37 +28,66 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
     /**
      * 생성자를 통한 의존성 주입
      * 
      * @param commentService 댓글 서비스
+     * @param commentStreamService 실시간 댓글 스트림 서비스
      */
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, CommentStreamService commentStreamService) {
         this.commentService = commentService;
+        this.commentStreamService = commentStreamService;
     }
 
     /**
      * 댓글 조회 API
-     * 게시글의 댓글 목록을 조회합니다.
+     * 게시글의 댓글 목록을 페이지 단위로 조회합니다.
      * 
      * @param postId 게시글 ID
-     * @return 댓글 목록
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @return 댓글 페이지
      */
     @Operation(
             summary = "게시글의 댓글 목록 조회",
-            description = "게시글의 댓글 목록을 조회합니다. 최신 댓글이 먼저 표시됩니다."
+            description = "게시글의 댓글 목록을 20개씩 조회합니다. 최신 댓글이 먼저 표시되며, " +
+                    "다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다."
     )
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<ApiResponse<List<CommentResponse>>> getCommentsByPostId(
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getCommentsByPostId(
             @Parameter(description = "게시글 ID", required = true)
-            @PathVariable Long postId
+            @PathVariable Long postId,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor
     ) {
-        // 댓글 목록 조회 및 반환
-        List<CommentResponse> comments = commentService.getCommentsByPostId(postId);
+        // 댓글 페이지 조회 및 반환
+        CommentPageResponse comments = commentService.getCommentsByPostId(postId, cursor);
         return ResponseEntity.ok(new ApiResponse<>(comments));
     }
 
+    /**
+     * 실시간 댓글 스트림 API
+     * 게시글의 댓글 생성, 수정, 삭제 이벤트를 Server-Sent Events로 전달합니다.
+     * 
+     * @param postId 게시글 ID
+     * @return SSE 연결
+     */
+    @Operation(
+            summary = "실시간 댓글 스트림 구독",
+            description = "게시글의 댓글 변경을 Server-Sent Events로 받습니다. " +
+                    "이벤트 이름은 created, updated, deleted이며 15초마다 하트비트 주석이 전송됩니다. " +
+                    "연결이 끊기면 재연결 후 댓글 목록 첫 페이지를 다시 조회해야 합니다. " +
+                    "연결 수가 한도에 도달하면 503과 Retry-After 헤더를 반환합니다."
+    )
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @Parameter(description = "게시글 ID", required = true)
+            @PathVariable Long postId
+    ) {
+        return commentStreamService.subscribe(postId);
+    }
+
     /**
      * 댓글 생성 API
      * 게시글에 익명 댓글을 작성합니다.
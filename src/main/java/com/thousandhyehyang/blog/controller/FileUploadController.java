@@ -2,14 +2,17 @@ package com.thousandhyehyang.blog.controller;
 
 import com.thousandhyehyang.blog.common.ApiResponse;
 import com.thousandhyehyang.blog.dto.file.FileUploadResponse;
-import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.dto.file.PresignedUploadRequest;
+import com.thousandhyehyang.blog.dto.file.PresignedUploadResponse;
 import com.thousandhyehyang.blog.enums.UploadType;
 import com.thousandhyehyang.blog.service.file.FileUploadService;
+import com.thousandhyehyang.blog.service.file.PresignedUploadService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.core.io.ByteArrayResource;
+import jakarta.validation.Valid;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -23,9 +26,11 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileUploadController {
 
     private final FileUploadService fileUploadService;
+    private final PresignedUploadService presignedUploadService;
 
-    public FileUploadController(FileUploadService fileUploadService) {
+    public FileUploadController(FileUploadService fileUploadService, PresignedUploadService presignedUploadService) {
         this.fileUploadService = fileUploadService;
+        this.presignedUploadService = presignedUploadService;
     }
 
     @Operation(
@@ -72,6 +77,28 @@ public class FileUploadController {
         return ResponseEntity.ok(fileUploadService.upload(file, UploadType.DOCUMENT));
     }
 
+    @Operation(
+            summary = "사전 서명 업로드 URL 발급",
+            description = "R2로 직접 업로드할 수 있는 사전 서명 PUT URL을 발급합니다. " +
+                    "응답의 headers를 그대로 포함하여 업로드한 뒤 확인 API를 호출해야 파일이 등록됩니다."
+    )
+    @PostMapping("/presigned")
+    public ResponseEntity<ApiResponse<PresignedUploadResponse>> issuePresignedUpload(
+            @Valid @RequestBody PresignedUploadRequest request) {
+        return ResponseEntity.ok(new ApiResponse<>(presignedUploadService.issue(request)));
+    }
+
+    @Operation(
+            summary = "사전 서명 업로드 확인",
+            description = "R2에 업로드된 파일의 크기와 형식을 검증하고 파일을 등록합니다."
+    )
+    @PostMapping("/presigned/{uploadId}/confirm")
+    public ResponseEntity<ApiResponse<FileUploadResponse>> confirmPresignedUpload(
+            @Parameter(description = "발급 시 받은 업로드 ID", required = true)
+            @PathVariable String uploadId) {
+        return ResponseEntity.ok(presignedUploadService.confirm(uploadId));
+    }
+
     @Operation(
             summary = "파일 다운로드",
             description = "파일 ID로 파일을 다운로드합니다."
@@ -80,17 +107,15 @@ public class FileUploadController {
     public ResponseEntity<Resource> downloadFile(
             @Parameter(description = "다운로드할 파일의 ID", required = true)
             @PathVariable Long id) {
-        FileMetadata metadata = fileUploadService.getFileMetadata(id);
-        byte[] fileContent = fileUploadService.downloadFile(id);
-
-        ByteArrayResource resource = new ByteArrayResource(fileContent);
+        // 스토리지 객체를 메모리에 모두 읽지 않고 응답으로 바로 전달 (전송 후 스트림은 자동으로 닫힘)
+        FileUploadService.FileDownload download = fileUploadService.download(id);
 
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(metadata.getContentType()))
-                .contentLength(metadata.getFileSize())
+                .contentType(MediaType.parseMediaType(download.contentType()))
+                .contentLength(download.contentLength())
                 .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + metadata.getOriginalFilename() + "\"")
-                .body(resource);
+                        "attachment; filename=\"" + download.filename() + "\"")
+                .body(new InputStreamResource(download.content()));
     }
 
     @Operation(
@@ -1,21 +1,39 @@
 package com.thousandhyehyang.blog.controller;
 
 import com.thousandhyehyang.blog.common.ApiResponse;
+import com.thousandhyehyang.blog.dto.post.CategoryResponse;
+import com.thousandhyehyang.blog.dto.post.PopularPostResponse;
 import com.thousandhyehyang.blog.dto.post.PostCreateRequest;
 import com.thousandhyehyang.blog.dto.post.PostDetailResponse;
+import com.thousandhyehyang.blog.dto.post.PostPageResponse;
 import com.thousandhyehyang.blog.dto.post.PostSummaryResponse;
 import com.thousandhyehyang.blog.dto.post.PostUpdateRequest;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.service.post.CategoryStatsService;
+import com.thousandhyehyang.blog.service.post.PostDetailPayloadCache;
 import com.thousandhyehyang.blog.service.post.PostService;
+import com.thousandhyehyang.blog.service.post.PostViewService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 게시글 컨트롤러
@@ -29,14 +47,26 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostDetailPayloadCache postDetailPayloadCache;
+    private final PostViewService postViewService;
+    private final CategoryStatsService categoryStatsService;
 
     /**
      * 생성자를 통한 의존성 주입
      * 
      * @param postService 게시글 서비스
+     * @param postDetailPayloadCache 게시글 상세 응답 본문 캐시
+     * @param postViewService 게시글 조회수 서비스
+     * @param categoryStatsService 카테고리 통계 서비스
      */
-    public PostController(PostService postService) {
+    public PostController(PostService postService,
+                          PostDetailPayloadCache postDetailPayloadCache,
+                          PostViewService postViewService,
+                          CategoryStatsService categoryStatsService) {
         this.postService = postService;
+        this.postDetailPayloadCache = postDetailPayloadCache;
+        this.postViewService = postViewService;
+        this.categoryStatsService = categoryStatsService;
     }
 
     /**
@@ -69,15 +99,85 @@ public class PostController {
      */
     @Operation(
             summary = "최근 게시글 목록 조회",
-            description = "최근에 작성된 게시글을 조회합니다. limit 파라미터로 조회할 게시글 수를 지정할 수 있습니다."
+            description = "최근에 작성된 게시글을 조회합니다. limit 파라미터로 조회할 게시글 수를 지정할 수 있습니다. " +
+                    "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다."
     )
     @GetMapping
     public ResponseEntity<ApiResponse<List<PostSummaryResponse>>> getRecentPosts(
             @Parameter(description = "조회할 게시글 수 (기본값: 10)", example = "10")
-            @RequestParam(required = false, defaultValue = "10") int limit
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            WebRequest webRequest
     ) {
+        // 목록 버전으로 조건부 요청 확인 (변경이 없으면 목록을 조회하지 않고 304 반환)
+        // 댓글 수 변경은 수정 시각에 반영되지 않으므로 Last-Modified 없이 ETag만 사용
+        String eTag = listETag(limit, postService.getPostListVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         // 최근 게시글 목록 조회 및 반환
         List<PostSummaryResponse> posts = postService.getRecentPosts(limit);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(new ApiResponse<>(posts));
+    }
+
+    /**
+     * 카테고리별 게시글 목록 조회 API
+     * category 파라미터가 있는 경우 해당 카테고리의 공개 게시글을 최신순으로 조회합니다.
+     * 
+     * @param category 카테고리
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지이면 생략)
+     * @return 게시글 페이지
+     */
+    @Operation(
+            summary = "카테고리별 게시글 목록 조회",
+            description = "카테고리의 공개 게시글을 최신순으로 20개씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다."
+    )
+    @GetMapping(params = "category")
+    public ResponseEntity<ApiResponse<PostPageResponse>> getPostsByCategory(
+            @Parameter(description = "카테고리", required = true, example = "개발")
+            @RequestParam String category,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지이면 생략)")
+            @RequestParam(required = false) String cursor
+    ) {
+        PostPageResponse page = postService.getPostsByCategory(category, cursor);
+        return ResponseEntity.ok(new ApiResponse<>(page));
+    }
+
+    /**
+     * 카테고리 목록 조회 API
+     * 공개 게시글이 있는 카테고리와 게시글 수를 조회합니다.
+     * 
+     * @return 카테고리 목록
+     */
+    @Operation(
+            summary = "카테고리 목록 조회",
+            description = "공개 게시글이 있는 카테고리와 카테고리별 게시글 수를 이름순으로 조회합니다."
+    )
+    @GetMapping("/categories")
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategories() {
+        List<CategoryResponse> categories = categoryStatsService.getCategories();
+        return ResponseEntity.ok(new ApiResponse<>(categories));
+    }
+
+    /**
+     * 인기 게시글 목록 조회 API
+     * 조회수가 많은 공개 게시글을 조회합니다.
+     * 
+     * @param limit 조회할 게시글 수 (기본값: 10, 최대 50)
+     * @return 인기 게시글 목록
+     */
+    @Operation(
+            summary = "인기 게시글 목록 조회",
+            description = "조회수 순으로 공개 게시글을 조회합니다. 조회수는 일정 주기로 집계되어 반영되므로 약간의 지연이 있습니다."
+    )
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<PopularPostResponse>>> getPopularPosts(
+            @Parameter(description = "조회할 게시글 수 (기본값: 10, 최대 50)", example = "10")
+            @RequestParam(required = false, defaultValue = "10") int limit
+    ) {
+        List<PopularPostResponse> posts = postViewService.getPopularPosts(limit);
         return ResponseEntity.ok(new ApiResponse<>(posts));
     }
 
@@ -107,16 +207,40 @@ public class PostController {
      */
     @Operation(
             summary = "게시글 상세 조회",
-            description = "게시글 ID로 게시글 상세 정보를 조회합니다. 게시글과 연결된 파일 정보도 함께 제공됩니다."
+            description = "게시글 ID로 게시글 상세 정보를 조회합니다. 게시글과 연결된 파일 정보도 함께 제공됩니다. " +
+                    "공개 게시글은 ETag를 제공하며, If-None-Match로 보내면 변경이 없을 때 304를 반환합니다."
     )
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PostDetailResponse>> getPostDetail(
             @Parameter(description = "게시글 ID", required = true)
-            @PathVariable Long id
-    ) {
-        // 게시글 상세 정보 조회 및 반환
-        PostDetailResponse postDetail = postService.getPostDetail(id);
-        return ResponseEntity.ok(new ApiResponse<>(postDetail));
+            @PathVariable Long id,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) throws IOException {
+        // 버전 정보로 조건부 요청 확인 (변경이 없으면 본문을 조회하지 않고 304 반환)
+        // 임시저장 게시글이나 없는 게시글은 기존 조회 흐름에서 권한 확인과 404 처리
+        Optional<PostRepository.PostVersion> version = postService.findPublishedPostVersion(id);
+        if (version.isEmpty()) {
+            PostDetailResponse postDetail = postService.getPostDetail(id);
+            return ResponseEntity.ok(new ApiResponse<>(postDetail));
+        }
+
+        // 관련 게시글은 게시글 버전과 별도로 다시 계산되므로 ETag와 캐시 키에 목록 버전을 함께 포함
+        // 관련 게시글만 바뀐 경우 수정 시각은 그대로이므로, If-Modified-Since만 보낸 요청에 이전 목록으로 304를
+        // 반환하지 않도록 Last-Modified 없이 ETag만 사용
+        String contentVersion = version.get().getVersion() + "-r" + postService.getRelatedPostsVersion(id);
+        if (webRequest.checkNotModified(postETag(id, contentVersion))) {
+            return null;
+        }
+
+        // 공개 게시글 조회수 기록 (메모리 카운터에만 누적, 304 응답은 제외)
+        postViewService.recordView(id);
+
+        // 공개 게시글은 버전별로 직렬화/압축된 본문을 캐시하여 그대로 전송
+        PostDetailPayloadCache.Payload payload = postDetailPayloadCache.get(id, contentVersion,
+                () -> new ApiResponse<>(postService.getPostDetail(id)));
+        writePayload(payload, webRequest, response);
+        return null;
     }
 
     /**
@@ -163,4 +287,89 @@ public class PostController {
         postService.deletePost(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 캐시된 응답 본문 전송
+     * 클라이언트가 gzip을 지원하면 미리 압축된 본문을 그대로 보내고,
+     * Content-Encoding이 설정되어 있으므로 서버 압축이 다시 적용되지 않습니다.
+     */
+    private void writePayload(PostDetailPayloadCache.Payload payload, WebRequest webRequest,
+                              HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? payload.gzip() : payload.json();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인
+     * q 값이 0인 코딩은 거부로 보며, gzip이 명시되지 않았으면 와일드카드(*)의 q 값을 따릅니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Boolean wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            boolean accepted = qualityOf(parts) > 0;
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    /**
+     * Accept-Encoding 항목의 q 값 (없거나 해석할 수 없으면 1)
+     */
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 게시글 상세 ETag 생성 (게시글 ID와 @Version, 관련 게시글 목록 버전 기반)
+     * gzip 본문과 원본 본문은 바이트가 다르므로 강한 ETag를 공유할 수 없어 약한 ETag를 사용합니다.
+     * (If-None-Match는 약한 비교로 확인)
+     */
+    private String postETag(Long id, String contentVersion) {
+        return "W/\"post-" + id + "-v" + contentVersion + "\"";
+    }
+
+    /**
+     * 게시글 목록 ETag 생성 (조회 개수와 목록 버전 집계값 기반)
+     * 강한 ETag가 있는 응답은 Tomcat이 압축하지 않으므로 약한 ETag를 사용합니다. (If-None-Match는 약한 비교로 확인)
+     */
+    private String listETag(int limit, PostRepository.PostListVersion version) {
+        String source = limit + ":" + version.getPostCount() + ":" + toEpochMillis(version.getLastUpdatedAt())
+                + ":" + version.getCommentTotal() + ":" + version.getLastCommentId();
+        return "W/\"posts-" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -0,0 +1,67 @@
+package com.thousandhyehyang.blog.controller;
+
+import com.thousandhyehyang.blog.service.post.SiteFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 피드/사이트맵 컨트롤러
+ * 미리 생성된 Atom 피드와 사이트맵을 제공합니다. 요청마다 DB를 조회하지 않습니다.
+ */
+@RestController
+@Tag(name = "피드 API", description = "Atom 피드와 사이트맵 API")
+public class SiteFeedController {
+
+    private static final MediaType ATOM_XML = MediaType.parseMediaType("application/atom+xml;charset=UTF-8");
+    private static final MediaType XML = MediaType.parseMediaType("application/xml;charset=UTF-8");
+
+    private final SiteFeedService siteFeedService;
+
+    public SiteFeedController(SiteFeedService siteFeedService) {
+        this.siteFeedService = siteFeedService;
+    }
+
+    /**
+     * Atom 피드 조회 API
+     *
+     * @return 최신 공개 게시글 Atom 피드
+     */
+    @Operation(
+            summary = "Atom 피드",
+            description = "최신 공개 게시글의 Atom 피드를 조회합니다. ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다."
+    )
+    @GetMapping("/feed.xml")
+    public ResponseEntity<byte[]> getFeed(WebRequest webRequest) {
+        return respond(siteFeedService.getFeed(), ATOM_XML, webRequest);
+    }
+
+    /**
+     * 사이트맵 조회 API
+     *
+     * @return 공개 게시글 사이트맵
+     */
+    @Operation(
+            summary = "사이트맵",
+            description = "공개 게시글 전체의 사이트맵을 조회합니다. ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다."
+    )
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemap(WebRequest webRequest) {
+        return respond(siteFeedService.getSitemap(), XML, webRequest);
+    }
+
+    private ResponseEntity<byte[]> respond(SiteFeedService.XmlDocument document, MediaType mediaType, WebRequest webRequest) {
+        if (webRequest.checkNotModified(document.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(CacheControl.noCache())
+                .body(document.body());
+    }
+}
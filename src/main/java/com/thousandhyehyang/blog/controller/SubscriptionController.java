@@ -1,5 +1,6 @@
 package com.thousandhyehyang.blog.controller;
 
+import com.thousandhyehyang.blog.dto.subscription.DeliveryModeRequest;
 import com.thousandhyehyang.blog.dto.subscription.SubscriptionRequest;
 import com.thousandhyehyang.blog.dto.subscription.SubscriptionResponse;
 import com.thousandhyehyang.blog.service.subscription.SubscriptionService;
@@ -21,14 +22,22 @@ public class SubscriptionController {
     @Operation(summary = "구독하기", description = "이메일을 통해 블로그 구독을 신청합니다.")
     @PostMapping
     public ResponseEntity<SubscriptionResponse> subscribe(@Valid @RequestBody SubscriptionRequest request) {
-        subscriptionService.subscribe(request.getEmail());
-        return ResponseEntity.ok(new SubscriptionResponse("구독이 완료되었습니다."));
+        boolean subscribed = subscriptionService.subscribe(request.getEmail(), request.getDeliveryMode());
+        return ResponseEntity.ok(new SubscriptionResponse(subscribed ? "구독이 완료되었습니다." : "이미 구독 중인 이메일입니다."));
+    }
+
+    @Operation(summary = "발송 방식 변경", description = "새 글 알림을 즉시 받을지, 일간/주간으로 모아 받을지 변경합니다.")
+    @PatchMapping("/{email}/delivery-mode")
+    public ResponseEntity<SubscriptionResponse> updateDeliveryMode(@PathVariable String email,
+                                                                   @Valid @RequestBody DeliveryModeRequest request) {
+        subscriptionService.updateDeliveryMode(email, request.getDeliveryMode());
+        return ResponseEntity.ok(new SubscriptionResponse("발송 방식이 변경되었습니다."));
     }
 
     @Operation(summary = "구독 취소", description = "이메일을 통해 블로그 구독을 취소합니다.")
     @DeleteMapping("/{email}")
     public ResponseEntity<SubscriptionResponse> unsubscribe(@PathVariable String email) {
-        subscriptionService.unsubscribe(email);
-        return ResponseEntity.ok(new SubscriptionResponse("구독이 해지되었습니다."));
+        boolean unsubscribed = subscriptionService.unsubscribe(email);
+        return ResponseEntity.ok(new SubscriptionResponse(unsubscribed ? "구독이 해지되었습니다." : "이미 구독이 해지된 이메일입니다."));
     }
 }
\ No newline at end of file
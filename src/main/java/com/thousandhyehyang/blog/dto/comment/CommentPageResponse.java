@@ -0,0 +1,21 @@
+package com.thousandhyehyang.blog.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "댓글 페이지 응답")
+public record CommentPageResponse(
+        @Schema(description = "댓글 목록 (최신순)")
+        List<CommentResponse> comments,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지이면 null)", example = "MjAyNS0wMS0wMVQxMjowMDoxMHwxMjM")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "게시글의 전체 댓글 수", example = "42")
+        long totalCount
+) {
+}
@@ -1,5 +1,7 @@
 package com.thousandhyehyang.blog.dto.comment;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.thousandhyehyang.blog.entity.Comment;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -26,7 +28,13 @@ public class CommentResponse {
     @Schema(description = "생성 시간", example = "2023-01-01T12:00:00")
     private final LocalDateTime createdAt;
 
-    public CommentResponse(Long id, String nickname, String content, String emoji, String bgColor, LocalDateTime createdAt) {
+    @JsonCreator
+    public CommentResponse(@JsonProperty("id") Long id,
+                           @JsonProperty("nickname") String nickname,
+                           @JsonProperty("content") String content,
+                           @JsonProperty("emoji") String emoji,
+                           @JsonProperty("bgColor") String bgColor,
+                           @JsonProperty("createdAt") LocalDateTime createdAt) {
         this.id = id;
         this.nickname = nickname;
         this.content = content;
@@ -0,0 +1,20 @@
+package com.thousandhyehyang.blog.dto.comment;
+
+import com.thousandhyehyang.blog.enums.CommentEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "실시간 댓글 스트림 이벤트")
+public record CommentStreamEvent(
+        @Schema(description = "게시글 ID", example = "1")
+        Long postId,
+
+        @Schema(description = "이벤트 종류 (CREATED, UPDATED, DELETED)", example = "CREATED")
+        CommentEventType type,
+
+        @Schema(description = "댓글 ID", example = "1")
+        Long commentId,
+
+        @Schema(description = "댓글 정보 (삭제 이벤트에서는 null)")
+        CommentResponse comment
+) {
+}
@@ -0,0 +1,30 @@
+package com.thousandhyehyang.blog.dto.file;
+
+import com.thousandhyehyang.blog.enums.UploadType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "사전 서명 업로드 URL 발급 요청")
+public record PresignedUploadRequest(
+        @Schema(description = "원본 파일명", example = "video.mp4")
+        @NotBlank(message = "파일명은 필수 입력값입니다.")
+        @Size(max = 255, message = "파일명은 255자 이하로 입력해주세요.")
+        String filename,
+
+        @Schema(description = "파일 MIME 타입", example = "video/mp4")
+        @NotBlank(message = "MIME 타입은 필수 입력값입니다.")
+        String contentType,
+
+        @Schema(description = "파일 크기 (바이트)", example = "10485760")
+        @NotNull(message = "파일 크기는 필수 입력값입니다.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        Long size,
+
+        @Schema(description = "업로드 타입 (THUMBNAIL, EDITOR_IMAGE, EDITOR_VIDEO, DOCUMENT)", example = "EDITOR_VIDEO")
+        @NotNull(message = "업로드 타입은 필수 입력값입니다.")
+        UploadType type
+) {
+}
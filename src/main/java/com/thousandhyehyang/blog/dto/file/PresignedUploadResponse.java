@@ -0,0 +1,22 @@
+package com.thousandhyehyang.blog.dto.file;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Schema(description = "사전 서명 업로드 URL 발급 응답")
+public record PresignedUploadResponse(
+        @Schema(description = "업로드 확인 시 사용할 업로드 ID", example = "5f1c2a4e-8d3b-4c1e-9a7f-2b6d0e4c8a91")
+        String uploadId,
+
+        @Schema(description = "PUT 요청을 보낼 사전 서명 URL")
+        String uploadUrl,
+
+        @Schema(description = "PUT 요청에 그대로 포함해야 하는 헤더 (Content-Type, Content-Length)")
+        Map<String, String> headers,
+
+        @Schema(description = "사전 서명 URL 만료 시각")
+        Instant expiresAt
+) {
+}
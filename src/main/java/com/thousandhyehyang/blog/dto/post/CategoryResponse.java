@@ -0,0 +1,17 @@
+package com.thousandhyehyang.blog.dto.post;
+
+import com.thousandhyehyang.blog.entity.CategoryStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "카테고리 응답")
+public record CategoryResponse(
+        @Schema(description = "카테고리 이름", example = "개발")
+        String name,
+
+        @Schema(description = "공개 게시글 수", example = "12")
+        long postCount
+) {
+    public static CategoryResponse from(CategoryStats stats) {
+        return new CategoryResponse(stats.getCategory(), stats.getPostCount());
+    }
+}
@@ -0,0 +1,29 @@
+package com.thousandhyehyang.blog.dto.post;
+
+import com.thousandhyehyang.blog.repository.PostStatsRepository;
+
+import java.time.LocalDateTime;
+
+public record PopularPostResponse(
+        Long id,
+        String title,
+        String category,
+        String content,
+        LocalDateTime createdAt,
+        String thumbnailUrl,
+        long commentCount,
+        long viewCount
+) {
+    public static PopularPostResponse from(PostStatsRepository.PopularPost post) {
+        return new PopularPostResponse(
+                post.getId(),
+                post.getTitle(),
+                post.getCategory(),
+                post.getContent(),
+                post.getCreatedAt(),
+                post.getThumbnailUrl(),
+                post.getCommentCount() == null ? 0 : post.getCommentCount(),
+                post.getViewCount() == null ? 0 : post.getViewCount()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.thousandhyehyang.blog.dto.post;
 
 import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.entity.ImageVariant;
 import com.thousandhyehyang.blog.entity.Post;
 import com.thousandhyehyang.blog.entity.PostFileMapping;
 
@@ -20,28 +21,36 @@ public record PostDetailResponse(
         List<String> tags,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        Map<String, List<FileInfo>> attachments
+        Map<String, List<FileInfo>> attachments,
+        List<RelatedPostResponse> relatedPosts
 ) {
     /**
-     * Post 엔티티와 파일 매핑으로부터 PostDetailResponse 생성
+     * Post 엔티티와 파일 매핑으로부터 PostDetailResponse 생성 (관련 게시글 제외)
      *
      * @param post         게시글 엔티티
      * @param fileMappings 게시글의 파일 매핑
      * @return PostDetailResponse
      */
     public static PostDetailResponse from(Post post, List<PostFileMapping> fileMappings) {
+        return from(post, fileMappings, List.of());
+    }
+
+    /**
+     * Post 엔티티와 파일 매핑, 관련 게시글로부터 PostDetailResponse 생성
+     *
+     * @param post         게시글 엔티티
+     * @param fileMappings 게시글의 파일 매핑
+     * @param relatedPosts 미리 계산된 관련 게시글
+     * @return PostDetailResponse
+     */
+    public static PostDetailResponse from(Post post, List<PostFileMapping> fileMappings,
+                                          List<RelatedPostResponse> relatedPosts) {
         // 참조 유형별로 파일 매핑 그룹화
         Map<String, List<FileInfo>> attachments = fileMappings.stream()
                 .collect(Collectors.groupingBy(
                         PostFileMapping::getReferenceType,
                         Collectors.mapping(
-                                mapping -> new FileInfo(
-                                        mapping.getFile().getId(),
-                                        mapping.getFile().getPublicUrl(),
-                                        mapping.getFile().getOriginalFilename(),
-                                        mapping.getFile().getContentType(),
-                                        mapping.getFile().getFileSize()
-                                ),
+                                mapping -> FileInfo.from(mapping.getFile()),
                                 Collectors.toList()
                         )
                 ));
@@ -57,19 +66,55 @@ public record PostDetailResponse(
                 post.getTags(),
                 post.getCreatedAt(),
                 post.getUpdatedAt(),
-                attachments
+                attachments,
+                relatedPosts
         );
     }
 
     /**
      * 파일 첨부 정보
+     * 이미지인 경우 너비 오름차순의 파생본 목록을 함께 제공합니다 (srcset 구성용).
      */
     public record FileInfo(
             Long id,
             String url,
             String filename,
             String contentType,
+            Long fileSize,
+            List<VariantInfo> variants
+    ) {
+        public static FileInfo from(FileMetadata file) {
+            return new FileInfo(
+                    file.getId(),
+                    file.getPublicUrl(),
+                    file.getOriginalFilename(),
+                    file.getContentType(),
+                    file.getFileSize(),
+                    file.getVariants().stream()
+                            .map(VariantInfo::from)
+                            .toList()
+            );
+        }
+    }
+
+    /**
+     * 이미지 파생본 정보
+     */
+    public record VariantInfo(
+            String url,
+            Integer width,
+            Integer height,
+            String contentType,
             Long fileSize
     ) {
+        public static VariantInfo from(ImageVariant variant) {
+            return new VariantInfo(
+                    variant.getPublicUrl(),
+                    variant.getWidth(),
+                    variant.getHeight(),
+                    variant.getContentType(),
+                    variant.getFileSize()
+            );
+        }
     }
 }
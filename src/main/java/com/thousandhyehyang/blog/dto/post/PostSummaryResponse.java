@@ -11,7 +11,8 @@ public record PostSummaryResponse(
         String content,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        String thumbnailUrl
+        String thumbnailUrl,
+        long commentCount
 ) {
     public static PostSummaryResponse from(Post post) {
         return new PostSummaryResponse(
@@ -21,7 +22,8 @@ public record PostSummaryResponse(
                 post.getContent(),
                 post.getCreatedAt(),
                 post.getUpdatedAt(),
-                post.getThumbnailUrl()
+                post.getThumbnailUrl(),
+                post.getCommentCount()
         );
     }
 }
@@ -0,0 +1,9 @@
+package com.thousandhyehyang.blog.dto.post;
+
+public record RelatedPostResponse(
+        Long id,
+        String title,
+        String category,
+        String thumbnailUrl
+) {
+}
@@ -0,0 +1,14 @@
+package com.thousandhyehyang.blog.dto.subscription;
+
+import com.thousandhyehyang.blog.enums.DeliveryMode;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class DeliveryModeRequest {
+
+    @NotNull(message = "발송 방식은 필수 입력값입니다.")
+    private DeliveryMode deliveryMode;
+}
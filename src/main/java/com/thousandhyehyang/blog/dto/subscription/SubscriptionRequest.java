@@ -1,5 +1,6 @@
 package com.thousandhyehyang.blog.dto.subscription;
 
+import com.thousandhyehyang.blog.enums.DeliveryMode;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
@@ -12,4 +13,7 @@ public class SubscriptionRequest {
     @NotBlank(message = "이메일은 필수 입력값입니다.")
     @Email(message = "유효한 이메일 주소를 입력해주세요.")
     private String email;
+
+    // 발송 방식 (생략 시 새 글 발행 즉시 발송)
+    private DeliveryMode deliveryMode;
 }
\ No newline at end of file
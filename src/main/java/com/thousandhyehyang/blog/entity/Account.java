@@ -1,6 +1,8 @@
 package com.thousandhyehyang.blog.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,9 +12,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @Entity
 @Table(name = "accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accounts")
 public class Account extends BaseEntity implements UserDetails, OAuth2User {
 
     @Id
@@ -140,10 +145,14 @@ public class Account extends BaseEntity implements UserDetails, OAuth2User {
         return this.role == Role.ADMIN;
     }
 
-    // 프로필 정보 업데이트
-    public void updateProfile(String name, String profileImage) {
+    // 프로필 정보 업데이트 (변경된 값이 있을 때만 true 반환)
+    public boolean updateProfile(String name, String profileImage) {
+        if (Objects.equals(this.name, name) && Objects.equals(this.profileImage, profileImage)) {
+            return false;
+        }
         this.name = name;
         this.profileImage = profileImage;
+        return true;
     }
 
     // 닉네임 업데이트
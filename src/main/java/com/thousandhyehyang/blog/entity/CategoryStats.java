@@ -0,0 +1,42 @@
+package com.thousandhyehyang.blog.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리 통계
+ * 카테고리별 공개 게시글 수를 게시글 생성/수정/삭제 시 증감으로 유지합니다.
+ * 카테고리 목록 조회 시 posts 테이블을 GROUP BY로 집계하지 않기 위한 테이블입니다.
+ */
+@Entity
+@Table(name = "category_stats")
+public class CategoryStats {
+
+    @Id
+    @Column(name = "category", length = 50)
+    private String category;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    // 증감은 네이티브 UPSERT로만 이루어지므로 감사(Auditing) 대신 직접 기록
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JPA용 기본 생성자
+    protected CategoryStats() {
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
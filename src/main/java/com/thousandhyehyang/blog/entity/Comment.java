@@ -3,7 +3,10 @@ package com.thousandhyehyang.blog.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글별 댓글 키셋 페이지네이션 (created_at DESC, id DESC) 조회용
+        @Index(name = "idx_comments_post_created_id", columnList = "post_id, created_at, id")
+})
 public class Comment extends BaseEntity {
 
     @Id
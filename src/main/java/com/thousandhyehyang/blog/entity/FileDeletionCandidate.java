@@ -0,0 +1,37 @@
+package com.thousandhyehyang.blog.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 파일 삭제 후보 (툼스톤)
+ * 게시글 삭제로 더 이상 어떤 게시글에도 연결되지 않게 된 파일을 기록합니다.
+ * 실제 삭제는 FileCleanupService가 큐를 비우면서 고아 여부를 다시 확인한 뒤 처리합니다.
+ */
+@Entity
+@Table(name = "file_deletion_candidates")
+public class FileDeletionCandidate extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 같은 파일이 여러 번 등록되지 않도록 유니크 제약 (INSERT IGNORE 대상)
+    @Column(name = "file_id", nullable = false, unique = true)
+    private Long fileId;
+
+    // JPA용 기본 생성자
+    protected FileDeletionCandidate() {
+    }
+
+    public FileDeletionCandidate(Long fileId) {
+        this.fileId = fileId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFileId() {
+        return fileId;
+    }
+}
@@ -2,9 +2,20 @@ package com.thousandhyehyang.blog.entity;
 
 import com.thousandhyehyang.blog.enums.UploadType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+import java.util.ArrayList;
+import java.util.List;
+
+// 메타데이터 행은 저장 후 수정되지 않으므로 읽기 전용 캐시 사용 (파생본은 별도 컬렉션 영역)
 @Entity
 @Table(name = "file_metadata")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "file_metadata")
+@NaturalIdCache(region = "file_metadata_public_url")
 public class FileMetadata extends BaseEntity {
 
     @Id
@@ -27,6 +38,7 @@ public class FileMetadata extends BaseEntity {
     @Column(nullable = false)
     private UploadType uploadType;
 
+    @NaturalId
     @Column(nullable = false)
     private String publicUrl;
 
@@ -37,6 +49,13 @@ public class FileMetadata extends BaseEntity {
     @Column
     private Long previousVersionId;
 
+    // 이미지 파생본 (업로드 후 비동기로 생성됨)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "file_variants", joinColumns = @JoinColumn(name = "file_id"))
+    @OrderBy("width ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "file_metadata_variants")
+    private List<ImageVariant> variants = new ArrayList<>();
+
     // JPA용 기본 생성자
     protected FileMetadata() {
     }
@@ -96,4 +115,12 @@ public class FileMetadata extends BaseEntity {
     public void setPreviousVersionId(Long previousVersionId) {
         this.previousVersionId = previousVersionId;
     }
+
+    public List<ImageVariant> getVariants() {
+        return variants;
+    }
+
+    public void addVariants(List<ImageVariant> variants) {
+        this.variants.addAll(variants);
+    }
 }
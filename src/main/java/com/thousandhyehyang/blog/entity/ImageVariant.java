@@ -0,0 +1,68 @@
+package com.thousandhyehyang.blog.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * 이미지 파생본 (반응형 너비별 리사이즈 또는 압축본)
+ * 원본 FileMetadata에 종속되며 file_variants 테이블에 저장됩니다.
+ */
+@Embeddable
+public class ImageVariant {
+
+    @Column(nullable = false)
+    private Integer width;
+
+    @Column(nullable = false)
+    private Integer height;
+
+    @Column(nullable = false)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private String publicUrl;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    // JPA용 기본 생성자
+    protected ImageVariant() {
+    }
+
+    public ImageVariant(Integer width, Integer height, String storageKey, String publicUrl,
+                        String contentType, Long fileSize) {
+        this.width = width;
+        this.height = height;
+        this.storageKey = storageKey;
+        this.publicUrl = publicUrl;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+
+    public String getPublicUrl() {
+        return publicUrl;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+}
@@ -0,0 +1,125 @@
+package com.thousandhyehyang.blog.entity;
+
+import com.thousandhyehyang.blog.enums.JobRunStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 이력
+ * 분산 락을 획득한 노드가 작업을 실행할 때마다 한 건씩 기록됩니다.
+ * 펜싱 토큰은 락 획득 시 단조 증가하는 값으로, 더 큰 토큰의 실행이 있으면 이전 실행은 쓰기를 중단합니다.
+ */
+@Entity
+@Table(name = "job_runs", indexes = {
+        @Index(name = "idx_job_runs_lock_name_token", columnList = "lock_name, fencing_token"),
+        @Index(name = "idx_job_runs_started_at", columnList = "started_at")
+})
+public class JobRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 작업 이름 (예: "file-cleanup.orphan-scan")
+    @Column(nullable = false)
+    private String jobName;
+
+    // 락 이름 (샤드 단위로 나뉜 경우 샤드 번호 포함)
+    @Column(name = "lock_name", nullable = false)
+    private String lockName;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+
+    @Column(nullable = false)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobRunStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // 처리한 항목 수
+    private Integer processedCount;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    // JPA용 기본 생성자
+    protected JobRun() {
+    }
+
+    public JobRun(String jobName, String lockName, Long fencingToken, String nodeId) {
+        this.jobName = jobName;
+        this.lockName = lockName;
+        this.fencingToken = fencingToken;
+        this.nodeId = nodeId;
+        this.status = JobRunStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 정상 종료 기록
+     */
+    public void succeed(int processedCount) {
+        this.status = JobRunStatus.SUCCEEDED;
+        this.processedCount = processedCount;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 종료 기록
+     */
+    public void fail(String errorMessage) {
+        this.status = JobRunStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getLockName() {
+        return lockName;
+    }
+
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public JobRunStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Integer getProcessedCount() {
+        return processedCount;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -1,14 +1,20 @@
 package com.thousandhyehyang.blog.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 카테고리별 공개 게시글 키셋 페이지네이션 (created_at DESC, id DESC) 조회용
+        @Index(name = "idx_posts_category_listing", columnList = "category, draft, deleted, created_at, id")
+})
 @SQLDelete(sql = "UPDATE posts SET deleted = true WHERE id = ?")
 @Where(clause = "deleted = false")
 public class Post extends BaseEntity {
@@ -34,6 +40,10 @@ public class Post extends BaseEntity {
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String html;
 
+    // 이메일 알림용 본문 앞부분 HTML. 저장 시 한 번만 계산하여 발송 시 본문 전체를 파싱하지 않도록 함
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String excerptHtml;
+
     @Column
     private String thumbnailUrl;
 
@@ -46,7 +56,18 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private boolean draft = false;
 
+    // 처음 공개된 시각 (임시저장 글은 공개 전환 시 기록). 뉴스레터 다이제스트 발송 구간의 기준
+    @Column
+    private LocalDateTime publishedAt;
+
+    // 댓글 수 (비정규화). 댓글 생성/삭제 시 벌크 UPDATE로만 증감하며,
+    // 게시글 수정 시 오래된 값으로 덮어쓰지 않도록 엔티티 UPDATE에서는 제외
+    @Column(nullable = false, updatable = false)
+    private long commentCount = 0;
+
+    // 태그 ID 목록만 캐시하며, 태그 엔티티는 post_tags 영역에서 조회
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "posts_tags")
     private List<PostTag> postTags = new ArrayList<>();
 
     protected Post() {
@@ -63,7 +84,7 @@ public class Post extends BaseEntity {
         this.html = html;
         this.thumbnailUrl = thumbnailUrl;
         this.author = author;
-        this.draft = draft;
+        changeDraft(draft);
     }
 
     /**
@@ -97,6 +118,19 @@ public class Post extends BaseEntity {
         return html;
     }
 
+    public String getExcerptHtml() {
+        return excerptHtml;
+    }
+
+    /**
+     * 이메일 알림용 본문 앞부분 HTML 갱신
+     *
+     * @param excerptHtml 본문 앞부분 HTML
+     */
+    public void updateExcerptHtml(String excerptHtml) {
+        this.excerptHtml = excerptHtml;
+    }
+
     public String getThumbnailUrl() {
         return thumbnailUrl;
     }
@@ -111,6 +145,10 @@ public class Post extends BaseEntity {
                 .toList();
     }
 
+    public long getCommentCount() {
+        return commentCount;
+    }
+
     public boolean isDeleted() {
         return deleted;
     }
@@ -124,7 +162,11 @@ public class Post extends BaseEntity {
     }
 
     public void setDraft(boolean draft) {
-        this.draft = draft;
+        changeDraft(draft);
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
     }
 
     /**
@@ -165,7 +207,18 @@ public class Post extends BaseEntity {
         }
         this.thumbnailUrl = thumbnailUrl; // thumbnailUrl can be null
         if (draft != null) {
-            this.draft = draft;
+            changeDraft(draft);
+        }
+    }
+
+    /**
+     * 임시저장 상태 변경
+     * 처음 공개되는 시점에만 공개 시각을 기록하며, 다시 임시저장으로 돌렸다가 공개해도 유지합니다.
+     */
+    private void changeDraft(boolean draft) {
+        this.draft = draft;
+        if (!draft && this.publishedAt == null) {
+            this.publishedAt = LocalDateTime.now();
         }
     }
 
@@ -3,7 +3,9 @@ package com.thousandhyehyang.blog.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "post_file_mappings")
+@Table(name = "post_file_mappings", indexes = {
+        @Index(name = "idx_post_file_mappings_file_id", columnList = "file_id")
+})
 public class PostFileMapping extends BaseEntity {
 
     @Id
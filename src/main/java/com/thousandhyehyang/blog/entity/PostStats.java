@@ -0,0 +1,44 @@
+package com.thousandhyehyang.blog.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 통계 (조회수 집계)
+ * 조회수는 PostViewService가 메모리와 Redis에 모아 두었다가 주기적으로 증분만 반영합니다.
+ * 게시글 행을 잠그지 않도록 posts 테이블과 분리하여 보관합니다.
+ */
+@Entity
+@Table(name = "post_stats", indexes = {
+        @Index(name = "idx_post_stats_view_count", columnList = "view_count")
+})
+public class PostStats {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    // 집계 반영은 네이티브 UPSERT로만 이루어지므로 감사(Auditing) 대신 직접 기록
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JPA용 기본 생성자
+    protected PostStats() {
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
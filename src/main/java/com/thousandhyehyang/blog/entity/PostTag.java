@@ -1,9 +1,13 @@
 package com.thousandhyehyang.blog.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "post_tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post_tags")
 public class PostTag extends BaseEntity {
 
     @Id
@@ -1,5 +1,6 @@
 package com.thousandhyehyang.blog.entity;
 
+import com.thousandhyehyang.blog.enums.DeliveryMode;
 import com.thousandhyehyang.blog.enums.SubscriptionStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -32,12 +33,23 @@ public class Subscriber extends BaseEntity {
     @Column(nullable = false)
     private SubscriptionStatus status;
 
+    // 알림 발송 방식 (기존 구독자는 즉시 발송)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, columnDefinition = "varchar(20) default 'INSTANT'")
+    @Builder.Default
+    private DeliveryMode deliveryMode = DeliveryMode.INSTANT;
+
     public Subscriber(String email) {
         this.email = email;
         this.status = SubscriptionStatus.SUBSCRIBED;
+        this.deliveryMode = DeliveryMode.INSTANT;
     }
 
     public void updateStatus(SubscriptionStatus status) {
         this.status = status;
     }
+
+    public void updateDeliveryMode(DeliveryMode deliveryMode) {
+        this.deliveryMode = deliveryMode;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.thousandhyehyang.blog.enums;
+
+public enum CommentEventType {
+    CREATED,    // 댓글 생성
+    UPDATED,    // 댓글 수정
+    DELETED     // 댓글 삭제
+}
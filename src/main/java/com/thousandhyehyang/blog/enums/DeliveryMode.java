@@ -0,0 +1,7 @@
+package com.thousandhyehyang.blog.enums;
+
+public enum DeliveryMode {
+    INSTANT, // 새 글 발행 시 바로 발송
+    DAILY,   // 하루 동안의 새 글을 모아 매일 발송
+    WEEKLY   // 한 주 동안의 새 글을 모아 매주 발송
+}
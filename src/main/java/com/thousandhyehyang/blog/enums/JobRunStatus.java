@@ -0,0 +1,7 @@
+package com.thousandhyehyang.blog.enums;
+
+public enum JobRunStatus {
+    RUNNING,    // 실행 중
+    SUCCEEDED,  // 정상 종료
+    FAILED      // 오류로 종료 (락 상실 포함)
+}
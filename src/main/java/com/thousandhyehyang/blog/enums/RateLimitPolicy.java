@@ -0,0 +1,35 @@
+package com.thousandhyehyang.blog.enums;
+
+import java.time.Duration;
+
+/**
+ * 요청 속도 제한 정책 (토큰 버킷)
+ * capacity만큼 연속 요청을 허용하고, refillInterval마다 토큰이 하나씩 다시 채워집니다.
+ */
+public enum RateLimitPolicy {
+    COMMENT_CREATE_IP("comment_ip", 5, Duration.ofSeconds(12)),          // IP당 댓글 작성: 연속 5회, 이후 분당 5회
+    SUBSCRIPTION_IP("subscription_ip", 3, Duration.ofMinutes(1)),        // IP당 구독 신청: 연속 3회, 이후 분당 1회
+    SUBSCRIPTION_EMAIL("subscription_email", 2, Duration.ofMinutes(30)); // 이메일당 구독 신청: 연속 2회, 이후 30분당 1회
+
+    private final String keyPrefix;
+    private final int capacity;
+    private final Duration refillInterval;
+
+    RateLimitPolicy(String keyPrefix, int capacity, Duration refillInterval) {
+        this.keyPrefix = keyPrefix;
+        this.capacity = capacity;
+        this.refillInterval = refillInterval;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Duration getRefillInterval() {
+        return refillInterval;
+    }
+}
@@ -0,0 +1,14 @@
+package com.thousandhyehyang.blog.exception;
+
+/**
+ * 실시간 댓글 스트림 구독 수가 한도에 도달했을 때 발생하는 예외
+ */
+public class CommentStreamLimitExceededException extends RuntimeException {
+
+    // 클라이언트 재연결 대기 시간 (초)
+    public static final long RETRY_AFTER_SECONDS = 30;
+
+    public CommentStreamLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +0,0 @@
-package com.thousandhyehyang.blog.exception;
-
-public class DuplicateSubscriptionException extends RuntimeException {
-    public DuplicateSubscriptionException(String message) {
-        super(message);
-    }
-} 
\ No newline at end of file
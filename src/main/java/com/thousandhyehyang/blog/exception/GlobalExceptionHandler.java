@@ -4,6 +4,8 @@ import com.thousandhyehyang.blog.common.ApiErrorResponse;
 import com.thousandhyehyang.blog.common.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -52,6 +54,18 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * 동시 수정으로 낙관적 락 검증에 실패한 경우 예외 처리
+     * 같은 게시글을 동시에 수정하면 나중에 커밋한 요청이 버전 충돌로 실패하므로 500 대신 409를 반환합니다.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("동시 수정 충돌: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ApiErrorResponse.of(ErrorCode.CONCURRENT_MODIFICATION, ErrorCode.CONCURRENT_MODIFICATION.getDefaultMessage())
+        );
+    }
+
     /**
      * 인증되지 않은 사용자의 접근 시 예외 처리
      */
@@ -91,14 +105,33 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 이메일 중복 구독 시 예외 처리
+     * 페이지네이션 커서 해석 실패 시 예외 처리
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity.badRequest().body(
+                ApiErrorResponse.of(ErrorCode.INVALID_CURSOR, ex.getMessage())
+        );
+    }
+
+    /**
+     * 요청 속도 제한 초과 시 예외 처리
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
+    /**
+     * 실시간 댓글 스트림 구독 수 초과 시 예외 처리
      */
-    @ExceptionHandler(DuplicateSubscriptionException.class)
-    public ResponseEntity<ApiErrorResponse> handleDuplicateSubscriptionException(DuplicateSubscriptionException e) {
-        log.error("Duplicate subscription: {}", e.getMessage());
-        return ResponseEntity
-                .status(ErrorCode.DUPLICATE_SUBSCRIPTION.getStatus())
-                .body(ApiErrorResponse.of(ErrorCode.DUPLICATE_SUBSCRIPTION, e.getMessage()));
+    @ExceptionHandler(CommentStreamLimitExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleCommentStreamLimitExceeded(CommentStreamLimitExceededException ex) {
+        return ResponseEntity.status(ErrorCode.STREAM_LIMIT_EXCEEDED.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(CommentStreamLimitExceededException.RETRY_AFTER_SECONDS))
+                .body(ApiErrorResponse.of(ErrorCode.STREAM_LIMIT_EXCEEDED, ex.getMessage()));
     }
 
     /**
@@ -0,0 +1,11 @@
+package com.thousandhyehyang.blog.exception;
+
+/**
+ * 페이지네이션 커서를 해석할 수 없을 때 발생하는 예외
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.thousandhyehyang.blog.exception;
+
+public class JobLeaseLostException extends RuntimeException {
+    public JobLeaseLostException(String lockName, long fencingToken) {
+        super("작업 락을 잃었습니다: 락=" + lockName + ", 펜싱_토큰=" + fencingToken);
+    }
+}
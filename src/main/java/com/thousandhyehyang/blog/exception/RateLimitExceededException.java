@@ -0,0 +1,18 @@
+package com.thousandhyehyang.blog.exception;
+
+/**
+ * 요청 속도 제한을 초과했을 때 발생하는 예외
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,55 @@
+package com.thousandhyehyang.blog.repository;
+
+import com.thousandhyehyang.blog.entity.CategoryStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, String> {
+
+    /**
+     * 게시글이 있는 카테고리 목록 조회 (이름순)
+     *
+     * @param minCount 최소 게시글 수 (이 값보다 많은 카테고리만 조회)
+     * @return 카테고리 통계 목록
+     */
+    List<CategoryStats> findByPostCountGreaterThanOrderByCategoryAsc(long minCount);
+
+    /**
+     * 카테고리 게시글 수 증감
+     * 행이 없으면 생성하고, 있으면 DB에서 원자적으로 더합니다.
+     *
+     * @param category 카테고리
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_stats"))
+    @Modifying
+    @Query(value = "INSERT INTO category_stats (category, post_count, updated_at) VALUES (:category, :delta, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count), updated_at = NOW()",
+           nativeQuery = true)
+    int addPostCount(@Param("category") String category, @Param("delta") long delta);
+
+    /**
+     * 공개 게시글 기준으로 카테고리 통계 전체 재계산
+     * 통계 테이블이 비어 있는 최초 배포 시에만 사용합니다.
+     *
+     * @return 변경된 행 수
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_stats"))
+    @Modifying
+    @Query(value = "INSERT INTO category_stats (category, post_count, updated_at) " +
+                   "SELECT p.category, COUNT(*), NOW() FROM posts p " +
+                   "WHERE p.draft = false AND p.deleted = false GROUP BY p.category " +
+                   "ON DUPLICATE KEY UPDATE post_count = VALUES(post_count), updated_at = NOW()",
+           nativeQuery = true)
+    int rebuildFromPosts();
+}
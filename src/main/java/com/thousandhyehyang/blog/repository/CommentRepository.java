@@ -2,13 +2,70 @@ package com.thousandhyehyang.blog.repository;
 
 import com.thousandhyehyang.blog.entity.Comment;
 import com.thousandhyehyang.blog.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPostOrderByCreatedAtDesc(Post post);
     List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 게시글의 최신 댓글 첫 페이지 조회
+     *
+     * @param postId 게시글 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 최신순 댓글 목록
+     */
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 커서 이후의 댓글 페이지 조회
+     * (created_at, id)가 커서보다 작은 행만 조회하여 OFFSET 없이 인덱스 범위 스캔으로 처리합니다.
+     *
+     * @param postId 게시글 ID
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 댓글 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 최신순 댓글 목록
+     */
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findByPostIdBefore(@Param("postId") Long postId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * 게시글에 속한 댓글 조회
+     * 댓글 ID와 게시글 ID를 함께 조건으로 걸어 게시글 존재 여부와 소속 확인을 한 번의 조회로 처리합니다.
+     *
+     * @param id 댓글 ID
+     * @param postId 게시글 ID
+     * @return 댓글 (게시글이 없거나 삭제되었거나, 댓글이 다른 게시글에 속한 경우 empty)
+     */
+    @Query("SELECT c FROM Comment c JOIN c.post p WHERE c.id = :id AND p.id = :postId AND p.deleted = false")
+    Optional<Comment> findByIdAndPostId(@Param("id") Long id, @Param("postId") Long postId);
+
+    /**
+     * 게시글에 속한 댓글 삭제
+     *
+     * @param id 댓글 ID
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수 (조건에 맞는 댓글이 없으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id AND c.post.id = :postId " +
+            "AND EXISTS (SELECT 1 FROM Post p WHERE p.id = :postId AND p.deleted = false)")
+    int deleteByIdAndPostId(@Param("id") Long id, @Param("postId") Long postId);
+}
@@ -0,0 +1,46 @@
+package com.thousandhyehyang.blog.repository;
+
+import com.thousandhyehyang.blog.entity.FileDeletionCandidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FileDeletionCandidateRepository extends JpaRepository<FileDeletionCandidate, Long> {
+
+    /**
+     * 게시글 삭제로 고아가 되는 파일을 삭제 후보로 등록
+     * 해당 게시글에만 연결된 파일을 하나의 INSERT ... SELECT 문으로 등록합니다.
+     * 이미 등록된 파일은 file_id 유니크 제약에 의해 무시됩니다.
+     * 게시글의 파일 매핑을 삭제하기 전에 호출해야 합니다.
+     *
+     * @param postId 삭제할 게시글 ID
+     * @return 새로 등록된 삭제 후보 수
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "file_deletion_candidates"))
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO file_deletion_candidates (file_id, created_at, updated_at) " +
+                   "SELECT DISTINCT m.file_id, NOW(), NOW() FROM post_file_mappings m " +
+                   "WHERE m.post_id = :postId " +
+                   "AND NOT EXISTS (SELECT 1 FROM post_file_mappings o " +
+                   "                WHERE o.file_id = m.file_id AND o.post_id <> :postId)",
+           nativeQuery = true)
+    int enqueueOrphanedFilesOfPost(@Param("postId") Long postId);
+
+    /**
+     * 삭제 후보를 ID 순으로 한 배치씩 조회
+     *
+     * @param lastId 이전 배치의 마지막 후보 ID (첫 배치는 0)
+     * @param pageable 배치 크기
+     * @return 삭제 후보 목록
+     */
+    List<FileDeletionCandidate> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+}
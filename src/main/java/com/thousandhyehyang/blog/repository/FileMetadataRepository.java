@@ -2,17 +2,25 @@ package com.thousandhyehyang.blog.repository;
 
 import com.thousandhyehyang.blog.entity.FileMetadata;
 import com.thousandhyehyang.blog.enums.UploadType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FileMetadataRepository extends JpaRepository<FileMetadata, Long> {
+public interface FileMetadataRepository extends JpaRepository<FileMetadata, Long>, FileMetadataRepositoryCustom {
 
     /**
      * 저장소 키로 파일 메타데이터 찾기
@@ -40,19 +48,75 @@ public interface FileMetadataRepository extends JpaRepository<FileMetadata, Long
     Optional<FileMetadata> findTopByOriginalFilenameOrderByVersionDesc(String originalFilename);
 
     /**
-     * 공개 URL로 파일 메타데이터 찾기
+     * 고아 파일 찾기 (어떤 게시글에도 연결되지 않은 파일)
+     * 특정 날짜 이전에 생성되었으나 어떤 게시글에도 연결되지 않은 파일을 ID 순으로 한 청크씩 조회합니다.
+     * post_file_mappings.file_id 인덱스를 타는 NOT EXISTS 안티 조인을 사용하며,
+     * lastId 이후의 파일만 조회하므로 삭제에 실패한 파일이 있어도 다음 청크로 진행할 수 있습니다.
+     * 파일 ID를 샤드 수로 나눈 나머지로 대상을 나누어 여러 노드가 나눠 처리할 수 있습니다.
+     *
+     * @param cutoffDate 기준 날짜 (이 날짜 이전에 생성된 파일만 대상)
+     * @param lastId 이전 청크의 마지막 파일 ID (첫 청크는 0)
+     * @param shard 처리할 샤드 번호 (0부터 shardCount - 1까지)
+     * @param shardCount 전체 샤드 수
+     * @param pageable 청크 크기
+     * @return 고아 파일 목록
      */
-    Optional<FileMetadata> findByPublicUrl(String publicUrl);
+    @Query("SELECT f FROM FileMetadata f " +
+           "WHERE f.createdAt < :cutoffDate AND f.id > :lastId " +
+           "AND MOD(f.id, :shardCount) = :shard " +
+           "AND NOT EXISTS (SELECT 1 FROM PostFileMapping pfm WHERE pfm.file.id = f.id) " +
+           "ORDER BY f.id ASC")
+    List<FileMetadata> findOrphanedFiles(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                         @Param("lastId") Long lastId,
+                                         @Param("shard") int shard,
+                                         @Param("shardCount") int shardCount,
+                                         Pageable pageable);
 
     /**
-     * 고아 파일 찾기 (어떤 게시글에도 연결되지 않은 파일)
-     * 특정 날짜 이전에 생성되었으나 어떤 게시글에도 연결되지 않은 파일 목록을 조회합니다.
-     * 
-     * @param cutoffDate 기준 날짜 (이 날짜 이전에 생성된 파일만 대상)
+     * 주어진 ID 중 여전히 어떤 게시글에도 연결되지 않은 파일 찾기
+     * 삭제 후보로 등록된 이후 다시 게시글에 연결된 파일은 제외됩니다.
+     * 조회한 파일 행을 잠가 트랜잭션이 끝날 때까지 새 게시글 매핑이 추가되지 않도록 합니다.
+     *
+     * @param ids 확인할 파일 ID 목록
      * @return 고아 파일 목록
      */
-    @Query("SELECT f FROM FileMetadata f WHERE f.id NOT IN " +
-           "(SELECT DISTINCT pfm.file.id FROM PostFileMapping pfm) " +
-           "AND f.createdAt < :cutoffDate")
-    List<FileMetadata> findOrphanedFiles(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM FileMetadata f " +
+           "WHERE f.id IN :ids " +
+           "AND NOT EXISTS (SELECT 1 FROM PostFileMapping pfm WHERE pfm.file.id = f.id)")
+    List<FileMetadata> findOrphanedFilesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 파일 ID 목록에 해당하는 이미지 파생본의 저장소 키 조회
+     * 파생본 컬렉션을 파일마다 로딩하지 않고 한 번의 쿼리로 가져옵니다.
+     *
+     * @param fileIds 파일 ID 목록
+     * @return 파일 ID와 파생본 저장소 키 목록
+     */
+    @Query(value = "SELECT v.file_id AS fileId, v.storage_key AS storageKey " +
+                   "FROM file_variants v WHERE v.file_id IN (:fileIds)",
+           nativeQuery = true)
+    List<VariantKey> findVariantKeysByFileIdIn(@Param("fileIds") Collection<Long> fileIds);
+
+    /**
+     * 파일 ID 목록에 해당하는 이미지 파생본 정보 일괄 삭제
+     * deleteAllByIdInBatch는 컬렉션 테이블을 정리하지 않으므로 메타데이터 삭제 전에 호출해야 합니다.
+     * 변경 테이블을 지정하지 않은 네이티브 DML은 2차 캐시 전체를 비우므로 파생본 테이블만 지정합니다.
+     *
+     * @param fileIds 파일 ID 목록
+     * @return 삭제된 파생본 수
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "file_variants"))
+    @Modifying
+    @Query(value = "DELETE FROM file_variants WHERE file_id IN (:fileIds)", nativeQuery = true)
+    int deleteVariantsByFileIdIn(@Param("fileIds") Collection<Long> fileIds);
+
+    /**
+     * 파생본 저장소 키 프로젝션
+     */
+    interface VariantKey {
+        Long getFileId();
+
+        String getStorageKey();
+    }
 }
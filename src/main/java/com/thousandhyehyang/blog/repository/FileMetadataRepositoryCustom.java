@@ -0,0 +1,20 @@
+package com.thousandhyehyang.blog.repository;
+
+import com.thousandhyehyang.blog.entity.FileMetadata;
+
+import java.util.Optional;
+
+/**
+ * 파일 메타데이터 저장소 확장 (자연 키 조회)
+ */
+public interface FileMetadataRepositoryCustom {
+
+    /**
+     * 공개 URL로 파일 메타데이터 찾기
+     * 공개 URL은 변하지 않는 자연 키이므로 2차 캐시에서 ID를 찾고, 캐시에 없을 때만 DB를 조회합니다.
+     *
+     * @param publicUrl 공개 URL
+     * @return 파일 메타데이터
+     */
+    Optional<FileMetadata> findByPublicUrl(String publicUrl);
+}
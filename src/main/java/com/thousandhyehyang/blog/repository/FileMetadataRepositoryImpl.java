@@ -0,0 +1,29 @@
+package com.thousandhyehyang.blog.repository;
+
+import com.thousandhyehyang.blog.entity.FileMetadata;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 파일 메타데이터 저장소 확장 구현
+ * 파생 쿼리는 항상 SQL을 실행하므로, 자연 키 조회는 Hibernate 자연 키 API로 처리합니다.
+ */
+public class FileMetadataRepositoryImpl implements FileMetadataRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public FileMetadataRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<FileMetadata> findByPublicUrl(String publicUrl) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(FileMetadata.class)
+                .loadOptional(publicUrl);
+    }
+}
@@ -0,0 +1,58 @@
+package com.thousandhyehyang.blog.repository;
+
+import com.thousandhyehyang.blog.entity.JobRun;
+import com.thousandhyehyang.blog.enums.JobRunStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /**
+     * 같은 락에 대해 더 큰 펜싱 토큰으로 시작된 실행이 있는지 확인
+     * 존재한다면 해당 토큰의 락은 만료되어 다른 노드로 넘어간 것입니다.
+     */
+    boolean existsByLockNameAndFencingTokenGreaterThan(String lockName, Long fencingToken);
+
+    /**
+     * 작업의 마지막 실행 조회 (상태별)
+     * 주기 작업이 이전 실행 이후의 구간만 처리할 때 사용합니다.
+     */
+    Optional<JobRun> findTopByJobNameAndStatusOrderByStartedAtDesc(String jobName, JobRunStatus status);
+
+    /**
+     * 작업별 마지막 성공 실행 ID 조회
+     * 실행 이력 정리 시 다음 실행의 처리 구간 기준이 되는 행을 남기기 위해 사용합니다.
+     */
+    @Query("SELECT MAX(r.id) FROM JobRun r WHERE r.status = com.thousandhyehyang.blog.enums.JobRunStatus.SUCCEEDED GROUP BY r.jobName")
+    List<Long> findLatestSucceededIds();
+
+    /**
+     * 보존 기간이 지난 실행 이력 삭제 (배치 단위)
+     *
+     * @param cutoff 이 시각 이전에 시작된 실행을 삭제
+     * @param keepIds 삭제하지 않을 실행 ID 목록 (비어 있으면 안 됨)
+     * @param limit 한 번에 삭제할 최대 행 수
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_runs"))
+    @Modifying
+    @Query(value = "DELETE FROM job_runs WHERE started_at < :cutoff AND id NOT IN (:keepIds) LIMIT :limit",
+           nativeQuery = true)
+    int deleteStartedBefore(@Param("cutoff") LocalDateTime cutoff,
+                            @Param("keepIds") Collection<Long> keepIds,
+                            @Param("limit") int limit);
+}
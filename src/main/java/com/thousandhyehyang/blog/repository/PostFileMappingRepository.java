@@ -4,6 +4,9 @@ import com.thousandhyehyang.blog.entity.FileMetadata;
 import com.thousandhyehyang.blog.entity.Post;
 import com.thousandhyehyang.blog.entity.PostFileMapping;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,6 +20,19 @@ public interface PostFileMappingRepository extends JpaRepository<PostFileMapping
      */
     List<PostFileMapping> findByPost(Post post);
 
+    /**
+     * 특정 게시글의 모든 파일 매핑을 파일 메타데이터, 이미지 파생본과 함께 조회
+     * 응답 변환 시 매핑마다 파일과 파생본을 지연 로딩하지 않도록 한 번의 쿼리로 가져옵니다.
+     *
+     * @param post 게시글
+     * @return 파일 정보가 포함된 파일 매핑 목록
+     */
+    @Query("SELECT DISTINCT m FROM PostFileMapping m " +
+           "JOIN FETCH m.file f " +
+           "LEFT JOIN FETCH f.variants " +
+           "WHERE m.post = :post")
+    List<PostFileMapping> findAllWithFileByPost(@Param("post") Post post);
+
     /**
      * 특정 게시글 ID의 모든 파일 매핑 찾기
      */
@@ -57,6 +73,17 @@ public interface PostFileMappingRepository extends JpaRepository<PostFileMapping
      */
     void deleteByPost(Post post);
 
+    /**
+     * 특정 게시글 ID의 모든 매핑을 한 번의 DELETE 문으로 삭제
+     * 엔티티를 조회하지 않고 일괄 삭제하므로 영속성 컨텍스트에 로딩된 매핑에는 반영되지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @return 삭제된 매핑 수
+     */
+    @Modifying
+    @Query("DELETE FROM PostFileMapping m WHERE m.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
     /**
      * 특정 파일의 모든 매핑 삭제
      */
@@ -32,4 +32,215 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @org.springframework.data.jpa.repository.Query("SELECT p FROM Post p LEFT JOIN FETCH p.postTags WHERE p.id = :id")
     java.util.Optional<Post> findByIdWithTags(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * 수정할 게시글 조회
+     * 태그나 첨부파일 연결만 바뀌어 게시글 행이 변경되지 않아도 커밋 시 @Version을 증가시켜,
+     * 버전 기반 ETag와 상세 응답 캐시가 이전 내용을 계속 제공하지 않도록 합니다.
+     *
+     * @param id 게시글 ID
+     * @return 게시글
+     */
+    @org.springframework.data.jpa.repository.Lock(jakarta.persistence.LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @org.springframework.data.jpa.repository.Query("SELECT p FROM Post p WHERE p.id = :id")
+    java.util.Optional<Post> findByIdForUpdate(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * 게시글의 댓글 수 조회 (게시글 존재 여부 확인 겸용)
+     *
+     * @param id 게시글 ID
+     * @return 댓글 수 (게시글이 없거나 삭제된 경우 empty)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT p.commentCount FROM Post p WHERE p.id = :id")
+    java.util.Optional<Long> findCommentCountById(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * 댓글 수 증감
+     * 동시에 여러 댓글이 작성되어도 값이 유실되지 않도록 DB에서 원자적으로 더합니다.
+     * 카운터가 실제 댓글 수와 어긋난 상태에서 삭제되더라도 음수가 되지 않도록 0에서 멈춥니다.
+     *
+     * @param id 게시글 ID
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Post p SET p.commentCount = GREATEST(p.commentCount + :delta, 0) WHERE p.id = :id")
+    int addCommentCount(@org.springframework.data.repository.query.Param("id") Long id,
+                        @org.springframework.data.repository.query.Param("delta") long delta);
+
+    /**
+     * 특정 파일이 연결된 게시글의 버전과 수정 시각 갱신
+     * 이미지 파생본처럼 게시글 행이 아닌 파일 정보만 바뀌어도 게시글 상세 ETag와 목록 ETag가
+     * 이전 응답을 계속 유효하다고 판단하지 않도록 한 번의 UPDATE 문으로 갱신합니다.
+     *
+     * @param fileId 파일 ID
+     * @param now 수정 시각
+     * @return 변경된 게시글 수
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Post p SET p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id IN (SELECT m.post.id FROM PostFileMapping m WHERE m.file.id = :fileId)")
+    int touchByFileId(@org.springframework.data.repository.query.Param("fileId") Long fileId,
+                      @org.springframework.data.repository.query.Param("now") java.time.LocalDateTime now);
+
+    /**
+     * 게시글 버전 정보 조회 (조건부 요청 처리용)
+     * 본문을 읽지 않고 ETag 계산에 필요한 값만 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 버전 정보 (게시글이 없거나 삭제된 경우 empty)
+     */
+    @org.springframework.data.jpa.repository.Query(
+            "SELECT p.id AS id, p.version AS version, p.updatedAt AS updatedAt, p.draft AS draft FROM Post p WHERE p.id = :id")
+    java.util.Optional<PostVersion> findVersionById(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * 게시글 목록 버전 정보 조회 (조건부 요청 처리용)
+     * 게시글 추가/수정/삭제와 댓글 수 변경을 모두 반영하는 집계값을 한 번의 쿼리로 조회합니다.
+     * 댓글 추가와 삭제가 동시에 일어나 합계가 같아지는 경우는 최신 댓글 ID로 구분합니다.
+     *
+     * @return 목록 버전 정보
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT COUNT(p) AS postCount, MAX(p.updatedAt) AS lastUpdatedAt, " +
+            "COALESCE(SUM(p.commentCount), 0) AS commentTotal, " +
+            "(SELECT COALESCE(MAX(c.id), 0) FROM Comment c) AS lastCommentId FROM Post p")
+    PostListVersion findListVersion();
+
+    /**
+     * 피드/사이트맵용 공개 게시글 요약 전체 조회
+     * 본문 HTML 없이 요약 컬럼만 조회합니다.
+     *
+     * @return 공개 게시글 요약 목록 (최신순)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT p.id AS id, p.title AS title, p.category AS category, " +
+            "p.content AS content, p.author AS author, p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+            "FROM Post p WHERE p.draft = false ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostFeedEntry> findFeedEntries();
+
+    /**
+     * 피드/사이트맵용 공개 게시글 요약 단건 조회
+     *
+     * @param id 게시글 ID
+     * @return 공개 게시글 요약 (게시글이 없거나 삭제/임시저장된 경우 empty)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT p.id AS id, p.title AS title, p.category AS category, " +
+            "p.content AS content, p.author AS author, p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+            "FROM Post p WHERE p.id = :id AND p.draft = false")
+    java.util.Optional<PostFeedEntry> findFeedEntryById(@org.springframework.data.repository.query.Param("id") Long id);
+
+    /**
+     * 카테고리별 공개 게시글 첫 페이지 조회
+     * (category, draft, deleted, created_at, id) 인덱스 범위로 최신순 조회합니다.
+     *
+     * @param category 카테고리
+     * @param pageable 조회할 게시글 수
+     * @return 게시글 목록 (최신순)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT p FROM Post p " +
+            "WHERE p.category = :category AND p.draft = false AND p.deleted = false " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPublishedByCategory(@org.springframework.data.repository.query.Param("category") String category,
+                                       org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 커서 이후의 카테고리별 공개 게시글 페이지 조회
+     *
+     * @param category 카테고리
+     * @param createdAt 이전 페이지 마지막 게시글의 생성 시간
+     * @param id 이전 페이지 마지막 게시글의 ID
+     * @param pageable 조회할 게시글 수
+     * @return 게시글 목록 (최신순)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT p FROM Post p " +
+            "WHERE p.category = :category AND p.draft = false AND p.deleted = false " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPublishedByCategoryBefore(@org.springframework.data.repository.query.Param("category") String category,
+                                             @org.springframework.data.repository.query.Param("createdAt") java.time.LocalDateTime createdAt,
+                                             @org.springframework.data.repository.query.Param("id") Long id,
+                                             org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 관련 게시글 계산용 공개 게시글 조회
+     * 본문 HTML 대신 추출된 텍스트(content)만 조회합니다.
+     *
+     * @return 공개 게시글 목록
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT p.id AS id, p.title AS title, p.category AS category, " +
+            "p.content AS content, p.thumbnailUrl AS thumbnailUrl FROM Post p WHERE p.draft = false")
+    List<RelatedCandidate> findRelatedCandidates();
+
+    /**
+     * 게시글 버전 프로젝션
+     */
+    interface PostVersion {
+        Long getId();
+
+        Long getVersion();
+
+        java.time.LocalDateTime getUpdatedAt();
+
+        Boolean getDraft();
+    }
+
+    /**
+     * 게시글 목록 버전 프로젝션
+     */
+    interface PostListVersion {
+        Long getPostCount();
+
+        java.time.LocalDateTime getLastUpdatedAt();
+
+        Long getCommentTotal();
+
+        Long getLastCommentId();
+    }
+
+    /**
+     * 피드/사이트맵 게시글 요약 프로젝션
+     */
+    interface PostFeedEntry {
+        Long getId();
+
+        String getTitle();
+
+        String getCategory();
+
+        String getContent();
+
+        String getAuthor();
+
+        java.time.LocalDateTime getCreatedAt();
+
+        java.time.LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * 관련 게시글 계산 대상 프로젝션
+     */
+    interface RelatedCandidate {
+        Long getId();
+
+        String getTitle();
+
+        String getCategory();
+
+        String getContent();
+
+        String getThumbnailUrl();
+    }
+
+    /**
+     * 기간 내 발행된 공개 게시글 조회 (뉴스레터 다이제스트용)
+     * 작성 시각이 아닌 공개 시각 기준이므로, 임시저장했다가 나중에 공개한 글도 공개한 구간에 포함됩니다.
+     *
+     * @param from 기간 시작 (포함)
+     * @param to 기간 끝 (제외)
+     * @return 게시글 목록 (발행순)
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT p FROM Post p " +
+            "WHERE p.draft = false AND p.publishedAt >= :from AND p.publishedAt < :to " +
+            "ORDER BY p.publishedAt ASC, p.id ASC")
+    List<Post> findPublishedBetween(@org.springframework.data.repository.query.Param("from") java.time.LocalDateTime from,
+                                    @org.springframework.data.repository.query.Param("to") java.time.LocalDateTime to);
 }
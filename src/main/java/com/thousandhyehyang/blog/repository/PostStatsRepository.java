@@ -0,0 +1,50 @@
+package com.thousandhyehyang.blog.repository;
+
+import com.thousandhyehyang.blog.entity.PostStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostStatsRepository extends JpaRepository<PostStats, Long>, PostStatsRepositoryCustom {
+
+    /**
+     * 조회수 기준 인기 게시글 조회
+     * 집계 테이블의 조회수 인덱스 순으로 공개 게시글만 조회합니다.
+     *
+     * @param pageable 조회할 게시글 수
+     * @return 인기 게시글 목록 (조회수 내림차순)
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.category AS category, p.content AS content, " +
+            "p.thumbnailUrl AS thumbnailUrl, p.createdAt AS createdAt, p.commentCount AS commentCount, " +
+            "s.viewCount AS viewCount " +
+            "FROM PostStats s JOIN Post p ON p.id = s.postId " +
+            "WHERE p.draft = false AND p.deleted = false " +
+            "ORDER BY s.viewCount DESC, p.id DESC")
+    List<PopularPost> findPopularPosts(Pageable pageable);
+
+    /**
+     * 인기 게시글 프로젝션
+     */
+    interface PopularPost {
+        Long getId();
+
+        String getTitle();
+
+        String getCategory();
+
+        String getContent();
+
+        String getThumbnailUrl();
+
+        LocalDateTime getCreatedAt();
+
+        Long getCommentCount();
+
+        Long getViewCount();
+    }
+}
@@ -0,0 +1,18 @@
+package com.thousandhyehyang.blog.repository;
+
+import java.util.Map;
+
+/**
+ * 게시글 통계 저장소 확장 (JDBC 일괄 처리)
+ */
+public interface PostStatsRepositoryCustom {
+
+    /**
+     * 게시글별 조회수 증분 일괄 반영
+     * 하나의 UPSERT 문을 JDBC 배치로 실행하여, 게시글 수와 관계없이 한 번의 왕복으로 반영합니다.
+     *
+     * @param deltas 게시글 ID별 조회수 증분
+     * @return 반영한 게시글 수
+     */
+    int addViewCounts(Map<Long, Long> deltas);
+}
@@ -0,0 +1,38 @@
+package com.thousandhyehyang.blog.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 통계 저장소 확장 구현
+ * 동적인 행 수의 UPSERT는 JPQL로 표현할 수 없어 JdbcTemplate 배치로 처리합니다.
+ */
+public class PostStatsRepositoryImpl implements PostStatsRepositoryCustom {
+
+    private static final String UPSERT_VIEW_COUNT =
+            "INSERT INTO post_stats (post_id, view_count, updated_at) VALUES (?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count), updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostStatsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public int addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> rows.add(new Object[]{postId, delta}));
+        jdbcTemplate.batchUpdate(UPSERT_VIEW_COUNT, rows);
+        return rows.size();
+    }
+}
@@ -2,6 +2,7 @@ package com.thousandhyehyang.blog.repository;
 
 import com.thousandhyehyang.blog.entity.PostTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +10,21 @@ import java.util.List;
 @Repository
 public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     List<PostTag> findByPostId(Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 공개 게시글의 태그 전체 조회 (관련 게시글 계산용)
+     *
+     * @return 게시글 ID와 태그 목록
+     */
+    @Query("SELECT t.post.id AS postId, t.tag AS tag FROM PostTag t WHERE t.post.draft = false AND t.post.deleted = false")
+    List<PostTagRow> findPublishedTags();
+
+    /**
+     * 게시글 태그 프로젝션
+     */
+    interface PostTagRow {
+        Long getPostId();
+
+        String getTag();
+    }
+}
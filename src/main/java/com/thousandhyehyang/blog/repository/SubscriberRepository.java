@@ -1,8 +1,15 @@
 package com.thousandhyehyang.blog.repository;
 
 import com.thousandhyehyang.blog.entity.Subscriber;
+import com.thousandhyehyang.blog.enums.DeliveryMode;
 import com.thousandhyehyang.blog.enums.SubscriptionStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,5 +19,44 @@ import java.util.Optional;
 public interface SubscriberRepository extends JpaRepository<Subscriber, Long> {
     Optional<Subscriber> findByEmail(String email);
     List<Subscriber> findAllByStatus(SubscriptionStatus status);
+    List<Subscriber> findAllByStatusAndDeliveryMode(SubscriptionStatus status, DeliveryMode deliveryMode);
     boolean existsByEmailAndStatus(String email, SubscriptionStatus subscriptionStatus);
+    boolean existsByEmail(String email);
+
+    /**
+     * 구독 (신규 추가 또는 해지했던 구독자 재구독)
+     * 한 번의 INSERT ... ON DUPLICATE KEY UPDATE 문으로 처리하므로 동시 요청도 고유 인덱스로 한 건만 추가됩니다.
+     * 이미 구독 중인 행은 값을 바꾸지 않아 변경 없음(0)으로 보고되며, 발송 방식도 그대로 둡니다.
+     * INSERT IGNORE와 달리 중복 키 외의 오류(길이 초과, 잘못된 값 등)는 경고로 바뀌지 않고 그대로 실패합니다.
+     * MySQL은 갱신 대입을 왼쪽부터 평가하므로 status는 이전 값을 참조하는 대입들 뒤에 둡니다.
+     * (반환값은 커넥션 옵션 useAffectedRows=true 기준이며, 옵션이 없으면 변경 없음도 1로 보고됨)
+     *
+     * @param email 이메일
+     * @param deliveryMode 발송 방식
+     * @return 영향받은 행 수 (1: 추가, 2: 재구독, 0: 이미 구독 중)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "subscribers"))
+    @Modifying
+    @Query(value = "INSERT INTO subscribers (email, status, delivery_mode, created_at, updated_at) " +
+                   "VALUES (:email, 'SUBSCRIBED', :deliveryMode, NOW(6), NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "updated_at = CASE WHEN status <> 'SUBSCRIBED' THEN NOW(6) ELSE updated_at END, " +
+                   "delivery_mode = CASE WHEN status <> 'SUBSCRIBED' THEN VALUES(delivery_mode) ELSE delivery_mode END, " +
+                   "status = 'SUBSCRIBED'",
+           nativeQuery = true)
+    int subscribe(@Param("email") String email, @Param("deliveryMode") String deliveryMode);
+
+    /**
+     * 구독 해지
+     * 해지 상태가 아닌 경우에만 변경하므로 반환값이 곧 상태 변경 여부입니다.
+     *
+     * @param email 이메일
+     * @return 변경된 행 수 (0이면 이미 해지했거나 존재하지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "subscribers"))
+    @Modifying
+    @Query(value = "UPDATE subscribers SET status = 'UNSUBSCRIBED', updated_at = NOW(6) " +
+                   "WHERE email = :email AND status <> 'UNSUBSCRIBED'",
+           nativeQuery = true)
+    int unsubscribe(@Param("email") String email);
 }
\ No newline at end of file
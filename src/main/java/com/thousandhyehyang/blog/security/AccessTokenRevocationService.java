@@ -0,0 +1,167 @@
+package com.thousandhyehyang.blog.security;
+
+import com.thousandhyehyang.blog.common.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 액세스 토큰 폐기 서비스
+ * 폐기된 액세스 토큰의 ID(jti)를 Redis 정렬 집합에 만료 시각과 함께 저장하고,
+ * 각 인스턴스는 메모리의 블룸 필터로 요청마다 Redis를 거치지 않고 폐기 여부를 확인합니다.
+ *
+ * 1. 폐기 시 정렬 집합에 추가하고 채널에 발행하여 모든 인스턴스의 필터에 반영합니다.
+ * 2. 필터에 없으면 폐기되지 않은 토큰이므로 바로 통과시키고, 필터에 있을 때만 Redis로 확인합니다.
+ * 3. 블룸 필터는 삭제를 지원하지 않으므로, 주기적으로 만료된 항목을 정리하고 필터를 새로 만듭니다.
+ *    (놓친 채널 메시지도 이때 반영됩니다)
+ */
+@Service
+public class AccessTokenRevocationService implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenRevocationService.class);
+
+    static final String REVOKED_KEY = "revoked_access_tokens";
+    static final String CHANNEL = "access-token-revocations";
+
+    // 필터 크기 (액세스 토큰 만료 시간 동안 폐기될 토큰 수보다 넉넉하게)
+    private static final int EXPECTED_REVOCATIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile BloomFilter filter = newFilter();
+
+    // 재생성 중인 필터 (재생성 도중 수신한 폐기도 함께 반영)
+    private BloomFilter rebuilding;
+
+    public AccessTokenRevocationService(RedisTemplate<String, String> redisTemplate,
+                                        RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void registerListener() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 시작 시 폐기 목록으로 필터 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 액세스 토큰 폐기
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각 (epoch ms, 이후에는 폐기 기록이 필요 없음)
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        redisTemplate.opsForZSet().add(REVOKED_KEY, tokenId, expiresAt);
+        // 이 인스턴스에는 채널 수신을 기다리지 않고 바로 반영
+        add(tokenId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenId);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 다음 필터 재생성에서 반영
+            log.warn("액세스 토큰 폐기 발행 실패: 토큰_ID={}", tokenId, e);
+        }
+    }
+
+    /**
+     * 액세스 토큰 폐기 여부 확인
+     * 대부분의 요청은 메모리 필터에서 끝나며, 필터에 있는 경우에만 Redis로 확인합니다.
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(REVOKED_KEY, tokenId);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            // 폐기되었을 가능성이 있는 토큰이므로 확인할 수 없으면 거부
+            log.warn("액세스 토큰 폐기 여부 확인 실패, 요청 거부: 토큰_ID={}", tokenId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 폐기 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 만료된 폐기 기록 정리 및 필터 재생성
+     *
+     * @return 필터에 담긴 폐기 토큰 수
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 이전 실행 종료 10분 후 실행
+    public int rebuild() {
+        BloomFilter next = newFilter();
+        synchronized (this) {
+            rebuilding = next;
+        }
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            Set<String> revoked = redisTemplate.opsForZSet().range(REVOKED_KEY, 0, -1);
+            if (revoked != null) {
+                revoked.forEach(next::put);
+            }
+            synchronized (this) {
+                filter = next;
+                rebuilding = null;
+            }
+            return revoked == null ? 0 : revoked.size();
+        } catch (DataAccessException e) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            // 기존 필터를 계속 사용 (항목만 늘어날 뿐 폐기된 토큰을 놓치지는 않음)
+            log.warn("액세스 토큰 폐기 필터 재생성 실패", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 필터에 폐기 토큰 추가
+     * 재생성 중이면 새 필터에도 추가하여, 목록을 읽은 뒤 들어온 폐기가 교체 시 누락되지 않도록 합니다.
+     */
+    private synchronized void add(String tokenId) {
+        filter.put(tokenId);
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+    }
+
+    private static BloomFilter newFilter() {
+        return BloomFilter.create(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
@@ -2,16 +2,26 @@ package com.thousandhyehyang.blog.security;
 
 import com.thousandhyehyang.blog.entity.Account;
 import com.thousandhyehyang.blog.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
 
+import java.net.SocketTimeoutException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -19,19 +29,34 @@ import java.util.Optional;
 @Service
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
+    private static final Logger log = LoggerFactory.getLogger(CustomOAuth2UserService.class);
+
+    // 제공자 사용자 정보 API 타임아웃 (느린 제공자가 요청 스레드를 오래 붙잡지 않도록)
+    private static final int USER_INFO_CONNECT_TIMEOUT_MILLIS = 2_000;
+    private static final int USER_INFO_READ_TIMEOUT_MILLIS = 5_000;
+
     private final AccountRepository accountRepository;
-    private final DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
+    private final MeterRegistry meterRegistry;
+    private final OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
+
+    @Autowired
+    public CustomOAuth2UserService(AccountRepository accountRepository, MeterRegistry meterRegistry) {
+        this(accountRepository, meterRegistry, createUserInfoService());
+    }
 
-    public CustomOAuth2UserService(AccountRepository accountRepository) {
+    CustomOAuth2UserService(AccountRepository accountRepository, MeterRegistry meterRegistry,
+                            OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate) {
         this.accountRepository = accountRepository;
+        this.meterRegistry = meterRegistry;
+        this.delegate = delegate;
     }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
-        OAuth2User oAuth2User = delegate.loadUser(userRequest);
-
         // 제공자 세부 정보 추출
         String provider = userRequest.getClientRegistration().getRegistrationId();
+
+        OAuth2User oAuth2User = fetchUserInfo(userRequest, provider);
         String userNameAttributeName = userRequest.getClientRegistration()
                 .getProviderDetails().getUserInfoEndpoint().getUserNameAttributeName();
 
@@ -63,6 +88,59 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         return account;
     }
 
+    /**
+     * 제공자 사용자 정보 조회
+     * 제공자별 소요 시간과 결과를 oauth2.user_info 타이머로 기록합니다.
+     */
+    private OAuth2User fetchUserInfo(OAuth2UserRequest userRequest, String provider) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return delegate.loadUser(userRequest);
+        } catch (RuntimeException e) {
+            outcome = classifyFailure(e);
+            log.warn("OAuth2 사용자 정보 조회 실패: 제공자={}, 결과={}", provider, outcome);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("oauth2.user_info", "provider", provider, "outcome", outcome));
+        }
+    }
+
+    /**
+     * 사용자 정보 조회 실패 결과 분류
+     * 연결/응답 타임아웃(SocketTimeoutException)만 timeout으로, 그 밖의 네트워크 오류는 io_error로,
+     * 제공자 오류 응답 등 나머지는 error로 기록합니다.
+     */
+    private static String classifyFailure(Throwable e) {
+        boolean ioFailure = false;
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException) {
+                return "timeout";
+            }
+            if (cause instanceof ResourceAccessException) {
+                ioFailure = true;
+            }
+        }
+        return ioFailure ? "io_error" : "error";
+    }
+
+    /**
+     * 타임아웃이 설정된 사용자 정보 조회 서비스
+     * DefaultOAuth2UserService 기본 설정과 같이 OAuth2 오류 응답 처리기를 사용합니다.
+     */
+    private static DefaultOAuth2UserService createUserInfoService() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(USER_INFO_CONNECT_TIMEOUT_MILLIS);
+        requestFactory.setReadTimeout(USER_INFO_READ_TIMEOUT_MILLIS);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+
+        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
+        userService.setRestOperations(restTemplate);
+        return userService;
+    }
+
     private Account saveOrUpdateUser(OAuth2UserInfo userInfo, String provider) {
         String email = userInfo.getEmail();
 
@@ -72,23 +150,24 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             accountOptional = accountRepository.findByEmail(email);
         }
 
-        Account account;
         if (accountOptional.isPresent()) {
-            // 기존 계정 업데이트
-            account = accountOptional.get();
-            account.updateProfile(userInfo.getName(), userInfo.getImageUrl());
-        } else {
-            // 닉네임이 이름으로 초기화된 새 계정 생성
-            account = new Account(
-                    provider,
-                    email, // 이메일은 null일 수 있음
-                    userInfo.getName(),
-                    userInfo.getName(), // 이름으로 닉네임 초기화
-                    userInfo.getImageUrl(),
-                    Account.Role.USER // 기본 역할
-            );
+            // 기존 계정은 프로필이 바뀐 경우에만 저장 (변경이 없으면 UPDATE 생략)
+            Account account = accountOptional.get();
+            if (!account.updateProfile(userInfo.getName(), userInfo.getImageUrl())) {
+                return account;
+            }
+            return accountRepository.save(account);
         }
 
+        // 닉네임이 이름으로 초기화된 새 계정 생성
+        Account account = new Account(
+                provider,
+                email, // 이메일은 null일 수 있음
+                userInfo.getName(),
+                userInfo.getName(), // 이름으로 닉네임 초기화
+                userInfo.getImageUrl(),
+                Account.Role.USER // 기본 역할
+        );
         return accountRepository.save(account);
     }
 
@@ -37,10 +37,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
     private final AccountRepository accountRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
-    public JwtAuthenticationFilter(TokenProvider tokenProvider, AccountRepository accountRepository) {
+    public JwtAuthenticationFilter(TokenProvider tokenProvider,
+                                   AccountRepository accountRepository,
+                                   AccessTokenRevocationService accessTokenRevocationService) {
         this.tokenProvider = tokenProvider;
         this.accountRepository = accountRepository;
+        this.accessTokenRevocationService = accessTokenRevocationService;
     }
 
     @Override
@@ -49,9 +53,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            // 토큰이 존재하고 유효하며, access 토큰인 경우에만 처리
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt) && !tokenProvider.isRefreshToken(jwt)) {
-                Long accountId = tokenProvider.getUserIdFromToken(jwt);
+            // 토큰이 존재하고 유효하며, access 토큰인 경우에만 처리 (파싱은 한 번만 수행)
+            Optional<TokenProvider.AccessTokenClaims> claims = StringUtils.hasText(jwt)
+                    ? tokenProvider.parseAccessToken(jwt)
+                    : Optional.empty();
+
+            // 폐기된 토큰은 인증하지 않음 (대부분 메모리 필터에서 판별)
+            if (claims.isPresent() && accessTokenRevocationService.isRevoked(claims.get().tokenId())) {
+                logger.info("폐기된 액세스 토큰: URI={}", request.getRequestURI());
+                claims = Optional.empty();
+            }
+
+            if (claims.isPresent()) {
+                Long accountId = claims.get().userId();
                 logger.debug("JWT 인증 시도: accountId={}, URI={}", accountId, request.getRequestURI());
 
                 Optional<Account> accountOptional = accountRepository.findById(accountId);
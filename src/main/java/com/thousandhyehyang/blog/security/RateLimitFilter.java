@@ -0,0 +1,82 @@
+package com.thousandhyehyang.blog.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.common.ApiErrorResponse;
+import com.thousandhyehyang.blog.common.ErrorCode;
+import com.thousandhyehyang.blog.enums.RateLimitPolicy;
+import com.thousandhyehyang.blog.exception.RateLimitExceededException;
+import com.thousandhyehyang.blog.service.ratelimit.RateLimitService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 익명 쓰기 API 요청 속도 제한 필터
+ * 로그인 없이 호출할 수 있고 DB 쓰기(구독은 메일 발송 포함)가 발생하는 API를 IP 단위로 제한합니다.
+ * 인증 필터보다 앞에서 실행되어 제한된 요청은 토큰 검증이나 계정 조회 없이 바로 거부됩니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitService rateLimitService, ObjectMapper objectMapper) {
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitPolicy policy = resolvePolicy(request);
+        if (policy != null) {
+            try {
+                // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP가 반영되어야 함
+                rateLimitService.acquire(policy, request.getRemoteAddr());
+            } catch (RateLimitExceededException e) {
+                writeTooManyRequests(response, e);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitPolicy resolvePolicy(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return null;
+        }
+
+        // 컨텍스트 경로(/api)를 제외한 경로로 비교
+        String path = request.getServletPath();
+        if (PATH_MATCHER.match("/posts/*/comments", path)) {
+            return RateLimitPolicy.COMMENT_CREATE_IP;
+        }
+        if (PATH_MATCHER.match("/subscriptions", path)) {
+            return RateLimitPolicy.SUBSCRIPTION_IP;
+        }
+        return null;
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, RateLimitExceededException e) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ApiErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS, e.getMessage()));
+    }
+}
@@ -1,67 +1,229 @@
 package com.thousandhyehyang.blog.security;
 
 import com.thousandhyehyang.blog.config.JwtProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 
+/**
+ * Stores refresh tokens per device in a Redis hash (refresh_tokens:{userId}).
+ * Each field is a device ID and each value is "sha256(token)|expiresAtMillis", so the raw token never reaches Redis.
+ * Rotation (compare, swap, extend TTL) runs as a single Lua script.
+ * After a rotation the value becomes "sha256(new)|expiresAtMillis|sha256(previous)|graceUntilMillis|sealedSuccessor".
+ * For a short grace window the previous token is still accepted and answered with the successor already issued,
+ * so concurrent refreshes from the same device (several tabs, a retried request) do not look like token theft.
+ * The successor is sealed with AES-GCM under a key derived from the previous token, so only its holder can open it.
+ */
 @Service
 public class RedisTokenService {
 
+    private static final Logger log = LoggerFactory.getLogger(RedisTokenService.class);
+
+    private static final String KEY_PREFIX = "refresh_tokens:";
+
+    // How long a rotated token may still be presented and receive the successor already issued
+    static final long ROTATION_GRACE_MILLIS = 20_000L;
+
+    private static final int GCM_IV_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Prunes expired device entries, stores the new device entry and refreshes the key TTL.
+     * ARGV: device ID, stored value (hash|expiresAt), TTL seconds, now (ms)
+     */
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #entries, 2 do " +
+            "  local expiresAt = tonumber(string.match(entries[i + 1], '^[^|]*|(%d+)')) " +
+            "  if expiresAt and expiresAt < tonumber(ARGV[4]) then " +
+            "    redis.call('HDEL', KEYS[1], entries[i]) " +
+            "  end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * Swaps the device entry when the presented hash matches, remembering the presented hash and the sealed successor
+     * for the grace window, and refreshes the key TTL (returns ROTATED).
+     * Returns INVALID when the device has no entry (logged out or expired).
+     * Returns "GRACE|sealedSuccessor" when the previous hash is presented again within the grace window.
+     * Any other mismatch means an already rotated token was replayed: the device entry is removed and REUSED is returned.
+     * ARGV: device ID, presented token hash, new stored value (hash|expiresAt), TTL seconds,
+     *       grace deadline (ms), sealed successor, now (ms)
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not current then return 'INVALID' end " +
+            "local parts = {} " +
+            "for part in string.gmatch(current, '[^|]+') do parts[#parts + 1] = part end " +
+            "if parts[1] == ARGV[2] then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[2] .. '|' .. ARGV[5] .. '|' .. ARGV[6]) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "  return 'ROTATED' " +
+            "end " +
+            "if parts[3] == ARGV[2] and tonumber(parts[4]) >= tonumber(ARGV[7]) then " +
+            "  return 'GRACE|' .. parts[5] " +
+            "end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "return 'REUSED'",
+            String.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProperties jwtProperties;
-    private final TokenProvider tokenProvider;
 
-    public RedisTokenService(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties, TokenProvider tokenProvider) {
+    public RedisTokenService(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties) {
         this.redisTemplate = redisTemplate;
         this.jwtProperties = jwtProperties;
-        this.tokenProvider = tokenProvider;
     }
 
     /**
-     * Stores a refresh token in Redis with the user ID as the key
+     * Stores the refresh token issued to a device at login
      *
      * @param userId       The user ID
+     * @param deviceId     The device ID bound to the token
      * @param refreshToken The refresh token
      */
-    public void storeRefreshToken(Long userId, String refreshToken) {
-        String key = getKey(userId);
-        long expirationTimeInSeconds = jwtProperties.getRefreshTokenExpirationMs() / 1000;
-        redisTemplate.opsForValue().set(key, refreshToken, expirationTimeInSeconds, TimeUnit.SECONDS);
+    public void storeRefreshToken(Long userId, String deviceId, String refreshToken) {
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(STORE_SCRIPT, List.of(getKey(userId)),
+                deviceId,
+                storedValue(refreshToken, now),
+                String.valueOf(ttlSeconds()),
+                String.valueOf(now));
     }
 
     /**
-     * Retrieves a refresh token from Redis
+     * Rotates a device's refresh token in a single Redis round trip
+     * Within the grace window the previous token is answered with the successor already issued instead of a new one.
      *
-     * @param userId The user ID
-     * @return The refresh token, or null if not found
+     * @param userId         The user ID
+     * @param deviceId       The device ID bound to the token
+     * @param presentedToken The refresh token sent by the client
+     * @param newToken       The newly issued refresh token
+     * @return The rotation result and the refresh token to hand back to the client
      */
-    public String getRefreshToken(Long userId) {
-        String key = getKey(userId);
-        return redisTemplate.opsForValue().get(key);
+    public Rotation rotateRefreshToken(Long userId, String deviceId, String presentedToken, String newToken) {
+        long now = System.currentTimeMillis();
+        String result = redisTemplate.execute(ROTATE_SCRIPT, List.of(getKey(userId)),
+                deviceId,
+                hash(presentedToken),
+                storedValue(newToken, now),
+                String.valueOf(ttlSeconds()),
+                String.valueOf(now + ROTATION_GRACE_MILLIS),
+                seal(newToken, presentedToken),
+                String.valueOf(now));
+
+        if ("ROTATED".equals(result)) {
+            return new Rotation(RotationResult.ROTATED, newToken);
+        }
+        if (result != null && result.startsWith("GRACE|")) {
+            String successor = unseal(result.substring("GRACE|".length()), presentedToken);
+            if (successor != null) {
+                log.debug("유예 시간 내 이전 리프레시 토큰 사용, 발급된 토큰 재전달: 사용자_ID={}, 기기_ID={}", userId, deviceId);
+                return new Rotation(RotationResult.ROTATED, successor);
+            }
+            return new Rotation(RotationResult.INVALID, null);
+        }
+        if ("REUSED".equals(result)) {
+            log.warn("교체된 리프레시 토큰 재사용 감지, 기기 세션 폐기: 사용자_ID={}, 기기_ID={}", userId, deviceId);
+            return new Rotation(RotationResult.REUSED, null);
+        }
+        return new Rotation(RotationResult.INVALID, null);
     }
 
     /**
-     * Deletes a refresh token from Redis
+     * Deletes the refresh token of a single device
      *
-     * @param userId The user ID
+     * @param userId   The user ID
+     * @param deviceId The device ID
      */
-    public void deleteRefreshToken(Long userId) {
-        String key = getKey(userId);
-        redisTemplate.delete(key);
+    public void deleteRefreshToken(Long userId, String deviceId) {
+        redisTemplate.opsForHash().delete(getKey(userId), deviceId);
     }
 
     /**
-     * Validates a refresh token against the one stored in Redis
+     * Deletes the refresh tokens of all devices
      *
-     * @param userId       The user ID
-     * @param refreshToken The refresh token to validate
-     * @return true if the token is valid, false otherwise
+     * @param userId The user ID
+     */
+    public void deleteAllRefreshTokens(Long userId) {
+        redisTemplate.delete(getKey(userId));
+    }
+
+    private String storedValue(String refreshToken, long now) {
+        return hash(refreshToken) + "|" + (now + jwtProperties.getRefreshTokenExpirationMs());
+    }
+
+    private long ttlSeconds() {
+        return jwtProperties.getRefreshTokenExpirationMs() / 1000;
+    }
+
+    /**
+     * Encrypts the successor with AES-GCM under SHA-256 of the previous token, returned as Base64(iv || ciphertext)
      */
-    public boolean validateRefreshToken(Long userId, String refreshToken) {
-        String storedToken = getRefreshToken(userId);
-        return storedToken != null && storedToken.equals(refreshToken) && tokenProvider.validateToken(refreshToken);
+    static String seal(String successor, String previousToken) {
+        try {
+            byte[] iv = new byte[GCM_IV_BYTES];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, sealingKey(previousToken), new GCMParameterSpec(GCM_TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(successor.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + encrypted.length)
+                    .put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("리프레시 토큰 암호화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * Opens a sealed successor, or returns null when it was not sealed under the presented token
+     */
+    static String unseal(String sealed, String previousToken) {
+        try {
+            byte[] data = Base64.getDecoder().decode(sealed);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, sealingKey(previousToken),
+                    new GCMParameterSpec(GCM_TAG_BITS, data, 0, GCM_IV_BYTES));
+            byte[] plain = cipher.doFinal(data, GCM_IV_BYTES, data.length - GCM_IV_BYTES);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static SecretKeySpec sealingKey(String previousToken) {
+        return new SecretKeySpec(HexFormat.of().parseHex(hash("seal|" + previousToken)), "AES");
+    }
+
+    /**
+     * Hex-encoded SHA-256 of a token
+     */
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
     /**
@@ -71,6 +233,27 @@ public class RedisTokenService {
      * @return The Redis key
      */
     private String getKey(Long userId) {
-        return "refresh_token:" + userId;
+        return KEY_PREFIX + userId;
+    }
+
+    /**
+     * Outcome of a refresh token rotation
+     *
+     * @param result       The rotation result
+     * @param refreshToken The refresh token to hand back (the new one, or the successor already issued); null unless ROTATED
+     */
+    public record Rotation(RotationResult result, String refreshToken) {
+    }
+
+    /**
+     * Result of a refresh token rotation
+     */
+    public enum RotationResult {
+        // The token matched and was replaced, or the previous token was presented within the grace window
+        ROTATED,
+        // No token stored for the device (logged out or expired)
+        INVALID,
+        // A previously rotated token was replayed; the device session was revoked
+        REUSED
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package com.thousandhyehyang.blog.security;
+
+import com.thousandhyehyang.blog.config.JwtProperties;
+import jakarta.servlet.http.Cookie;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 리프레시 토큰 쿠키 생성
+ * 로그인, 재발급, 로그아웃에서 같은 속성(HttpOnly, Path, Secure)의 쿠키를 사용하도록 한 곳에서 만듭니다.
+ */
+@Component
+public class RefreshTokenCookieFactory {
+
+    public static final String COOKIE_NAME = "refreshToken";
+
+    private final JwtProperties jwtProperties;
+    private final Environment environment;
+
+    public RefreshTokenCookieFactory(JwtProperties jwtProperties, Environment environment) {
+        this.jwtProperties = jwtProperties;
+        this.environment = environment;
+    }
+
+    /**
+     * 리프레시 토큰 쿠키 생성
+     *
+     * @param refreshToken 리프레시 토큰
+     * @return 토큰 만료 시간과 같은 수명의 쿠키
+     */
+    public Cookie create(String refreshToken) {
+        return build(refreshToken, (int) (jwtProperties.getRefreshTokenExpirationMs() / 1000));
+    }
+
+    /**
+     * 리프레시 토큰 쿠키 즉시 만료
+     *
+     * @return 만료 쿠키
+     */
+    public Cookie expire() {
+        return build("", 0);
+    }
+
+    private Cookie build(String value, int maxAge) {
+        Cookie cookie = new Cookie(COOKIE_NAME, value);
+        cookie.setHttpOnly(true);
+        cookie.setPath("/");
+        cookie.setMaxAge(maxAge);
+        // 프로덕션 환경에서는 Secure 플래그 활성화
+        cookie.setSecure(isProd());
+        return cookie;
+    }
+
+    private boolean isProd() {
+        return Arrays.asList(environment.getActiveProfiles()).contains("prod");
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class TokenProvider {
@@ -26,12 +28,20 @@ public class TokenProvider {
         this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * 액세스 토큰 생성
+     * 만료 전에 폐기할 수 있도록 고유 ID(jti)를 부여합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 액세스 토큰
+     */
     public String createAccessToken(Long userId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getAccessTokenExpirationMs());
 
         return Jwts.builder()
                 .setSubject(userId.toString())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .claim("type", "access")
@@ -39,19 +49,85 @@ public class TokenProvider {
                 .compact();
     }
 
-    public String createRefreshToken(Long userId) {
+    /**
+     * 리프레시 토큰 생성
+     * 기기별로 토큰을 교체(rotation)하므로 기기 ID를 담고,
+     * 같은 시각에 발급된 토큰도 서로 구분되도록 고유 ID(jti)를 부여합니다.
+     *
+     * @param userId 사용자 ID
+     * @param deviceId 기기(로그인 세션) ID
+     * @return 리프레시 토큰
+     */
+    public String createRefreshToken(Long userId, String deviceId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshTokenExpirationMs());
 
         return Jwts.builder()
                 .setSubject(userId.toString())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .claim("type", "refresh")
+                .claim("did", deviceId)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * 리프레시 토큰 검증 및 클레임 추출
+     * 서명, 만료, 토큰 타입을 한 번의 파싱으로 확인합니다.
+     *
+     * @param token 리프레시 토큰
+     * @return 사용자 ID와 기기 ID (유효한 리프레시 토큰이 아니면 empty)
+     */
+    public Optional<RefreshTokenClaims> parseRefreshToken(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            String deviceId = claims.get("did", String.class);
+            if (!"refresh".equals(claims.get("type")) || deviceId == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RefreshTokenClaims(Long.parseLong(claims.getSubject()), deviceId));
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("유효하지 않은 리프레시 토큰: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 액세스 토큰 검증 및 클레임 추출
+     * 서명, 만료, 토큰 타입을 한 번의 파싱으로 확인합니다.
+     *
+     * @param token 액세스 토큰
+     * @return 사용자 ID, 토큰 ID, 만료 시각 (유효한 액세스 토큰이 아니면 empty)
+     */
+    public Optional<AccessTokenClaims> parseAccessToken(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            if (!"access".equals(claims.get("type"))) {
+                return Optional.empty();
+            }
+            return Optional.of(new AccessTokenClaims(
+                    Long.parseLong(claims.getSubject()), claims.getId(), claims.getExpiration().getTime()));
+        } catch (ExpiredJwtException e) {
+            logger.warn("만료된 JWT 토큰: {}", e.getMessage());
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("유효하지 않은 액세스 토큰: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Long getUserIdFromToken(String token) {
         try {
             Claims claims = Jwts.parserBuilder()
@@ -127,4 +203,23 @@ public class TokenProvider {
             throw e;
         }
     }
+
+    /**
+     * 액세스 토큰 클레임
+     *
+     * @param userId 사용자 ID
+     * @param tokenId 토큰 고유 ID (jti, 이전에 발급된 토큰은 null)
+     * @param expiresAt 만료 시각 (epoch ms)
+     */
+    public record AccessTokenClaims(Long userId, String tokenId, long expiresAt) {
+    }
+
+    /**
+     * 리프레시 토큰 클레임
+     *
+     * @param userId 사용자 ID
+     * @param deviceId 기기(로그인 세션) ID
+     */
+    public record RefreshTokenClaims(Long userId, String deviceId) {
+    }
 }
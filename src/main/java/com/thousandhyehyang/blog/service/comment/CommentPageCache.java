@@ -0,0 +1,165 @@
+package com.thousandhyehyang.blog.service.comment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.dto.comment.CommentPageResponse;
+import com.thousandhyehyang.blog.service.post.PostService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시글별 댓글 첫 페이지 캐시
+ * 조회의 대부분은 첫 페이지이므로 첫 페이지만 Redis에 JSON으로 저장합니다.
+ * 댓글이 생성/수정/삭제되거나 공개 게시글이 변경/삭제되면 트랜잭션 커밋 후 해당 게시글의 캐시를 제거합니다.
+ * 제거할 때마다 게시글별 세대 값을 올리고, 저장은 조회 시작 시 읽은 세대가 그대로일 때만 하므로
+ * 제거 전에 DB에서 읽은 오래된 페이지가 제거 이후에 다시 저장되지 않습니다.
+ * Redis 장애 시에는 캐시를 건너뛰고 DB에서 조회하도록 예외를 전파하지 않습니다.
+ */
+@Component
+public class CommentPageCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentPageCache.class);
+
+    private static final String KEY_PREFIX = "comments:first_page:";
+    private static final String GENERATION_KEY_PREFIX = "comments:generation:";
+
+    // 첫 페이지 캐시 수명 (제거에 실패한 경우에도 오래된 페이지가 남는 시간의 상한)
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // 세대 값 유지 시간 (조회 한 번에 걸리는 시간보다 충분히 길면 됨)
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    /**
+     * 세대가 바뀌지 않은 경우에만 첫 페이지 저장
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 세대를 올린 뒤 첫 페이지 제거
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CommentPageCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 캐시된 첫 페이지와 현재 세대 조회
+     * 캐시가 없으면 DB에서 읽기 전에 받은 세대를 저장 시 그대로 전달해야 합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 캐시된 첫 페이지(없거나 읽을 수 없으면 null)와 세대(Redis 오류 시 null)
+     */
+    public Lookup get(Long postId) {
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + postId, GENERATION_KEY_PREFIX + postId));
+        } catch (DataAccessException e) {
+            log.warn("댓글 캐시 조회 실패: 게시글_ID={}", postId, e);
+            return Lookup.MISS;
+        }
+        if (values == null || values.size() < 2) {
+            return Lookup.MISS;
+        }
+
+        String generation = values.get(1) == null ? "0" : values.get(1);
+        String json = values.get(0);
+        if (json == null) {
+            return new Lookup(null, generation);
+        }
+        try {
+            return new Lookup(objectMapper.readValue(json, CommentPageResponse.class), generation);
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 캐시 조회 실패: 게시글_ID={}", postId, e);
+            return new Lookup(null, generation);
+        }
+    }
+
+    /**
+     * 첫 페이지 캐시 저장
+     * 조회 이후 캐시가 제거되어 세대가 바뀌었으면 저장하지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @param generation DB 조회 전에 {@link #get}으로 받은 세대 (null이면 저장하지 않음)
+     * @param page 첫 페이지
+     */
+    public void put(Long postId, String generation, CommentPageResponse page) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_SCRIPT,
+                    List.of(KEY_PREFIX + postId, GENERATION_KEY_PREFIX + postId),
+                    generation, objectMapper.writeValueAsString(page), String.valueOf(TTL.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("댓글 캐시 저장 실패: 게시글_ID={}", postId, e);
+        }
+    }
+
+    /**
+     * 첫 페이지 캐시 제거
+     *
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT,
+                    List.of(KEY_PREFIX + postId, GENERATION_KEY_PREFIX + postId),
+                    String.valueOf(GENERATION_TTL.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("댓글 캐시 제거 실패: 게시글_ID={}", postId, e);
+        }
+    }
+
+    /**
+     * 댓글 변경 트랜잭션 커밋 후 캐시 제거
+     * 커밋 전에 제거하면 다른 요청이 커밋 전 데이터로 캐시를 다시 채울 수 있으므로 커밋 이후에 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCommentChanged(CommentService.CommentChangedEvent event) {
+        evict(event.postId());
+    }
+
+    /**
+     * 공개 게시글 변경 트랜잭션 커밋 후 캐시 제거
+     * 삭제된 게시글의 댓글 조회가 캐시된 페이지 대신 게시글 없음으로 응답하도록 합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostChanged(PostService.PostChangedEvent event) {
+        evict(event.postId());
+    }
+
+    /**
+     * 캐시 조회 결과
+     *
+     * @param page 캐시된 첫 페이지 (없으면 null)
+     * @param generation 조회 시점의 세대 (Redis 오류 시 null)
+     */
+    public record Lookup(CommentPageResponse page, String generation) {
+
+        static final Lookup MISS = new Lookup(null, null);
+    }
+}
@@ -1,14 +1,19 @@
 package com.thousandhyehyang.blog.service.comment;
 
+import com.thousandhyehyang.blog.common.KeysetCursor;
 import com.thousandhyehyang.blog.dto.comment.CommentCreateRequest;
+import com.thousandhyehyang.blog.dto.comment.CommentPageResponse;
 import com.thousandhyehyang.blog.dto.comment.CommentResponse;
 import com.thousandhyehyang.blog.dto.comment.CommentUpdateRequest;
 import com.thousandhyehyang.blog.entity.Comment;
 import com.thousandhyehyang.blog.entity.Post;
+import com.thousandhyehyang.blog.enums.CommentEventType;
 import com.thousandhyehyang.blog.exception.CommentNotFoundException;
 import com.thousandhyehyang.blog.exception.PostNotFoundException;
 import com.thousandhyehyang.blog.repository.CommentRepository;
 import com.thousandhyehyang.blog.repository.PostRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,12 +23,22 @@ import java.util.stream.Collectors;
 @Service
 public class CommentService {
 
+    // 댓글 페이지 크기
+    static final int PAGE_SIZE = 20;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final CommentPageCache commentPageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CommentService(CommentRepository commentRepository, PostRepository postRepository) {
+    public CommentService(CommentRepository commentRepository,
+                          PostRepository postRepository,
+                          CommentPageCache commentPageCache,
+                          ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
+        this.commentPageCache = commentPageCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -44,27 +59,70 @@ public class CommentService {
         Comment comment = new Comment(post, request.getNickname(), request.getContent(), request.getEmoji(), request.getBgColor());
         Comment savedComment = commentRepository.save(comment);
 
-        return CommentResponse.from(savedComment);
+        // 댓글 수 증가 및 커밋 후 캐시 제거, 실시간 전달
+        postRepository.addCommentCount(postId, 1);
+        CommentResponse response = CommentResponse.from(savedComment);
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, CommentEventType.CREATED, savedComment.getId(), response));
+
+        return response;
     }
 
     /**
      * 게시글의 댓글 목록 조회
+     * (생성 시간, ID) 키셋 페이지네이션으로 최신 댓글부터 PAGE_SIZE개씩 조회합니다.
+     * 첫 페이지는 Redis에 캐시되며 댓글이나 게시글이 변경되면 제거됩니다.
      *
      * @param postId 게시글 ID
-     * @return 댓글 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지이면 null)
+     * @return 댓글 페이지
      * @throws PostNotFoundException 게시글을 찾을 수 없는 경우
+     * @throws com.thousandhyehyang.blog.exception.InvalidCursorException 커서 형식이 올바르지 않은 경우
      */
     @Transactional(readOnly = true)
-    public List<CommentResponse> getCommentsByPostId(Long postId) {
-        // 게시글 존재 여부 확인
-        if (!postRepository.existsById(postId)) {
-            throw new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+    public CommentPageResponse getCommentsByPostId(Long postId, String cursor) {
+        boolean firstPage = cursor == null || cursor.isBlank();
+        CommentPageCache.Lookup cached = null;
+        if (firstPage) {
+            // DB에서 읽기 전의 세대를 받아 두어, 그 사이 캐시가 제거되었으면 저장하지 않도록 함
+            cached = commentPageCache.get(postId);
+            if (cached.page() != null) {
+                return cached.page();
+            }
+        }
+
+        // 댓글 수 조회 (게시글 존재 여부 확인 겸용)
+        long totalCount = postRepository.findCommentCountById(postId)
+                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        PageRequest limit = PageRequest.of(0, PAGE_SIZE + 1);
+        List<Comment> comments;
+        if (firstPage) {
+            comments = commentRepository.findLatestByPostId(postId, limit);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            comments = commentRepository.findByPostIdBefore(postId, keyset.createdAt(), keyset.id(), limit);
         }
 
-        // 댓글 목록 조회 및 DTO 변환
-        return commentRepository.findByPostIdOrderByCreatedAtDesc(postId).stream()
-                .map(CommentResponse::from)
-                .collect(Collectors.toList());
+        boolean hasNext = comments.size() > PAGE_SIZE;
+        List<Comment> page = hasNext ? comments.subList(0, PAGE_SIZE) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        CommentPageResponse response = new CommentPageResponse(
+                page.stream().map(CommentResponse::from).collect(Collectors.toList()),
+                nextCursor,
+                hasNext,
+                totalCount
+        );
+
+        if (firstPage) {
+            commentPageCache.put(postId, cached.generation(), response);
+        }
+        return response;
     }
 
     /**
@@ -80,19 +138,9 @@ public class CommentService {
      */
     @Transactional
     public CommentResponse updateComment(Long postId, Long commentId, CommentUpdateRequest request) {
-        // 게시글 존재 여부 확인
-        if (!postRepository.existsById(postId)) {
-            throw new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
-        }
-
-        // 댓글 조회
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
-
-        // 댓글이 해당 게시글에 속하는지 확인
-        if (!comment.getPost().getId().equals(postId)) {
-            throw new IllegalArgumentException("해당 게시글에 속한 댓글이 아닙니다. 게시글 ID: " + postId + ", 댓글 ID: " + commentId);
-        }
+        // 게시글에 속한 댓글 조회 (게시글 존재 여부와 소속 확인 포함)
+        Comment comment = commentRepository.findByIdAndPostId(commentId, postId)
+                .orElseThrow(() -> notFound(postId, commentId));
 
         // 댓글 업데이트
         comment.update(
@@ -104,8 +152,10 @@ public class CommentService {
 
         // 변경 사항 저장
         Comment updatedComment = commentRepository.save(comment);
+        CommentResponse response = CommentResponse.from(updatedComment);
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, CommentEventType.UPDATED, commentId, response));
 
-        return CommentResponse.from(updatedComment);
+        return response;
     }
 
     /**
@@ -119,21 +169,39 @@ public class CommentService {
      */
     @Transactional
     public void deleteComment(Long postId, Long commentId) {
-        // 게시글 존재 여부 확인
-        if (!postRepository.existsById(postId)) {
-            throw new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+        // 게시글에 속한 댓글 삭제 (게시글 존재 여부와 소속 확인 포함)
+        if (commentRepository.deleteByIdAndPostId(commentId, postId) == 0) {
+            throw notFound(postId, commentId);
         }
 
-        // 댓글 조회
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
+        // 댓글 수 감소
+        postRepository.addCommentCount(postId, -1);
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, CommentEventType.DELETED, commentId, null));
+    }
 
-        // 댓글이 해당 게시글에 속하는지 확인
-        if (!comment.getPost().getId().equals(postId)) {
-            throw new IllegalArgumentException("해당 게시글에 속한 댓글이 아닙니다. 게시글 ID: " + postId + ", 댓글 ID: " + commentId);
+    /**
+     * 게시글에 속한 댓글을 찾지 못한 원인에 맞는 예외 생성
+     * 정상 경로는 한 번의 쿼리로 처리하고, 실패한 경우에만 원인을 구분하기 위해 추가로 조회합니다.
+     */
+    private RuntimeException notFound(Long postId, Long commentId) {
+        if (!postRepository.existsById(postId)) {
+            return new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
         }
+        if (commentRepository.existsById(commentId)) {
+            return new IllegalArgumentException("해당 게시글에 속한 댓글이 아닙니다. 게시글 ID: " + postId + ", 댓글 ID: " + commentId);
+        }
+        return new CommentNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId);
+    }
 
-        // 댓글 삭제
-        commentRepository.deleteById(commentId);
+    /**
+     * 댓글 변경 이벤트
+     * 트랜잭션 커밋 후 댓글 캐시 제거와 실시간 스트림 전달에 사용됩니다.
+     *
+     * @param postId 게시글 ID
+     * @param type 변경 종류
+     * @param commentId 댓글 ID
+     * @param comment 변경된 댓글 (삭제 시 null)
+     */
+    public record CommentChangedEvent(Long postId, CommentEventType type, Long commentId, CommentResponse comment) {
     }
 }
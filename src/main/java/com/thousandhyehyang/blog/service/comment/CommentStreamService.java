@@ -0,0 +1,314 @@
+package com.thousandhyehyang.blog.service.comment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.dto.comment.CommentStreamEvent;
+import com.thousandhyehyang.blog.exception.CommentStreamLimitExceededException;
+import com.thousandhyehyang.blog.exception.PostNotFoundException;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 댓글 스트림 서비스
+ * 게시글별 SSE 구독을 관리하고 댓글 생성/수정/삭제 이벤트를 구독자에게 전달합니다.
+ *
+ * 1. 댓글 변경 트랜잭션이 커밋되면 이벤트를 Redis 채널에 발행합니다.
+ * 2. 모든 인스턴스가 채널을 구독하여, 자신에게 연결된 해당 게시글 구독자에게만 전달합니다.
+ * 3. 구독자마다 크기가 제한된 버퍼를 두고 전송 스레드 풀에서 순서대로 전송합니다.
+ *    버퍼가 가득 찬 느린 구독자는 연결을 종료하며, 클라이언트는 재연결 후 첫 페이지를 다시 조회합니다.
+ * 4. 인스턴스당 동시 구독 수를 게시글별, 전체로 제한하여 연결이 메모리와 전송 스레드를 독점하지 않도록 합니다.
+ */
+@Service
+public class CommentStreamService implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentStreamService.class);
+
+    static final String CHANNEL = "comment-events";
+
+    // 구독자별 전송 대기 버퍼 크기
+    static final int BUFFER_SIZE = 64;
+
+    // SSE 연결 최대 유지 시간 (만료 시 클라이언트가 자동 재연결)
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    // 프록시의 유휴 연결 종료를 막기 위한 하트비트 주기
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 15_000L;
+
+    // 인스턴스당 게시글별 최대 구독 수
+    static final int MAX_SUBSCRIBERS_PER_POST = 100;
+
+    // 인스턴스당 전체 최대 구독 수
+    static final int MAX_SUBSCRIBERS = 1000;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+
+    public CommentStreamService(PostRepository postRepository,
+                                RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                ObjectMapper objectMapper,
+                                @Qualifier("commentStreamExecutor") Executor executor) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    @PostConstruct
+    void registerListener() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 게시글 댓글 스트림 구독
+     *
+     * @param postId 게시글 ID
+     * @return SSE 연결
+     * @throws PostNotFoundException 게시글을 찾을 수 없는 경우
+     * @throws CommentStreamLimitExceededException 게시글별 또는 전체 구독 수가 한도에 도달한 경우
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(postId, emitter);
+        register(subscriber);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        // 연결 직후 응답 헤더가 바로 전송되도록 첫 이벤트 전송
+        deliver(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * 댓글 변경 트랜잭션 커밋 후 Redis 채널에 이벤트 발행
+     * 롤백된 변경이 전달되지 않도록 커밋 이후에 발행합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCommentChanged(CommentService.CommentChangedEvent event) {
+        CommentStreamEvent message = new CommentStreamEvent(
+                event.postId(), event.type(), event.commentId(), event.comment());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 실시간 전달 실패는 댓글 처리에 영향을 주지 않음 (클라이언트는 재조회로 복구)
+            log.warn("댓글 이벤트 발행 실패: 게시글_ID={}, 댓글_ID={}", event.postId(), event.commentId(), e);
+        }
+    }
+
+    /**
+     * Redis 채널 메시지 수신
+     * 이 인스턴스에 연결된 해당 게시글 구독자에게 이벤트를 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CommentStreamEvent event;
+        try {
+            event = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), CommentStreamEvent.class);
+        } catch (IOException e) {
+            log.warn("댓글 이벤트 메시지 해석 실패", e);
+            return;
+        }
+
+        Set<Subscriber> targets = subscribers.get(event.postId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        for (Subscriber subscriber : targets) {
+            deliver(subscriber, SseEmitter.event()
+                    .name(event.type().name().toLowerCase())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * 모든 구독자에게 하트비트 전송
+     * 하트비트도 버퍼를 거치므로, 버퍼가 가득 찬 채로 남아 있는 구독자도 이 시점에 정리됩니다.
+     */
+    @Scheduled(fixedRate = HEARTBEAT_INTERVAL_MILLIS)
+    public void sendHeartbeats() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                deliver(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    /**
+     * 게시글의 현재 구독자 수 (이 인스턴스 기준)
+     *
+     * @param postId 게시글 ID
+     * @return 구독자 수
+     */
+    public int getSubscriberCount(Long postId) {
+        Set<Subscriber> targets = subscribers.get(postId);
+        return targets == null ? 0 : targets.size();
+    }
+
+    /**
+     * 현재 전체 구독자 수 (이 인스턴스 기준)
+     *
+     * @return 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 구독 수 한도를 확인하고 구독자 등록
+     * 전체 한도는 카운터를 먼저 올려 확인하고, 게시글별 한도는 게시글 단위로 원자적으로 확인합니다.
+     */
+    private void register(Subscriber subscriber) {
+        if (subscriberCount.incrementAndGet() > MAX_SUBSCRIBERS) {
+            subscriberCount.decrementAndGet();
+            throw new CommentStreamLimitExceededException("실시간 댓글 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        AtomicBoolean added = new AtomicBoolean(false);
+        subscribers.compute(subscriber.postId, (id, targets) -> {
+            Set<Subscriber> current = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            if (current.size() < MAX_SUBSCRIBERS_PER_POST) {
+                added.set(current.add(subscriber));
+            }
+            return current.isEmpty() ? null : current;
+        });
+
+        if (!added.get()) {
+            subscriberCount.decrementAndGet();
+            throw new CommentStreamLimitExceededException("이 게시글의 실시간 댓글 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 구독자 버퍼에 이벤트를 넣고 전송 예약
+     * 버퍼가 가득 차면 더 기다리지 않고 구독을 종료합니다.
+     */
+    private void deliver(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            log.info("댓글 스트림 구독자 버퍼 초과로 연결 종료: 게시글_ID={}", subscriber.postId);
+            close(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    /**
+     * 구독자 전송 작업 예약
+     * 구독자당 전송 작업은 하나만 실행되어 이벤트 순서가 유지됩니다.
+     */
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            log.warn("댓글 스트림 전송 대기열이 가득 차 연결 종료: 게시글_ID={}", subscriber.postId);
+            close(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        SseEmitter.SseEventBuilder event;
+        while (!subscriber.closed && (event = subscriber.buffer.poll()) != null) {
+            try {
+                subscriber.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 끊김
+                close(subscriber);
+                return;
+            }
+        }
+        subscriber.draining.set(false);
+
+        // 전송 종료와 새 이벤트 추가가 겹친 경우 다시 예약
+        if (!subscriber.closed && !subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        subscriber.closed = true;
+        subscriber.buffer.clear();
+        remove(subscriber);
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 종료된 연결
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.postId, (id, targets) -> {
+            // 종료 콜백이 여러 번 호출되어도 한 번만 차감
+            if (targets.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    /**
+     * SSE 구독자
+     */
+    private static final class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean closed = false;
+
+        private Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+    }
+}
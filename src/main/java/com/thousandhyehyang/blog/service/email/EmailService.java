@@ -2,26 +2,30 @@ package com.thousandhyehyang.blog.service.email;
 
 import com.thousandhyehyang.blog.entity.Post;
 import com.thousandhyehyang.blog.entity.Subscriber;
+import com.thousandhyehyang.blog.enums.DeliveryMode;
 import com.thousandhyehyang.blog.enums.SubscriptionStatus;
 import com.thousandhyehyang.blog.exception.EmailSendException;
 import com.thousandhyehyang.blog.repository.SubscriberRepository;
+import com.thousandhyehyang.blog.service.subscription.SubscriptionService;
+import com.thousandhyehyang.blog.util.HtmlParser;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -29,6 +33,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmailService {
 
+    private static final String SENDER_ADDRESS = "ducogus12@gmail.com";
+
+    // 다이제스트 한 통의 숨은 참조 수신자 수 (SMTP 서버의 수신자 수 제한 이내)
+    static final int DIGEST_BCC_BATCH_SIZE = 50;
+
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
     private final SubscriberRepository subscriberRepository;
@@ -38,34 +47,30 @@ public class EmailService {
         log.info("[START] 새 게시글 알림 이메일 발송 시작: 제목={}, 작성자={}", post.getTitle(), post.getAuthor());
 
         try {
-            List<Subscriber> subscribers = subscriberRepository.findAllByStatus(SubscriptionStatus.SUBSCRIBED);
-            log.info("구독자 수: {}", subscribers.size());
+            // 모아 받기(일간/주간) 구독자는 다이제스트로 발송
+            List<Subscriber> subscribers = subscriberRepository.findAllByStatusAndDeliveryMode(
+                    SubscriptionStatus.SUBSCRIBED, DeliveryMode.INSTANT);
+            log.info("즉시 발송 구독자 수: {}", subscribers.size());
 
             String domain = "https://1000hyehyang.vercel.app";
+            String subject = post.getTitle();
+
+            // 구독자마다 내용이 같으므로 본문은 한 번만 렌더링
+            // 앞부분 HTML은 게시글 저장 시 계산된 값을 사용 (컬럼 추가 전 게시글만 여기서 추출)
+            String excerpt = post.getExcerptHtml() != null
+                    ? post.getExcerptHtml()
+                    : HtmlParser.extractExcerptHtml(post.getHtml());
+
+            Context context = new Context();
+            context.setVariable("postThumbnail", post.getThumbnailUrl());
+            context.setVariable("postTitle", post.getTitle());
+            context.setVariable("postExcerpt", excerpt);
+            context.setVariable("postLink", domain + "/post/" + post.getId());
+
+            String content = templateEngine.process("new-post-notification", context);
 
             for (Subscriber subscriber : subscribers) {
                 String to = subscriber.getEmail();
-                String subject = post.getTitle();
-
-                String html = post.getHtml();
-                Document doc = Jsoup.parse(html);
-
-                Context context = new Context();
-                context.setVariable("postThumbnail", post.getThumbnailUrl());
-                context.setVariable("postTitle", post.getTitle());
-
-                // 앞부분에 해당하는 블록 요소 최대 3개만 추출
-                Elements blocks = doc.body().children();
-                StringBuilder excerptBuilder = new StringBuilder();
-                int maxBlocks = 3;
-                for (int i = 0; i < Math.min(maxBlocks, blocks.size()); i++) {
-                    Element block = blocks.get(i);
-                    excerptBuilder.append(block.outerHtml());
-                }
-                context.setVariable("postExcerpt", excerptBuilder.toString());
-                context.setVariable("postLink", "https://1000hyehyang.vercel.app/post/" + post.getId());
-
-                String content = templateEngine.process("new-post-notification", context);
 
                 log.info("이메일 전송 시도: to={}", to);
 
@@ -84,7 +89,20 @@ public class EmailService {
         }
     }
 
+    /**
+     * 구독 트랜잭션 커밋 후 확인 메일 발송
+     */
     @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSubscribed(SubscriptionService.SubscribedEvent event) {
+        try {
+            sendSubscriptionConfirmation(event.email());
+        } catch (EmailSendException e) {
+            // 구독은 이미 완료되었으므로 확인 메일 실패는 기록만 남김 (원인은 발송 시 기록)
+            log.warn("구독 확인 메일 발송 실패: {}", event.email());
+        }
+    }
+
     public void sendSubscriptionConfirmation(String email) {
         try {
             Context context = new Context();
@@ -101,16 +119,91 @@ public class EmailService {
         }
     }
 
+    /**
+     * 새 글 모음(다이제스트) 발송
+     * 본문은 한 번만 렌더링하고, 수신자를 숨은 참조(BCC) 묶음으로 나눠 묶음당 한 통씩 발송합니다.
+     * 한 묶음의 발송이 실패해도 나머지 묶음은 계속 발송하고, 실패한 묶음의 수신자를 결과로 돌려주어
+     * 호출자가 해당 수신자에게만 다시 발송할 수 있도록 합니다.
+     *
+     * @param subject 메일 제목
+     * @param posts 포함할 게시글 (발행 순)
+     * @param recipients 수신자 이메일 목록
+     * @return 발송 결과 (성공한 메일 수와 발송에 실패한 수신자)
+     */
+    public DigestResult sendDigest(String subject, List<Post> posts, List<String> recipients) {
+        if (posts.isEmpty() || recipients.isEmpty()) {
+            return new DigestResult(0, List.of());
+        }
+
+        String domain = "https://1000hyehyang.vercel.app";
+        List<DigestItem> items = posts.stream()
+                .map(post -> new DigestItem(
+                        post.getTitle(), post.getThumbnailUrl(), post.getContent(), domain + "/post/" + post.getId()))
+                .toList();
+
+        Context context = new Context();
+        context.setVariable("digestTitle", subject);
+        context.setVariable("posts", items);
+        String content = templateEngine.process("newsletter-digest", context);
+
+        int sent = 0;
+        List<String> failedRecipients = new ArrayList<>();
+        for (int from = 0; from < recipients.size(); from += DIGEST_BCC_BATCH_SIZE) {
+            List<String> batch = recipients.subList(from, Math.min(from + DIGEST_BCC_BATCH_SIZE, recipients.size()));
+            try {
+                MimeMessageHelper helper = createMessage(subject, content);
+                // 수신자끼리 주소가 노출되지 않도록 받는 사람은 발신 주소로 두고 구독자는 숨은 참조로 지정
+                helper.setTo(SENDER_ADDRESS);
+                helper.setBcc(batch.toArray(String[]::new));
+                mailSender.send(helper.getMimeMessage());
+                sent++;
+            } catch (Exception e) {
+                failedRecipients.addAll(batch);
+                log.error("다이제스트 메일 묶음 발송 실패: 수신자_수={} - {}", batch.size(), e.getMessage(), e);
+            }
+        }
+        log.info("다이제스트 메일 발송 완료: 제목={}, 게시글_수={}, 수신자_수={}, 메일_수={}, 실패_수신자_수={}",
+                subject, posts.size(), recipients.size(), sent, failedRecipients.size());
+
+        return new DigestResult(sent, List.copyOf(failedRecipients));
+    }
+
     private void sendEmail(String to, String subject, String content) throws MessagingException, UnsupportedEncodingException {
         log.info("📤 Sending email to {}", to);
+        MimeMessageHelper helper = createMessage(subject, content);
+        helper.setTo(to);
+
+        mailSender.send(helper.getMimeMessage());
+    }
+
+    private MimeMessageHelper createMessage(String subject, String content) throws MessagingException, UnsupportedEncodingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
-        helper.setFrom(new InternetAddress("ducogus12@gmail.com", "천혜향", "UTF-8"));
-        helper.setTo(to);
+        helper.setFrom(new InternetAddress(SENDER_ADDRESS, "천혜향", "UTF-8"));
         helper.setSubject(subject);
         helper.setText(content, true);
+        return helper;
+    }
+
+    /**
+     * 다이제스트 발송 결과
+     *
+     * @param sent 발송에 성공한 메일 수
+     * @param failedRecipients 발송에 실패한 묶음의 수신자
+     */
+    public record DigestResult(int sent, List<String> failedRecipients) {
+    }
 
-        mailSender.send(message);
+    /**
+     * 다이제스트 템플릿에 전달할 게시글 항목 (템플릿에서 getter로 접근)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DigestItem {
+        private final String title;
+        private final String thumbnailUrl;
+        private final String summary;
+        private final String link;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.thousandhyehyang.blog.service.email;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.entity.JobRun;
+import com.thousandhyehyang.blog.entity.Post;
+import com.thousandhyehyang.blog.entity.Subscriber;
+import com.thousandhyehyang.blog.enums.DeliveryMode;
+import com.thousandhyehyang.blog.enums.JobRunStatus;
+import com.thousandhyehyang.blog.enums.SubscriptionStatus;
+import com.thousandhyehyang.blog.exception.EmailSendException;
+import com.thousandhyehyang.blog.repository.JobRunRepository;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.repository.SubscriberRepository;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 뉴스레터 다이제스트 서비스
+ * 일간/주간 모아 받기 구독자에게 이전 발송 이후 발행된 새 글을 한 통의 메일로 묶어 보냅니다.
+ *
+ * 1. 여러 노드 중 락을 획득한 한 노드만 발송합니다.
+ * 2. 발송 구간은 마지막 성공 실행의 시작 시각부터 이번 실행 시각까지이며, 정시 단위로 맞춰 구간이 겹치거나 비지 않도록 합니다.
+ *    (실패한 실행은 구간을 넘기지 않으므로 다음 실행에서 다시 포함됩니다)
+ * 3. 본문은 한 번만 렌더링하고, 구독자를 숨은 참조 묶음으로 나눠 묶음당 한 통씩 발송합니다.
+ * 4. 일부 묶음만 실패하면 구간은 넘기고, 실패한 수신자만 Redis에 기록해 다음 실행에서 해당 구간으로 다시 발송합니다.
+ *    (이미 받은 수신자에게 중복 발송하지 않으며, 계속 실패하는 수신자는 정해진 횟수 후 포기합니다)
+ */
+@Service
+public class NewsletterDigestService {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsletterDigestService.class);
+
+    static final String DAILY_JOB = "newsletter-digest.daily";
+    static final String WEEKLY_JOB = "newsletter-digest.weekly";
+    private static final Duration LEASE_TTL = Duration.ofMinutes(10);
+
+    // 재발송 대기 목록 키 접두사 (작업별 JSON 배열)
+    static final String RETRY_KEY_PREFIX = "digest_retry:";
+
+    // 수신자별 최대 발송 시도 횟수 (첫 발송 포함)
+    static final int MAX_DELIVERY_ATTEMPTS = 3;
+
+    private final PostRepository postRepository;
+    private final SubscriberRepository subscriberRepository;
+    private final JobRunRepository jobRunRepository;
+    private final JobLockService jobLockService;
+    private final EmailService emailService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NewsletterDigestService(PostRepository postRepository,
+                                   SubscriberRepository subscriberRepository,
+                                   JobRunRepository jobRunRepository,
+                                   JobLockService jobLockService,
+                                   EmailService emailService,
+                                   RedisTemplate<String, String> redisTemplate,
+                                   ObjectMapper objectMapper) {
+        this.postRepository = postRepository;
+        this.subscriberRepository = subscriberRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.jobLockService = jobLockService;
+        this.emailService = emailService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 일간 다이제스트 발송
+     *
+     * @return 발송한 메일 수
+     */
+    @Scheduled(cron = "0 0 8 * * ?") // 매일 오전 8시에 실행
+    public int sendDailyDigest() {
+        return run(DAILY_JOB, DeliveryMode.DAILY, Duration.ofDays(1), "[천혜향 블로그] 오늘의 새 글");
+    }
+
+    /**
+     * 주간 다이제스트 발송
+     *
+     * @return 발송한 메일 수
+     */
+    @Scheduled(cron = "0 0 8 * * MON") // 매주 월요일 오전 8시에 실행
+    public int sendWeeklyDigest() {
+        return run(WEEKLY_JOB, DeliveryMode.WEEKLY, Duration.ofDays(7), "[천혜향 블로그] 이번 주 새 글");
+    }
+
+    private int run(String jobName, DeliveryMode mode, Duration period, String subject) {
+        try {
+            // 늦게 스케줄이 실행된 노드가 같은 다이제스트를 다시 발송하지 않도록 주기당 한 번만 실행
+            return jobLockService.runOncePerPeriod(jobName, jobName, LEASE_TTL, period,
+                    lease -> send(lease, jobName, mode, period, subject));
+        } catch (RuntimeException e) {
+            log.error("다이제스트 발송 실패: 작업={}", jobName, e);
+            return 0;
+        }
+    }
+
+    private int send(JobLease lease, String jobName, DeliveryMode mode, Duration period, String subject) {
+        // 이전 실행에서 실패한 수신자에게 먼저 해당 구간의 다이제스트를 다시 발송
+        List<String> recipients = null;
+        int sent = 0;
+        List<PendingDelivery> pending = loadPending(jobName);
+        List<PendingDelivery> remaining = new ArrayList<>();
+        if (!pending.isEmpty()) {
+            recipients = findRecipients(mode);
+            sent += retry(lease, subject, pending, new HashSet<>(recipients), remaining);
+            savePending(lease, jobName, period, remaining);
+        }
+
+        LocalDateTime windowEnd = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime windowStart = jobRunRepository
+                .findTopByJobNameAndStatusOrderByStartedAtDesc(jobName, JobRunStatus.SUCCEEDED)
+                .map(JobRun::getStartedAt)
+                .map(startedAt -> startedAt.truncatedTo(ChronoUnit.HOURS))
+                .orElse(windowEnd.minus(period));
+        if (!windowStart.isBefore(windowEnd)) {
+            return sent;
+        }
+
+        List<Post> posts = postRepository.findPublishedBetween(windowStart, windowEnd);
+        if (posts.isEmpty()) {
+            log.info("다이제스트 발송 대상 게시글 없음: 작업={}, 구간={}~{}", jobName, windowStart, windowEnd);
+            return sent;
+        }
+
+        if (recipients == null) {
+            recipients = findRecipients(mode);
+        }
+        if (recipients.isEmpty()) {
+            return sent;
+        }
+
+        // 락을 잃은 상태에서 다른 노드와 중복 발송하지 않도록 발송 직전에 확인
+        jobLockService.ensureHeld(lease, LEASE_TTL);
+        EmailService.DigestResult result = emailService.sendDigest(subject + " " + posts.size() + "편", posts, recipients);
+        if (result.failedRecipients().isEmpty()) {
+            return sent + result.sent();
+        }
+
+        // 모든 묶음이 실패하면 받은 수신자가 없으므로 실행을 실패로 기록하여 다음 실행에서 같은 구간을 다시 발송
+        if (result.sent() == 0) {
+            throw new EmailSendException("다이제스트 메일 발송에 모두 실패했습니다: 작업=" + jobName);
+        }
+
+        // 일부만 실패하면 구간은 넘기고 실패한 수신자만 다음 실행에서 다시 발송
+        remaining.add(new PendingDelivery(windowStart, windowEnd, result.failedRecipients(), 1));
+        savePending(lease, jobName, period, remaining);
+        return sent + result.sent();
+    }
+
+    /**
+     * 재발송 대기 수신자에게 발송
+     * 구독을 해지했거나 모드를 바꾼 수신자는 제외하고, 다시 실패한 수신자는 최대 시도 횟수 전까지 대기 목록에 남깁니다.
+     *
+     * @param remaining 다시 실패하여 대기 목록에 남길 항목을 담을 목록
+     * @return 발송한 메일 수
+     */
+    private int retry(JobLease lease, String subject, List<PendingDelivery> pending, Set<String> subscribed,
+                      List<PendingDelivery> remaining) {
+        int sent = 0;
+        for (PendingDelivery delivery : pending) {
+            List<String> targets = delivery.recipients().stream().filter(subscribed::contains).toList();
+            List<Post> posts = targets.isEmpty()
+                    ? List.of()
+                    : postRepository.findPublishedBetween(delivery.windowStart(), delivery.windowEnd());
+            if (posts.isEmpty()) {
+                continue;
+            }
+
+            jobLockService.ensureHeld(lease, LEASE_TTL);
+            EmailService.DigestResult result = emailService.sendDigest(subject + " " + posts.size() + "편", posts, targets);
+            sent += result.sent();
+            if (result.failedRecipients().isEmpty()) {
+                continue;
+            }
+
+            int attempts = delivery.attempts() + 1;
+            if (attempts >= MAX_DELIVERY_ATTEMPTS) {
+                log.error("다이제스트 재발송을 포기합니다: 구간={}~{}, 수신자_수={}, 시도_횟수={}",
+                        delivery.windowStart(), delivery.windowEnd(), result.failedRecipients().size(), attempts);
+            } else {
+                remaining.add(new PendingDelivery(
+                        delivery.windowStart(), delivery.windowEnd(), result.failedRecipients(), attempts));
+            }
+        }
+        return sent;
+    }
+
+    private List<String> findRecipients(DeliveryMode mode) {
+        return subscriberRepository
+                .findAllByStatusAndDeliveryMode(SubscriptionStatus.SUBSCRIBED, mode)
+                .stream()
+                .map(Subscriber::getEmail)
+                .toList();
+    }
+
+    private List<PendingDelivery> loadPending(String jobName) {
+        String json = redisTemplate.opsForValue().get(RETRY_KEY_PREFIX + jobName);
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<PendingDelivery>>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("다이제스트 재발송 목록을 읽을 수 없어 무시합니다: 작업={}", jobName, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 재발송 대기 목록 저장
+     * 최대 시도 횟수만큼의 주기가 지나면 남은 항목도 만료됩니다.
+     */
+    private void savePending(JobLease lease, String jobName, Duration period, List<PendingDelivery> pending) {
+        jobLockService.ensureHeld(lease, LEASE_TTL);
+        String key = RETRY_KEY_PREFIX + jobName;
+        if (pending.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(pending),
+                    period.multipliedBy(MAX_DELIVERY_ATTEMPTS + 1L));
+        } catch (JsonProcessingException e) {
+            throw new EmailSendException("다이제스트 재발송 목록 저장 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 재발송 대기 항목
+     *
+     * @param windowStart 발송 구간 시작
+     * @param windowEnd 발송 구간 끝
+     * @param recipients 발송에 실패한 수신자
+     * @param attempts 지금까지 실패한 발송 시도 횟수
+     */
+    record PendingDelivery(LocalDateTime windowStart, LocalDateTime windowEnd, List<String> recipients, int attempts) {
+    }
+}
@@ -1,116 +1,114 @@
 package com.thousandhyehyang.blog.service.file;
 
+import com.thousandhyehyang.blog.entity.FileDeletionCandidate;
 import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.repository.FileDeletionCandidateRepository;
 import com.thousandhyehyang.blog.repository.FileMetadataRepository;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
 
 /**
  * 고아 파일 정리 서비스
  * 주기적으로 실행되어 어떤 게시글에도 연결되지 않은 파일을 정리합니다.
+ * 고아 파일은 청크 단위로 조회하여 청크마다 메타데이터 삭제를 커밋한 뒤 스토리지에서 일괄 삭제합니다.
+ * 작업이 중간에 중단되더라도 이미 처리된 청크는 반영되어 있으므로 다음 실행에서 이어서 진행됩니다.
+ * 게시글 삭제 시 등록된 삭제 후보 큐는 몇 분 간격으로 비워지므로, 대부분의 고아 파일은 야간 전체 검사 전에 정리됩니다.
+ * 여러 인스턴스에서 실행되더라도 분산 락으로 작업(샤드)마다 한 노드만 실행하며,
+ * 청크를 커밋하기 전마다 락을 연장하고 펜싱 토큰을 확인합니다.
  */
 @Service
 public class FileCleanupService {
 
     private static final Logger log = LoggerFactory.getLogger(FileCleanupService.class);
-    
+
+    // 한 번에 처리할 고아 파일 수 (DeleteObjects 요청 한도와 동일)
+    private static final int CHUNK_SIZE = FileUploadService.MAX_DELETE_BATCH_SIZE;
+
+    private static final String ORPHAN_SCAN_JOB = "file-cleanup.orphan-scan";
+    private static final String DELETION_QUEUE_JOB = "file-cleanup.deletion-queue";
+
+    // 락 임대 시간 (청크마다 연장되므로 한 청크 처리 시간보다 충분히 길면 됨)
+    private static final Duration LEASE_TTL = Duration.ofMinutes(5);
+
+    // 고아 파일 정리 작업 실행 주기
+    private static final Duration ORPHAN_SCAN_PERIOD = Duration.ofDays(1);
+
     private final FileMetadataRepository fileMetadataRepository;
+    private final FileDeletionCandidateRepository fileDeletionCandidateRepository;
     private final FileUploadService fileUploadService;
-    
-    public FileCleanupService(FileMetadataRepository fileMetadataRepository, FileUploadService fileUploadService) {
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockService jobLockService;
+    private final int shardCount;
+
+    public FileCleanupService(FileMetadataRepository fileMetadataRepository,
+                              FileDeletionCandidateRepository fileDeletionCandidateRepository,
+                              FileUploadService fileUploadService,
+                              TransactionTemplate transactionTemplate,
+                              JobLockService jobLockService,
+                              @Value("${app.file-cleanup.shard-count:1}") int shardCount) {
         this.fileMetadataRepository = fileMetadataRepository;
+        this.fileDeletionCandidateRepository = fileDeletionCandidateRepository;
         this.fileUploadService = fileUploadService;
+        this.transactionTemplate = transactionTemplate;
+        this.jobLockService = jobLockService;
+        this.shardCount = Math.max(1, shardCount);
     }
-    
+
     /**
      * 고아 파일 정리 작업
      * 매일 새벽 3시에 실행되어 생성된 지 24시간이 지났으나 어떤 게시글에도 연결되지 않은 파일을 삭제합니다.
      */
     @Scheduled(cron = "0 0 3 * * ?") // 매일 새벽 3시에 실행
-    @Transactional
     public void cleanupOrphanedFiles() {
         log.info("고아 파일 정리 작업 시작");
-        
+
         try {
             // 24시간 전 시간 계산
             LocalDateTime cutoffDate = LocalDateTime.now().minusHours(24);
-            
-            // 고아 파일 조회
-            List<FileMetadata> orphanedFiles = fileMetadataRepository.findOrphanedFiles(cutoffDate);
-            
-            if (orphanedFiles.isEmpty()) {
-                log.info("삭제할 고아 파일이 없습니다.");
-                return;
-            }
-            
-            log.info("총 {}개의 고아 파일을 삭제합니다.", orphanedFiles.size());
-            
-            // 파일 삭제 처리
-            for (FileMetadata file : orphanedFiles) {
-                try {
-                    // 스토리지에서 파일 삭제 및 메타데이터 삭제
-                    fileUploadService.deleteFile(file.getId());
-                    log.info("고아 파일 삭제 완료: ID={}, 파일명={}, 스토리지키={}", 
-                            file.getId(), file.getOriginalFilename(), file.getStorageKey());
-                } catch (Exception e) {
-                    log.error("고아 파일 삭제 중 오류 발생: ID={}, 파일명={}", 
-                            file.getId(), file.getOriginalFilename(), e);
-                }
-            }
-            
-            log.info("고아 파일 정리 작업 완료: {}개 파일 삭제됨", orphanedFiles.size());
+
+            int deletedCount = purgeOrphanedFilesInShards(cutoffDate, true);
+
+            log.info("고아 파일 정리 작업 완료: {}개 파일 삭제됨", deletedCount);
         } catch (Exception e) {
             log.error("고아 파일 정리 작업 중 오류 발생", e);
         }
     }
-    
+
     /**
      * 수동 고아 파일 정리 작업
      * 특정 기간(시간) 이전에 생성된 고아 파일을 삭제합니다.
-     * 
+     *
      * @param hours 생성 후 경과 시간 (시간 단위)
      * @return 삭제된 파일 수
      */
-    @Transactional
     public int cleanupOrphanedFiles(int hours) {
         log.info("수동 고아 파일 정리 작업 시작: {}시간 이전 파일 대상", hours);
-        
+
         try {
             // 지정된 시간 전 계산
             LocalDateTime cutoffDate = LocalDateTime.now().minusHours(hours);
-            
-            // 고아 파일 조회
-            List<FileMetadata> orphanedFiles = fileMetadataRepository.findOrphanedFiles(cutoffDate);
-            
-            if (orphanedFiles.isEmpty()) {
-                log.info("삭제할 고아 파일이 없습니다.");
-                return 0;
-            }
-            
-            log.info("총 {}개의 고아 파일을 삭제합니다.", orphanedFiles.size());
-            
-            // 파일 삭제 처리
-            int deletedCount = 0;
-            for (FileMetadata file : orphanedFiles) {
-                try {
-                    // 스토리지에서 파일 삭제 및 메타데이터 삭제
-                    fileUploadService.deleteFile(file.getId());
-                    deletedCount++;
-                    log.info("고아 파일 삭제 완료: ID={}, 파일명={}", 
-                            file.getId(), file.getOriginalFilename());
-                } catch (Exception e) {
-                    log.error("고아 파일 삭제 중 오류 발생: ID={}, 파일명={}", 
-                            file.getId(), file.getOriginalFilename(), e);
-                }
-            }
-            
+
+            int deletedCount = purgeOrphanedFilesInShards(cutoffDate, false);
+
             log.info("수동 고아 파일 정리 작업 완료: {}개 파일 삭제됨", deletedCount);
             return deletedCount;
         } catch (Exception e) {
@@ -118,4 +116,248 @@ public class FileCleanupService {
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 삭제 후보 큐 처리 작업
+     * 5분 간격으로 실행되어 게시글 삭제 시 등록된 삭제 후보 파일을 배치 단위로 정리합니다.
+     *
+     * @return 삭제된 파일 수
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 60000) // 이전 실행 종료 5분 후 실행
+    public int drainDeletionQueue() {
+        try {
+            int deletedCount = jobLockService.runExclusively(
+                    DELETION_QUEUE_JOB, DELETION_QUEUE_JOB, LEASE_TTL, this::drainCandidates);
+
+            if (deletedCount > 0) {
+                log.info("삭제 후보 큐 처리 완료: {}개 파일 삭제됨", deletedCount);
+            }
+            return deletedCount;
+        } catch (Exception e) {
+            log.error("삭제 후보 큐 처리 중 오류 발생", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 삭제 후보 큐를 배치 단위로 처리
+     *
+     * @param lease 작업 락 임대 정보
+     * @return 삭제된 파일 수
+     */
+    private int drainCandidates(JobLease lease) {
+        int deletedCount = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<FileDeletionCandidate> candidates = fileDeletionCandidateRepository
+                    .findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, CHUNK_SIZE));
+
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            lastId = candidates.get(candidates.size() - 1).getId();
+            deletedCount += deleteCandidates(candidates, lease);
+
+            if (candidates.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        return deletedCount;
+    }
+
+    /**
+     * 삭제 후보 배치 처리
+     * 고아 여부 재확인과 메타데이터 삭제를 파일 행을 잠근 하나의 트랜잭션에서 처리하여,
+     * 그 사이에 파일이 다시 게시글에 연결되면서 스토리지 객체만 지워지는 일이 없도록 합니다.
+     * (게시글 매핑 추가는 잠긴 파일 행을 기다렸다가 커밋 후에는 파일이 없으므로 실패함)
+     * 등록 이후 다시 게시글에 연결되었거나 이미 삭제된 파일은 후보에서만 제거됩니다.
+     * 스토리지 객체는 메타데이터 삭제가 커밋된 후에 삭제하며, 실패한 객체는 참조가 없으므로 로그만 남깁니다.
+     *
+     * @param candidates 처리할 삭제 후보 목록
+     * @param lease 작업 락 임대 정보
+     * @return 삭제된 파일 수
+     */
+    private int deleteCandidates(List<FileDeletionCandidate> candidates, JobLease lease) {
+        List<Long> fileIds = candidates.stream()
+                .map(FileDeletionCandidate::getFileId)
+                .toList();
+        List<Long> candidateIds = candidates.stream()
+                .map(FileDeletionCandidate::getId)
+                .toList();
+
+        // 메타데이터 삭제 전에 락 연장 및 펜싱 토큰 확인
+        jobLockService.ensureHeld(lease, LEASE_TTL);
+
+        Map<String, Long> fileIdByKey = transactionTemplate.execute(status -> {
+            Map<String, Long> storageKeys = deleteOrphanedMetadata(fileIds);
+            fileDeletionCandidateRepository.deleteAllByIdInBatch(candidateIds);
+            return storageKeys;
+        });
+
+        return deleteStorageObjects(fileIdByKey);
+    }
+
+    /**
+     * 샤드별 고아 파일 삭제
+     * 샤드마다 별도의 락을 두어 여러 노드가 서로 다른 샤드를 동시에 처리할 수 있도록 합니다.
+     * 노드마다 임의의 샤드부터 시작하며, 다른 노드가 보유 중인 샤드는 건너뜁니다.
+     * 정기 실행에서는 이미 오늘 처리된 샤드도 건너뛰며, 수동 실행은 항상 처리합니다.
+     *
+     * @param cutoffDate 기준 날짜 (이 날짜 이전에 생성된 파일만 대상)
+     * @param scheduled 정기 실행 여부
+     * @return 이 노드에서 삭제된 파일 수
+     */
+    private int purgeOrphanedFilesInShards(LocalDateTime cutoffDate, boolean scheduled) {
+        int deletedCount = 0;
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (start + i) % shardCount;
+            String lockName = ORPHAN_SCAN_JOB + ":" + shard;
+            ToIntFunction<JobLease> work = lease -> purgeOrphanedFiles(cutoffDate, shard, lease);
+            deletedCount += scheduled
+                    ? jobLockService.runOncePerPeriod(ORPHAN_SCAN_JOB, lockName, LEASE_TTL, ORPHAN_SCAN_PERIOD, work)
+                    : jobLockService.runExclusively(ORPHAN_SCAN_JOB, lockName, LEASE_TTL, work);
+        }
+
+        return deletedCount;
+    }
+
+    /**
+     * 고아 파일 청크 단위 삭제
+     * 파일 ID 순으로 청크를 조회하여 더 이상 조회되는 고아 파일이 없을 때까지 반복합니다.
+     *
+     * @param cutoffDate 기준 날짜 (이 날짜 이전에 생성된 파일만 대상)
+     * @param shard 처리할 샤드 번호
+     * @param lease 샤드 락 임대 정보
+     * @return 삭제된 파일 수
+     */
+    private int purgeOrphanedFiles(LocalDateTime cutoffDate, int shard, JobLease lease) {
+        int deletedCount = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<FileMetadata> chunk = fileMetadataRepository.findOrphanedFiles(
+                    cutoffDate, lastId, shard, shardCount, PageRequest.of(0, CHUNK_SIZE));
+
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            lastId = chunk.get(chunk.size() - 1).getId();
+            deletedCount += deleteChunk(chunk, lease);
+
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        return deletedCount;
+    }
+
+    /**
+     * 고아 파일 청크 삭제
+     * 삭제 후보 큐와 마찬가지로 파일 행을 잠근 트랜잭션에서 고아 여부를 다시 확인하고 메타데이터를 먼저 삭제합니다.
+     * 청크를 조회한 뒤 파일이 다시 게시글에 연결되었다면 건너뛰므로, 게시글이 참조하는 객체를 지우지 않습니다.
+     * 스토리지 객체는 메타데이터 삭제가 커밋된 후에 삭제합니다.
+     *
+     * @param chunk 삭제할 고아 파일 목록
+     * @param lease 샤드 락 임대 정보
+     * @return 삭제된 파일 수
+     */
+    private int deleteChunk(List<FileMetadata> chunk, JobLease lease) {
+        List<Long> fileIds = chunk.stream()
+                .map(FileMetadata::getId)
+                .toList();
+
+        // 메타데이터 삭제 전에 락 연장 및 펜싱 토큰 확인
+        jobLockService.ensureHeld(lease, LEASE_TTL);
+
+        // 청크 단위로 메타데이터 일괄 삭제 후 커밋
+        Map<String, Long> fileIdByKey = transactionTemplate.execute(status -> deleteOrphanedMetadata(fileIds));
+
+        int deletedCount = deleteStorageObjects(fileIdByKey);
+        if (deletedCount > 0) {
+            log.info("고아 파일 청크 삭제 완료: {}개 파일 (마지막_ID={})", deletedCount, fileIds.get(fileIds.size() - 1));
+        }
+        return deletedCount;
+    }
+
+    /**
+     * 고아 여부를 재확인한 파일의 메타데이터 삭제
+     * 파일 행을 잠가 그 사이에 게시글 매핑이 추가되지 않도록 합니다.
+     * (게시글 매핑 추가는 잠긴 파일 행을 기다렸다가 커밋 후에는 파일이 없으므로 실패함)
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param fileIds 삭제할 파일 ID 목록
+     * @return 삭제된 파일의 저장소 키별 파일 ID
+     */
+    private Map<String, Long> deleteOrphanedMetadata(List<Long> fileIds) {
+        // 고아 여부 재확인 (파일 행 잠금)
+        List<FileMetadata> orphanedFiles = fileMetadataRepository.findOrphanedFilesByIdIn(fileIds);
+        if (orphanedFiles.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> fileIdByKey = collectStorageKeys(orphanedFiles);
+        deleteMetadata(orphanedFiles.stream()
+                .map(FileMetadata::getId)
+                .toList());
+        return fileIdByKey;
+    }
+
+    /**
+     * 메타데이터 삭제가 커밋된 파일과 이미지 파생본의 스토리지 객체 일괄 삭제
+     * 실패한 객체는 더 이상 참조가 없으므로 로그만 남깁니다.
+     *
+     * @param fileIdByKey 저장소 키별 파일 ID
+     * @return 삭제된 파일 수
+     */
+    private int deleteStorageObjects(Map<String, Long> fileIdByKey) {
+        if (fileIdByKey == null || fileIdByKey.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> failedKeys = fileUploadService.deleteObjects(new ArrayList<>(fileIdByKey.keySet()));
+        if (!failedKeys.isEmpty()) {
+            log.warn("메타데이터는 삭제되었으나 스토리지에서 삭제되지 않은 객체: {}", failedKeys);
+        }
+
+        return new HashSet<>(fileIdByKey.values()).size();
+    }
+
+    /**
+     * 파일과 이미지 파생본의 저장소 키 조회
+     *
+     * @param files 파일 목록
+     * @return 저장소 키별 파일 ID (원본 다음에 파생본 순서)
+     */
+    private Map<String, Long> collectStorageKeys(List<FileMetadata> files) {
+        List<Long> fileIds = files.stream()
+                .map(FileMetadata::getId)
+                .toList();
+
+        Map<String, Long> fileIdByKey = new LinkedHashMap<>();
+        for (FileMetadata file : files) {
+            fileIdByKey.put(file.getStorageKey(), file.getId());
+        }
+        for (FileMetadataRepository.VariantKey variant : fileMetadataRepository.findVariantKeysByFileIdIn(fileIds)) {
+            fileIdByKey.put(variant.getStorageKey(), variant.getFileId());
+        }
+        return fileIdByKey;
+    }
+
+    /**
+     * 파일 메타데이터 일괄 삭제 (파생본 정보 포함)
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param fileIds 삭제할 파일 ID 목록
+     */
+    private void deleteMetadata(List<Long> fileIds) {
+        fileMetadataRepository.deleteVariantsByFileIdIn(fileIds);
+        fileMetadataRepository.deleteAllByIdInBatch(fileIds);
+    }
+}
@@ -3,35 +3,58 @@ package com.thousandhyehyang.blog.service.file;
 import com.thousandhyehyang.blog.config.R2Properties;
 import com.thousandhyehyang.blog.dto.file.FileUploadResponse;
 import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.entity.ImageVariant;
 import com.thousandhyehyang.blog.enums.UploadType;
 import com.thousandhyehyang.blog.exception.FileUploadException;
 import com.thousandhyehyang.blog.repository.FileMetadataRepository;
 import com.thousandhyehyang.blog.util.FileValidator;
 import com.thousandhyehyang.blog.common.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class FileUploadService {
 
+    private static final Logger log = LoggerFactory.getLogger(FileUploadService.class);
+
+    // DeleteObjects 요청 한 번에 보낼 수 있는 최대 키 수
+    static final int MAX_DELETE_BATCH_SIZE = 1000;
+
     private final S3Client s3Client;
     private final R2Properties r2Properties;
     private final FileMetadataRepository fileMetadataRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public FileUploadService(S3Client s3Client, R2Properties r2Properties, FileMetadataRepository fileMetadataRepository) {
+    public FileUploadService(S3Client s3Client, R2Properties r2Properties, FileMetadataRepository fileMetadataRepository,
+                             ApplicationEventPublisher eventPublisher) {
         this.s3Client = s3Client;
         this.r2Properties = r2Properties;
         this.fileMetadataRepository = fileMetadataRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -39,10 +62,38 @@ public class FileUploadService {
         FileValidator.validateByType(file, type);
 
         String originalFilename = file.getOriginalFilename();
-        String extension = sanitizeFilename(originalFilename);
 
-        // 동일한 이름의 파일이 이미 존재하는지 확인
-        Optional<FileMetadata> existingFile = fileMetadataRepository.findTopByOriginalFilenameOrderByVersionDesc(originalFilename);
+        // 저장소 키 생성
+        String key = buildStorageKey(type, originalFilename);
+
+        // S3/R2에 파일 업로드
+        byte[] content;
+        try {
+            content = file.getBytes();
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(r2Properties.getBucket())
+                    .key(key)
+                    .contentType(file.getContentType())
+                    .build(), RequestBody.fromBytes(content));
+        } catch (IOException e) {
+            throw new FileUploadException("파일 업로드 중 오류 발생: " + e.getMessage());
+        }
+
+        FileMetadata metadata = saveMetadata(originalFilename, key, file.getContentType(), file.getSize(), type, content);
+
+        return new ApiResponse<>(new FileUploadResponse(metadata.getPublicUrl(), type.name(), originalFilename));
+    }
+
+    /**
+     * 저장소 키 생성
+     * 업로드 유형별 경로에 UUID와 원본 확장자를 붙여 키를 만듭니다.
+     *
+     * @param type 업로드 유형
+     * @param originalFilename 원본 파일명
+     * @return 저장소 키
+     */
+    public String buildStorageKey(UploadType type, String originalFilename) {
+        String extension = sanitizeFilename(originalFilename);
 
         // 파일용 UUID 생성
         String uuid = UUID.randomUUID().toString();
@@ -55,19 +106,27 @@ public class FileUploadService {
             case DOCUMENT -> r2Properties.getDocumentPath();
         };
 
-        // 저장소 키 생성
-        String key = prefix + uuid + (extension.isEmpty() ? "" : "." + extension);
+        return prefix + uuid + (extension.isEmpty() ? "" : "." + extension);
+    }
 
-        // S3/R2에 파일 업로드
-        try {
-            s3Client.putObject(PutObjectRequest.builder()
-                    .bucket(r2Properties.getBucket())
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .build(), RequestBody.fromBytes(file.getBytes()));
-        } catch (IOException e) {
-            throw new FileUploadException("파일 업로드 중 오류 발생: " + e.getMessage());
-        }
+    /**
+     * 스토리지에 저장된 파일의 메타데이터 저장
+     * 동일한 원본 파일명이 있으면 버전을 올리고, 이미지인 경우 커밋 후 파생본 생성 이벤트를 발행합니다.
+     * 스토리지 작업을 마친 뒤 호출하면 메타데이터 저장만 하나의 트랜잭션으로 처리됩니다.
+     *
+     * @param originalFilename 원본 파일명
+     * @param key 저장소 키
+     * @param contentType MIME 타입
+     * @param size 파일 크기
+     * @param type 업로드 유형
+     * @param content 파일 내용 (없으면 파생본 생성 시 스토리지에서 다시 읽음)
+     * @return 저장된 파일 메타데이터
+     */
+    @Transactional
+    public FileMetadata saveMetadata(String originalFilename, String key, String contentType, long size,
+                                     UploadType type, byte[] content) {
+        // 동일한 이름의 파일이 이미 존재하는지 확인
+        Optional<FileMetadata> existingFile = fileMetadataRepository.findTopByOriginalFilenameOrderByVersionDesc(originalFilename);
 
         // 공개 URL 생성
         String url = r2Properties.getPublicUrl() + "/" + key;
@@ -76,8 +135,8 @@ public class FileUploadService {
         FileMetadata metadata = new FileMetadata(
                 originalFilename,
                 key,
-                file.getContentType(),
-                file.getSize(),
+                contentType,
+                size,
                 type,
                 url
         );
@@ -90,9 +149,15 @@ public class FileUploadService {
         }
 
         // 데이터베이스에 메타데이터 저장
-        fileMetadataRepository.save(metadata);
+        FileMetadata savedMetadata = fileMetadataRepository.save(metadata);
+
+        // 이미지인 경우 커밋 후 비동기로 파생본 생성
+        if (type == UploadType.THUMBNAIL || type == UploadType.EDITOR_IMAGE) {
+            eventPublisher.publishEvent(new ImageVariantService.ImageUploadedEvent(
+                    savedMetadata.getId(), key, contentType, content));
+        }
 
-        return new ApiResponse<>(new FileUploadResponse(url, type.name(), originalFilename));
+        return savedMetadata;
     }
 
     private String sanitizeFilename(String filename) {
@@ -117,25 +182,26 @@ public class FileUploadService {
 
     /**
      * ID로 파일 다운로드
+     * 메타데이터 조회 한 번으로 응답 헤더 정보와 스토리지 객체 스트림을 함께 반환합니다.
+     * 파일 내용을 메모리에 모두 읽지 않으므로, 호출자가 스트림을 응답으로 복사한 뒤 닫아야 합니다.
      *
      * @param id 다운로드할 파일의 ID
-     * @return 파일 내용과 메타데이터
+     * @return 파일 정보와 내용 스트림
      * @throws FileUploadException 파일을 찾을 수 없는 경우
      */
     @Transactional(readOnly = true)
-    public byte[] downloadFile(Long id) {
-        FileMetadata metadata = fileMetadataRepository.findById(id)
-                .orElseThrow(() -> new FileUploadException("파일을 찾을 수 없습니다."));
+    public FileDownload download(Long id) {
+        FileMetadata metadata = getFileMetadata(id);
 
-        try {
-            // Get the file from S3/R2 using explicit request object
-            GetObjectRequest request = GetObjectRequest.builder()
-                    .bucket(r2Properties.getBucket())
-                    .key(metadata.getStorageKey())
-                    .build();
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(r2Properties.getBucket())
+                .key(metadata.getStorageKey())
+                .build();
 
-            return s3Client.getObject(request).readAllBytes();
-        } catch (IOException e) {
+        try {
+            return new FileDownload(metadata.getOriginalFilename(), metadata.getContentType(),
+                    metadata.getFileSize(), s3Client.getObject(request));
+        } catch (SdkException e) {
             throw new FileUploadException("파일 다운로드 중 오류 발생: " + e.getMessage());
         }
     }
@@ -172,7 +238,62 @@ public class FileUploadService {
 
         s3Client.deleteObject(request);
 
-        // 데이터베이스에서 메타데이터 삭제
+        // 이미지 파생본 삭제
+        if (!metadata.getVariants().isEmpty()) {
+            Set<String> failedKeys = deleteObjects(metadata.getVariants().stream()
+                    .map(ImageVariant::getStorageKey)
+                    .toList());
+            if (!failedKeys.isEmpty()) {
+                log.warn("이미지 파생본 일부를 삭제하지 못했습니다: 파일_ID={}, 실패_키={}", id, failedKeys);
+            }
+        }
+
+        // 데이터베이스에서 메타데이터 삭제 (파생본 정보 포함)
         fileMetadataRepository.delete(metadata);
     }
+
+    /**
+     * 스토리지 객체 일괄 삭제
+     * DeleteObjects 요청으로 최대 1000개씩 묶어 스토리지에서 객체를 삭제합니다.
+     * 메타데이터는 삭제하지 않으므로 호출자가 성공한 키에 대해서만 메타데이터를 정리해야 합니다.
+     *
+     * @param storageKeys 삭제할 저장소 키 목록
+     * @return 삭제에 실패한 저장소 키 목록
+     */
+    public Set<String> deleteObjects(List<String> storageKeys) {
+        Set<String> failedKeys = new HashSet<>();
+
+        for (int from = 0; from < storageKeys.size(); from += MAX_DELETE_BATCH_SIZE) {
+            List<String> batch = storageKeys.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, storageKeys.size()));
+
+            List<ObjectIdentifier> objects = new ArrayList<>(batch.size());
+            for (String key : batch) {
+                objects.add(ObjectIdentifier.builder().key(key).build());
+            }
+
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(r2Properties.getBucket())
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build());
+
+                // quiet 모드에서는 실패한 키만 응답에 포함됨
+                for (S3Error error : response.errors()) {
+                    failedKeys.add(error.key());
+                }
+            } catch (Exception e) {
+                // 요청 자체가 실패한 경우 배치 전체를 실패로 처리
+                log.error("스토리지 객체 일괄 삭제 중 오류 발생: 키_수={}", batch.size(), e);
+                failedKeys.addAll(batch);
+            }
+        }
+
+        return failedKeys;
+    }
+
+    /**
+     * 다운로드할 파일 정보와 내용 스트림
+     */
+    public record FileDownload(String filename, String contentType, long contentLength, InputStream content) {
+    }
 }
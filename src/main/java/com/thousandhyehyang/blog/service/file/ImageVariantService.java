@@ -0,0 +1,465 @@
+package com.thousandhyehyang.blog.service.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.config.R2Properties;
+import com.thousandhyehyang.blog.entity.ImageVariant;
+import com.thousandhyehyang.blog.repository.FileMetadataRepository;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 이미지 파생본 생성 서비스
+ * 업로드된 이미지로부터 반응형 너비별 리사이즈본과 원본 크기의 압축본을 생성하여 스토리지에 저장하고,
+ * 원본 파일 메타데이터에 파생본 정보를 기록합니다.
+ * 업로드 트랜잭션이 커밋된 후 이미지 전용 스레드 풀에서 비동기로 실행됩니다.
+ * 스레드 풀이 가득 차면 요청 스레드에서 처리하지 않고 보충 목록에 기록했다가 보충 작업이 다시 넘깁니다.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    // 생성할 반응형 너비 (원본보다 작은 너비만 생성)
+    private static final int[] VARIANT_WIDTHS = {320, 640, 1280};
+
+    // 압축 품질 (JPEG/WebP)
+    private static final float COMPRESSION_QUALITY = 0.8f;
+
+    // 디코딩 허용 최대 픽셀 수 (압축 폭탄 방지)
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    // 파생본을 만들지 않는 형식 (애니메이션 GIF, 벡터 이미지)
+    private static final Set<String> SKIPPED_CONTENT_TYPES = Set.of("image/gif", "image/svg+xml");
+
+    // 실행기 대기열이 가득 차 처리하지 못한 이미지 목록 키 (JSON 문자열 Set)
+    static final String BACKFILL_KEY = "image_variants:backfill";
+
+    // 보충 작업 한 번에 실행기로 다시 넘길 최대 이미지 수
+    private static final int BACKFILL_BATCH_SIZE = 20;
+
+    private final S3Client s3Client;
+    private final R2Properties r2Properties;
+    private final FileMetadataRepository fileMetadataRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ImageVariantService(S3Client s3Client,
+                               R2Properties r2Properties,
+                               FileMetadataRepository fileMetadataRepository,
+                               PostRepository postRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("imageProcessingExecutor") Executor executor,
+                               RedisTemplate<String, String> redisTemplate,
+                               ObjectMapper objectMapper) {
+        this.s3Client = s3Client;
+        this.r2Properties = r2Properties;
+        this.fileMetadataRepository = fileMetadataRepository;
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 이미지 업로드 이벤트 리스너
+     * 업로드 트랜잭션 커밋 후 이미지 전용 실행기에 파생본 생성을 맡깁니다.
+     * 대기열이 가득 차 거부되면 요청 스레드에서 처리하지 않고 보충 목록에 기록하여, 보충 작업이 나중에 다시 실행기로 넘깁니다.
+     *
+     * @param event 이미지 업로드 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleImageUploaded(ImageUploadedEvent event) {
+        try {
+            executor.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 처리 대기열이 가득 차 파생본 생성을 보충 작업으로 미룹니다: 파일_ID={}", event.getFileId());
+            enqueueBackfill(new PendingImage(event.getFileId(), event.getStorageKey(), event.getContentType()));
+        }
+    }
+
+    /**
+     * 파생본 보충 작업
+     * 5분 간격으로 실행되어 대기열이 가득 차 처리하지 못한 이미지를 실행기에 다시 넘깁니다.
+     * 항목을 SPOP으로 꺼내므로 여러 노드가 동시에 실행해도 같은 이미지를 중복 처리하지 않습니다.
+     *
+     * @return 실행기에 넘긴 이미지 수
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000) // 이전 실행 종료 5분 후 실행
+    public int backfillVariants() {
+        int submitted = 0;
+        try {
+            while (submitted < BACKFILL_BATCH_SIZE) {
+                String json = redisTemplate.opsForSet().pop(BACKFILL_KEY);
+                if (json == null) {
+                    break;
+                }
+
+                PendingImage pending = objectMapper.readValue(json, PendingImage.class);
+                try {
+                    // 원본 내용은 보관하지 않으므로 스토리지에서 읽어 처리
+                    executor.execute(() -> process(new ImageUploadedEvent(
+                            pending.fileId(), pending.storageKey(), pending.contentType(), null)));
+                    submitted++;
+                } catch (RejectedExecutionException e) {
+                    // 아직 실행기가 바쁘면 되돌려 두고 다음 실행에서 다시 시도
+                    redisTemplate.opsForSet().add(BACKFILL_KEY, json);
+                    break;
+                }
+            }
+
+            if (submitted > 0) {
+                log.info("이미지 파생본 보충 작업 등록 완료: {}개 이미지", submitted);
+            }
+        } catch (Exception e) {
+            log.error("이미지 파생본 보충 작업 중 오류 발생", e);
+        }
+        return submitted;
+    }
+
+    /**
+     * 파생본 생성 후 원본 메타데이터에 기록
+     * 파생본 생성에 실패해도 원본 이미지는 그대로 제공되므로 로그만 남깁니다.
+     */
+    private void process(ImageUploadedEvent event) {
+        try {
+            List<ImageVariant> variants = createVariants(event);
+            if (variants.isEmpty()) {
+                return;
+            }
+
+            // 원본 메타데이터에 파생본 기록
+            // 이미 게시글에 연결된 파일이면 상세 응답의 파생본 목록이 바뀌므로 게시글 버전도 함께 올림
+            boolean recorded = Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                    fileMetadataRepository.findById(event.getFileId())
+                            .map(metadata -> {
+                                metadata.addVariants(variants);
+                                postRepository.touchByFileId(event.getFileId(), LocalDateTime.now());
+                                return true;
+                            })
+                            .orElse(false)));
+
+            if (recorded) {
+                log.info("이미지 파생본 생성 완료: 파일_ID={}, 파생본_수={}", event.getFileId(), variants.size());
+            } else {
+                // 처리 중 원본이 삭제된 경우 업로드한 파생본도 정리
+                log.warn("원본 파일이 삭제되어 파생본을 정리합니다: 파일_ID={}", event.getFileId());
+                deleteUploadedVariants(variants);
+            }
+        } catch (Exception e) {
+            log.error("이미지 파생본 생성 중 오류 발생: 파일_ID={}", event.getFileId(), e);
+        }
+    }
+
+    /**
+     * 보충 목록에 이미지 기록
+     * Redis에 기록하지 못하면 파생본 없이 원본만 제공되므로 로그만 남깁니다.
+     */
+    private void enqueueBackfill(PendingImage pending) {
+        try {
+            redisTemplate.opsForSet().add(BACKFILL_KEY, objectMapper.writeValueAsString(pending));
+        } catch (Exception e) {
+            log.error("이미지 파생본 보충 목록 기록 실패: 파일_ID={}", pending.fileId(), e);
+        }
+    }
+
+    /**
+     * 파생본 생성 및 업로드
+     *
+     * @param event 이미지 업로드 이벤트
+     * @return 업로드된 파생본 목록 (파생본을 만들 수 없는 이미지면 빈 목록)
+     * @throws IOException 이미지 디코딩 또는 인코딩에 실패한 경우
+     */
+    private List<ImageVariant> createVariants(ImageUploadedEvent event) throws IOException {
+        if (event.getContentType() == null || SKIPPED_CONTENT_TYPES.contains(event.getContentType())) {
+            return List.of();
+        }
+
+        // 사전 서명 업로드처럼 서버가 내용을 받지 않은 경우 스토리지에서 원본을 읽음
+        byte[] content = event.getContent() != null ? event.getContent() : download(event.getStorageKey());
+
+        BufferedImage source = decode(content);
+        if (source == null) {
+            log.debug("파생본을 만들 수 없는 이미지 형식: 파일_ID={}, 형식={}", event.getFileId(), event.getContentType());
+            return List.of();
+        }
+
+        boolean hasAlpha = source.getColorModel().hasAlpha();
+        String baseKey = stripExtension(event.getStorageKey());
+        List<ImageVariant> variants = new ArrayList<>();
+
+        // 반응형 너비별 리사이즈본
+        for (int width : VARIANT_WIDTHS) {
+            if (width >= source.getWidth()) {
+                break;
+            }
+            BufferedImage resized = resize(source, width, hasAlpha);
+            variants.add(upload(resized, baseKey + "-w" + width, hasAlpha));
+        }
+
+        // 원본 크기 압축본 (원본보다 작아지는 경우에만 사용)
+        EncodedImage compressed = encode(source, hasAlpha);
+        if (compressed.bytes().length < content.length) {
+            variants.add(put(baseKey + "-opt", source.getWidth(), source.getHeight(), compressed));
+        }
+
+        return variants;
+    }
+
+    /**
+     * 스토리지에서 원본 이미지 읽기
+     */
+    private byte[] download(String storageKey) {
+        return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(r2Properties.getBucket())
+                .key(storageKey)
+                .build()).asByteArray();
+    }
+
+    /**
+     * 이미지 디코딩
+     * 픽셀 수를 먼저 확인하여 지나치게 큰 이미지는 디코딩하지 않습니다.
+     *
+     * @return 디코딩된 이미지 (지원하지 않는 형식이거나 너무 큰 경우 null)
+     */
+    private BufferedImage decode(byte[] content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    log.warn("이미지가 너무 커서 파생본 생성을 건너뜁니다: 픽셀_수={}", pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 이미지 리사이즈
+     * 목표 크기의 두 배보다 크면 절반씩 줄여 나가 한 번에 크게 축소할 때의 품질 저하를 줄입니다.
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth, boolean hasAlpha) {
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+        int type = hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+
+            BufferedImage scaled = new BufferedImage(width, height, type);
+            Graphics2D g = scaled.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = scaled;
+        } while (width != targetWidth);
+
+        return current;
+    }
+
+    /**
+     * 이미지 인코딩
+     * 클래스패스에 WebP ImageIO 플러그인이 있으면 WebP로, 없으면 투명도 여부에 따라 JPEG 또는 PNG로 인코딩합니다.
+     * (JDK에는 WebP/AVIF 인코더가 없으며, 네이티브 라이브러리가 필요한 인코더는 사용하지 않습니다.)
+     */
+    private EncodedImage encode(BufferedImage image, boolean hasAlpha) throws IOException {
+        Iterator<ImageWriter> webpWriters = ImageIO.getImageWritersByMIMEType("image/webp");
+        if (webpWriters.hasNext()) {
+            return new EncodedImage(write(webpWriters.next(), image), "image/webp", "webp");
+        }
+
+        if (hasAlpha) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", output);
+            return new EncodedImage(output.toByteArray(), "image/png", "png");
+        }
+
+        return new EncodedImage(write(ImageIO.getImageWritersByFormatName("jpeg").next(), toRgb(image)),
+                "image/jpeg", "jpg");
+    }
+
+    /**
+     * 압축 품질을 지정하여 이미지 쓰기
+     */
+    private byte[] write(ImageWriter writer, BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(COMPRESSION_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * JPEG 인코딩을 위해 알파 채널이 없는 RGB 이미지로 변환
+     */
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 이미지 인코딩 후 스토리지 업로드
+     */
+    private ImageVariant upload(BufferedImage image, String baseKey, boolean hasAlpha) throws IOException {
+        return put(baseKey, image.getWidth(), image.getHeight(), encode(image, hasAlpha));
+    }
+
+    /**
+     * 인코딩된 파생본을 스토리지에 업로드
+     */
+    private ImageVariant put(String baseKey, int width, int height, EncodedImage encoded) {
+        String key = baseKey + "." + encoded.extension();
+
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(r2Properties.getBucket())
+                .key(key)
+                .contentType(encoded.contentType())
+                .cacheControl("public, max-age=31536000, immutable")
+                .build(), RequestBody.fromBytes(encoded.bytes()));
+
+        return new ImageVariant(width, height, key, r2Properties.getPublicUrl() + "/" + key,
+                encoded.contentType(), (long) encoded.bytes().length);
+    }
+
+    /**
+     * 업로드한 파생본 삭제 (원본이 이미 삭제된 경우)
+     */
+    private void deleteUploadedVariants(List<ImageVariant> variants) {
+        List<String> keys = variants.stream().map(ImageVariant::getStorageKey).toList();
+        for (String key : keys) {
+            try {
+                s3Client.deleteObject(builder -> builder.bucket(r2Properties.getBucket()).key(key));
+            } catch (Exception e) {
+                log.warn("파생본 삭제 실패: 스토리지키={}", key, e);
+            }
+        }
+    }
+
+    private String stripExtension(String storageKey) {
+        int lastDot = storageKey.lastIndexOf('.');
+        int lastSlash = storageKey.lastIndexOf('/');
+        return lastDot > lastSlash ? storageKey.substring(0, lastDot) : storageKey;
+    }
+
+    /**
+     * 보충 목록에 기록하는 이미지 정보
+     */
+    record PendingImage(Long fileId, String storageKey, String contentType) {
+    }
+
+    /**
+     * 인코딩된 이미지
+     */
+    private record EncodedImage(byte[] bytes, String contentType, String extension) {
+    }
+
+    /**
+     * 이미지 업로드 이벤트 클래스
+     * 업로드된 원본 이미지로부터 파생본을 비동기적으로 생성하기 위한 이벤트 클래스입니다.
+     */
+    public static class ImageUploadedEvent {
+        private final Long fileId;
+        private final String storageKey;
+        private final String contentType;
+        // null이면 스토리지에서 원본을 읽어 처리
+        private final byte[] content;
+
+        public ImageUploadedEvent(Long fileId, String storageKey, String contentType, byte[] content) {
+            this.fileId = fileId;
+            this.storageKey = storageKey;
+            this.contentType = contentType;
+            this.content = content;
+        }
+
+        public Long getFileId() {
+            return fileId;
+        }
+
+        public String getStorageKey() {
+            return storageKey;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.thousandhyehyang.blog.service.file;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.common.ApiResponse;
+import com.thousandhyehyang.blog.config.R2Properties;
+import com.thousandhyehyang.blog.dto.file.FileUploadResponse;
+import com.thousandhyehyang.blog.dto.file.PresignedUploadRequest;
+import com.thousandhyehyang.blog.dto.file.PresignedUploadResponse;
+import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.enums.UploadType;
+import com.thousandhyehyang.blog.exception.FileUploadException;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import com.thousandhyehyang.blog.util.FileValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사전 서명(pre-signed) 업로드 서비스
+ * 파일 내용이 애플리케이션 서버를 거치지 않고 클라이언트에서 R2로 직접 업로드되도록 두 단계로 처리합니다.
+ * 1. 발급: 선언된 파일명/타입/크기를 검증하고, Content-Type과 Content-Length가 서명에 포함된 PUT URL을 발급합니다.
+ * 2. 확인: 저장된 객체의 크기와 앞부분 바이트(Range GET)로 실제 형식을 검증한 뒤에만 메타데이터를 저장합니다.
+ * 사전 서명 URL은 임시 경로(pending-uploads/)의 키에 대해서만 발급하고, 확인이 끝난 객체는 최종 키로 복사한 뒤 임시 객체를 삭제합니다.
+ * 따라서 URL이 만료되기 전에 다시 PUT 하더라도 검증된 최종 객체는 바뀌지 않으며,
+ * 확인되지 않은 채 남은 임시 객체는 주기적인 정리 작업에서 삭제됩니다.
+ */
+@Service
+public class PresignedUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(PresignedUploadService.class);
+
+    private static final String PENDING_KEY_PREFIX = "pending_upload:";
+
+    // 사전 서명 URL로 업로드되는 임시 객체의 저장소 경로
+    static final String STAGING_PREFIX = "pending-uploads/";
+
+    private static final String STAGING_SWEEP_JOB = "presigned-upload.staging-sweep";
+
+    // 정리 작업 락 임대 시간
+    private static final Duration LEASE_TTL = Duration.ofMinutes(5);
+
+    // 사전 서명 URL 유효 시간
+    private static final Duration URL_TTL = Duration.ofMinutes(10);
+
+    // 업로드 확인 대기 정보 유지 시간 (URL 만료 후 업로드 완료까지의 여유 포함)
+    private static final Duration PENDING_TTL = Duration.ofMinutes(30);
+
+    // 형식 감지에 사용할 앞부분 바이트 수
+    private static final int HEADER_BYTES = 4096;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final R2Properties r2Properties;
+    private final FileUploadService fileUploadService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobLockService jobLockService;
+
+    public PresignedUploadService(S3Client s3Client,
+                                  S3Presigner s3Presigner,
+                                  R2Properties r2Properties,
+                                  FileUploadService fileUploadService,
+                                  RedisTemplate<String, String> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  JobLockService jobLockService) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.r2Properties = r2Properties;
+        this.fileUploadService = fileUploadService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.jobLockService = jobLockService;
+    }
+
+    /**
+     * 사전 서명 업로드 URL 발급
+     *
+     * @param request 업로드할 파일 정보
+     * @return 업로드 ID와 사전 서명 URL
+     * @throws FileUploadException 선언된 파일 정보가 업로드 유형의 제약을 만족하지 않는 경우
+     */
+    public PresignedUploadResponse issue(PresignedUploadRequest request) {
+        FileValidator.validateDeclared(request.filename(), request.contentType(), request.size(), request.type());
+
+        String uploadId = UUID.randomUUID().toString();
+        String stagingKey = STAGING_PREFIX + uploadId;
+
+        // Content-Type과 Content-Length를 서명에 포함하여 다른 형식이나 크기로 업로드할 수 없도록 함
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(URL_TTL)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(r2Properties.getBucket())
+                        .key(stagingKey)
+                        .contentType(request.contentType())
+                        .contentLength(request.size())
+                        .build())
+                .build());
+
+        // 확인 단계에서 사용할 업로드 정보 저장
+        PendingUpload pending = new PendingUpload(
+                stagingKey,
+                fileUploadService.buildStorageKey(request.type(), request.filename()),
+                request.filename(),
+                request.contentType(),
+                request.size(),
+                request.type(),
+                Instant.now().plus(PENDING_TTL).toEpochMilli());
+        redisTemplate.opsForValue().set(PENDING_KEY_PREFIX + uploadId, toJson(pending), PENDING_TTL);
+
+        return new PresignedUploadResponse(
+                uploadId,
+                presigned.url().toString(),
+                Map.of(
+                        "Content-Type", request.contentType(),
+                        "Content-Length", String.valueOf(request.size())
+                ),
+                presigned.expiration()
+        );
+    }
+
+    /**
+     * 사전 서명 업로드 확인
+     * 업로드 정보를 GETDEL로 가져와 같은 업로드를 동시에 확인하더라도 한 요청만 처리되도록 합니다.
+     * 업로드된 임시 객체를 검증한 뒤 최종 키로 복사하고 파일 메타데이터를 저장합니다.
+     * 검증에 실패한 객체는 스토리지에서 삭제하며, 아직 업로드되지 않은 경우에만 업로드 정보를 되돌려 다시 확인할 수 있게 합니다.
+     * 스토리지 확인과 복사는 트랜잭션 밖에서 처리하여 R2 응답을 기다리는 동안 DB 커넥션을 점유하지 않고,
+     * 메타데이터 저장만 트랜잭션으로 처리합니다.
+     *
+     * @param uploadId 발급 시 받은 업로드 ID
+     * @return 업로드된 파일 정보
+     * @throws FileUploadException 업로드 정보가 없거나, 객체가 없거나, 검증에 실패한 경우
+     */
+    public ApiResponse<FileUploadResponse> confirm(String uploadId) {
+        String pendingKey = PENDING_KEY_PREFIX + uploadId;
+        String json = redisTemplate.opsForValue().getAndDelete(pendingKey);
+        if (json == null) {
+            throw new FileUploadException("업로드 요청을 찾을 수 없거나 만료되었습니다.");
+        }
+        PendingUpload pending = fromJson(json);
+
+        // 객체 존재 여부와 크기 확인
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(r2Properties.getBucket())
+                    .key(pending.stagingKey())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            restore(pendingKey, json, pending);
+            throw new FileUploadException("업로드된 파일을 찾을 수 없습니다. 업로드를 완료한 뒤 다시 시도해주세요.");
+        }
+
+        try {
+            if (head.contentLength() == null || head.contentLength() != pending.size()) {
+                throw new FileUploadException("업로드된 파일 크기가 요청과 다릅니다.");
+            }
+
+            // 앞부분 바이트만 읽어 실제 형식 검증
+            byte[] header = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(r2Properties.getBucket())
+                    .key(pending.stagingKey())
+                    .range("bytes=0-" + (HEADER_BYTES - 1))
+                    .build()).asByteArray();
+            FileValidator.validateDetected(header, pending.contentType());
+        } catch (FileUploadException e) {
+            deleteObject(pending.stagingKey());
+            throw e;
+        }
+
+        // 검증한 임시 객체를 최종 키로 복사 (이후 같은 URL로 다시 업로드해도 임시 객체만 바뀜)
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(r2Properties.getBucket())
+                .sourceKey(pending.stagingKey())
+                .destinationBucket(r2Properties.getBucket())
+                .destinationKey(pending.key())
+                .build());
+
+        FileMetadata metadata;
+        try {
+            // 메타데이터 저장만 트랜잭션으로 처리 (커밋 후 파생본 생성 이벤트 발행)
+            metadata = fileUploadService.saveMetadata(pending.filename(), pending.key(), pending.contentType(),
+                    pending.size(), pending.type(), null);
+        } catch (RuntimeException e) {
+            deleteObject(pending.key());
+            throw e;
+        } finally {
+            // 남은 임시 객체는 정리 작업에서도 삭제되므로 실패해도 로그만 남김
+            deleteObject(pending.stagingKey());
+        }
+
+        log.info("사전 서명 업로드 확인 완료: 파일_ID={}, 스토리지키={}", metadata.getId(), pending.key());
+        return new ApiResponse<>(new FileUploadResponse(
+                metadata.getPublicUrl(), pending.type().name(), pending.filename()));
+    }
+
+    /**
+     * 확인되지 않은 임시 업로드 정리 작업
+     * 1시간 간격으로 실행되어 업로드 정보 유지 시간이 지난 임시 객체를 삭제합니다.
+     * 이 시점에는 업로드 정보가 만료되어 더 이상 확인할 수 없으므로 안전하게 삭제할 수 있습니다.
+     *
+     * @return 삭제된 객체 수
+     */
+    @Scheduled(fixedDelay = 3600000, initialDelay = 600000) // 이전 실행 종료 1시간 후 실행
+    public int sweepStagingObjects() {
+        try {
+            int deletedCount = jobLockService.runExclusively(
+                    STAGING_SWEEP_JOB, STAGING_SWEEP_JOB, LEASE_TTL, this::deleteExpiredStagingObjects);
+
+            if (deletedCount > 0) {
+                log.info("확인되지 않은 임시 업로드 정리 완료: {}개 객체 삭제됨", deletedCount);
+            }
+            return deletedCount;
+        } catch (Exception e) {
+            log.error("확인되지 않은 임시 업로드 정리 중 오류 발생", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 업로드 정보 유지 시간이 지난 임시 객체 삭제
+     *
+     * @param lease 작업 락 임대 정보
+     * @return 삭제된 객체 수
+     */
+    private int deleteExpiredStagingObjects(JobLease lease) {
+        Instant cutoff = Instant.now().minus(PENDING_TTL);
+
+        List<String> expiredKeys = s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(r2Properties.getBucket())
+                        .prefix(STAGING_PREFIX)
+                        .build())
+                .contents().stream()
+                .filter(object -> object.lastModified().isBefore(cutoff))
+                .map(S3Object::key)
+                .toList();
+
+        if (expiredKeys.isEmpty()) {
+            return 0;
+        }
+
+        jobLockService.ensureHeld(lease, LEASE_TTL);
+        Set<String> failedKeys = fileUploadService.deleteObjects(expiredKeys);
+        if (!failedKeys.isEmpty()) {
+            log.warn("임시 업로드 객체 일부 삭제 실패: 실패_수={}", failedKeys.size());
+        }
+        return expiredKeys.size() - failedKeys.size();
+    }
+
+    /**
+     * 아직 업로드되지 않은 요청의 업로드 정보를 남은 유지 시간만큼 되돌림
+     */
+    private void restore(String pendingKey, String json, PendingUpload pending) {
+        Duration remaining = Duration.ofMillis(pending.expiresAt() - System.currentTimeMillis());
+        if (!remaining.isNegative() && !remaining.isZero()) {
+            redisTemplate.opsForValue().setIfAbsent(pendingKey, json, remaining);
+        }
+    }
+
+    /**
+     * 스토리지 객체 삭제 (실패해도 메타데이터가 없으므로 서비스에는 노출되지 않음)
+     */
+    private void deleteObject(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(r2Properties.getBucket())
+                    .key(key)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("업로드 객체 삭제 실패: 스토리지키={}", key, e);
+        }
+    }
+
+    private String toJson(PendingUpload pending) {
+        try {
+            return objectMapper.writeValueAsString(pending);
+        } catch (JsonProcessingException e) {
+            throw new FileUploadException("업로드 정보 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private PendingUpload fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, PendingUpload.class);
+        } catch (JsonProcessingException e) {
+            throw new FileUploadException("업로드 요청을 찾을 수 없거나 만료되었습니다.");
+        }
+    }
+
+    /**
+     * 확인 대기 중인 업로드 정보
+     *
+     * @param stagingKey 사전 서명 URL로 업로드되는 임시 저장소 키
+     * @param key 확인 후 복사될 최종 저장소 키
+     * @param expiresAt 업로드 정보 만료 시각 (epoch 밀리초)
+     */
+    record PendingUpload(String stagingKey, String key, String filename, String contentType, long size,
+                         UploadType type, long expiresAt) {
+    }
+}
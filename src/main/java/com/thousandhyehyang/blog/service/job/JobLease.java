@@ -0,0 +1,11 @@
+package com.thousandhyehyang.blog.service.job;
+
+/**
+ * 분산 락 임대 정보
+ *
+ * @param lockName 락 이름
+ * @param fencingToken 락 획득 시 발급된 단조 증가 토큰
+ * @param owner 락 값 (노드 ID와 펜싱 토큰 조합)
+ */
+public record JobLease(String lockName, long fencingToken, String owner) {
+}
@@ -0,0 +1,283 @@
+package com.thousandhyehyang.blog.service.job;
+
+import com.thousandhyehyang.blog.entity.JobRun;
+import com.thousandhyehyang.blog.exception.JobLeaseLostException;
+import com.thousandhyehyang.blog.repository.JobRunRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * 스케줄 작업용 분산 락 서비스
+ * Redis 임대(lease) 락으로 여러 인스턴스 중 한 노드만 작업을 실행하도록 보장합니다.
+ * 락을 획득할 때마다 단조 증가하는 펜싱 토큰을 발급하고 실행 이력(JobRun)에 기록하여,
+ * 락이 만료된 뒤에도 작업을 계속하던 노드가 새 소유자의 작업과 겹쳐 쓰지 않도록 합니다.
+ * 정해진 시각에 실행되는 작업은 실행 후 완료 표시를 남겨, 늦게 스케줄이 실행된 노드가
+ * 락이 해제된 뒤 같은 주기의 작업을 다시 실행하지 않도록 합니다. (완료 표시는 삭제하지 않고 만료되도록 둠)
+ * 실행 이력은 보존 기간이 지나면 매일 정리합니다.
+ */
+@Service
+public class JobLockService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobLockService.class);
+
+    private static final String LOCK_KEY_PREFIX = "job_lock:";
+    private static final String FENCE_KEY_PREFIX = "job_lock_fence:";
+    private static final String DONE_KEY_PREFIX = "job_done:";
+
+    private static final String PRUNE_JOB = "job-runs.prune";
+    private static final Duration PRUNE_LEASE_TTL = Duration.ofMinutes(5);
+    private static final Duration PRUNE_PERIOD = Duration.ofDays(1);
+
+    // 한 번에 삭제할 실행 이력 수
+    static final int PRUNE_BATCH_SIZE = 1000;
+
+    // 락이 비어 있으면 펜싱 토큰을 증가시키고 락을 설정 (락이 있으면 -1, 이번 주기 완료 표시가 있으면 -2 반환)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if KEYS[3] and redis.call('EXISTS', KEYS[3]) == 1 then return -2 end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end " +
+            "local token = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token",
+            Long.class);
+
+    // 락 값이 일치하는 경우에만 만료 시간 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    // 락 값이 일치하는 경우에만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobRunRepository jobRunRepository;
+    private final int retentionDays;
+    private final String nodeId;
+
+    public JobLockService(RedisTemplate<String, String> redisTemplate,
+                          JobRunRepository jobRunRepository,
+                          @Value("${app.job-runs.retention-days:30}") int retentionDays) {
+        this.redisTemplate = redisTemplate;
+        this.jobRunRepository = jobRunRepository;
+        this.retentionDays = Math.max(1, retentionDays);
+        this.nodeId = resolveNodeId();
+    }
+
+    /**
+     * 락을 획득한 경우에만 작업 실행
+     * 다른 노드가 락을 보유 중이면 작업을 건너뛰고 0을 반환합니다.
+     * 실행 결과는 작업 이력에 기록되며, 작업에서 발생한 예외는 기록 후 다시 던집니다.
+     *
+     * @param jobName 작업 이름
+     * @param lockName 락 이름 (샤드 단위 락이 아니면 작업 이름과 동일)
+     * @param ttl 락 임대 시간 (작업 중 renew로 연장해야 함)
+     * @param work 실행할 작업 (처리한 항목 수 반환)
+     * @return 처리한 항목 수 (락 획득 실패 시 0)
+     */
+    public int runExclusively(String jobName, String lockName, Duration ttl, ToIntFunction<JobLease> work) {
+        return run(jobName, lockName, ttl, null, work);
+    }
+
+    /**
+     * 주기마다 한 번만 작업 실행
+     * 정해진 시각(cron)에 실행되는 작업에 사용합니다.
+     * 작업이 끝나면 (성공, 실패 모두) 주기의 절반 동안 유지되는 완료 표시를 남기므로,
+     * 스케줄이 늦게 실행된 노드는 락이 해제된 뒤에도 같은 주기의 작업을 다시 실행하지 않습니다.
+     * 완료 표시는 다음 주기 실행 전에 만료됩니다.
+     *
+     * @param jobName 작업 이름
+     * @param lockName 락 이름 (샤드 단위 락이 아니면 작업 이름과 동일)
+     * @param ttl 락 임대 시간 (작업 중 renew로 연장해야 함)
+     * @param period 작업 실행 주기
+     * @param work 실행할 작업 (처리한 항목 수 반환)
+     * @return 처리한 항목 수 (락 획득 실패 또는 이번 주기에 이미 실행된 경우 0)
+     */
+    public int runOncePerPeriod(String jobName, String lockName, Duration ttl, Duration period,
+                                ToIntFunction<JobLease> work) {
+        return run(jobName, lockName, ttl, period, work);
+    }
+
+    private int run(String jobName, String lockName, Duration ttl, Duration period, ToIntFunction<JobLease> work) {
+        String doneKey = period == null ? null : DONE_KEY_PREFIX + jobName + ":" + lockName;
+        Optional<JobLease> acquired = tryAcquire(lockName, ttl, doneKey);
+        if (acquired.isEmpty()) {
+            log.debug("다른 노드가 작업 락을 보유 중이거나 이번 주기에 이미 실행되어 건너뜀: 락={}", lockName);
+            return 0;
+        }
+
+        JobLease lease = acquired.get();
+        try {
+            // 실행 이력을 남기지 못하면 작업을 실행하지 않음 (완료 표시 없이 락만 해제하여 다른 노드가 다시 시도)
+            JobRun run = jobRunRepository.save(new JobRun(jobName, lockName, lease.fencingToken(), nodeId));
+            try {
+                return execute(run, lease, work);
+            } finally {
+                if (doneKey != null) {
+                    markDone(doneKey, lease, period);
+                }
+            }
+        } finally {
+            release(lease);
+        }
+    }
+
+    /**
+     * 작업 실행 및 결과 기록
+     * 결과 기록에 실패해도 작업의 반환값이나 원래 예외를 가리지 않도록 기록 실패는 로그만 남깁니다.
+     */
+    private int execute(JobRun run, JobLease lease, ToIntFunction<JobLease> work) {
+        try {
+            int processedCount = work.applyAsInt(lease);
+            run.succeed(processedCount);
+            return processedCount;
+        } catch (RuntimeException e) {
+            run.fail(e.getMessage());
+            throw e;
+        } finally {
+            try {
+                jobRunRepository.save(run);
+            } catch (Exception e) {
+                log.error("작업 실행 결과 기록 실패: 작업={}, 락={}, 상태={}",
+                        run.getJobName(), run.getLockName(), run.getStatus(), e);
+            }
+        }
+    }
+
+    /**
+     * 락 보유 확인 및 연장
+     * 작업이 한 단위(청크)를 커밋하기 전에 호출합니다.
+     * 락 만료로 다른 노드가 더 큰 펜싱 토큰으로 작업을 시작했다면 예외를 던져 쓰기를 중단시킵니다.
+     *
+     * @param lease 락 임대 정보
+     * @param ttl 연장할 임대 시간
+     * @throws JobLeaseLostException 락을 잃은 경우
+     */
+    public void ensureHeld(JobLease lease, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT,
+                List.of(LOCK_KEY_PREFIX + lease.lockName()),
+                lease.owner(), String.valueOf(ttl.toMillis()));
+
+        if (renewed == null || renewed == 0L
+                || jobRunRepository.existsByLockNameAndFencingTokenGreaterThan(lease.lockName(), lease.fencingToken())) {
+            throw new JobLeaseLostException(lease.lockName(), lease.fencingToken());
+        }
+    }
+
+    /**
+     * 실행 이력 정리 작업
+     * 매일 새벽 4시 30분에 실행되어 보존 기간이 지난 실행 이력을 배치 단위로 삭제합니다.
+     * 작업별 마지막 성공 실행은 다음 실행의 처리 구간 기준이므로 보존 기간과 관계없이 남깁니다.
+     *
+     * @return 삭제된 실행 이력 수
+     */
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 새벽 4시 30분에 실행
+    public int pruneJobRuns() {
+        try {
+            int deletedCount = runOncePerPeriod(PRUNE_JOB, PRUNE_JOB, PRUNE_LEASE_TTL, PRUNE_PERIOD,
+                    this::deleteExpiredRuns);
+
+            if (deletedCount > 0) {
+                log.info("작업 실행 이력 정리 완료: {}건 삭제됨", deletedCount);
+            }
+            return deletedCount;
+        } catch (Exception e) {
+            log.error("작업 실행 이력 정리 중 오류 발생", e);
+            return 0;
+        }
+    }
+
+    private int deleteExpiredRuns(JobLease lease) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        List<Long> keepIds = jobRunRepository.findLatestSucceededIds();
+        if (keepIds.isEmpty()) {
+            // NOT IN 조건에 빈 목록을 사용할 수 없으므로 존재하지 않는 ID로 대체
+            keepIds = List.of(0L);
+        }
+
+        int deletedCount = 0;
+        int deleted;
+        do {
+            ensureHeld(lease, PRUNE_LEASE_TTL);
+            deleted = jobRunRepository.deleteStartedBefore(cutoff, keepIds, PRUNE_BATCH_SIZE);
+            deletedCount += deleted;
+        } while (deleted == PRUNE_BATCH_SIZE);
+
+        return deletedCount;
+    }
+
+    /**
+     * 락 획득 시도
+     *
+     * @param lockName 락 이름
+     * @param ttl 락 임대 시간
+     * @return 락 임대 정보 (다른 노드가 보유 중이면 빈 값)
+     */
+    Optional<JobLease> tryAcquire(String lockName, Duration ttl) {
+        return tryAcquire(lockName, ttl, null);
+    }
+
+    private Optional<JobLease> tryAcquire(String lockName, Duration ttl, String doneKey) {
+        List<String> keys = doneKey == null
+                ? List.of(LOCK_KEY_PREFIX + lockName, FENCE_KEY_PREFIX + lockName)
+                : List.of(LOCK_KEY_PREFIX + lockName, FENCE_KEY_PREFIX + lockName, doneKey);
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT, keys, nodeId, String.valueOf(ttl.toMillis()));
+
+        if (token == null || token < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new JobLease(lockName, token, nodeId + ":" + token));
+    }
+
+    /**
+     * 이번 주기 완료 표시 (주기의 절반 동안 유지)
+     */
+    private void markDone(String doneKey, JobLease lease, Duration period) {
+        try {
+            redisTemplate.opsForValue().set(doneKey, lease.owner(), period.dividedBy(2));
+        } catch (Exception e) {
+            // 표시에 실패하면 늦게 실행된 노드가 한 번 더 실행할 수 있음 (락은 그대로 해제)
+            log.warn("작업 완료 표시 실패: 키={}", doneKey, e);
+        }
+    }
+
+    /**
+     * 락 해제 (현재 소유자인 경우에만)
+     */
+    void release(JobLease lease) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + lease.lockName()), lease.owner());
+        } catch (Exception e) {
+            // 해제에 실패해도 임대 시간이 지나면 자동으로 만료됨
+            log.warn("작업 락 해제 실패: 락={}", lease.lockName(), e);
+        }
+    }
+
+    /**
+     * 노드 ID 생성
+     * 컨테이너 호스트명에 재시작 시마다 달라지는 값을 붙여 같은 호스트의 이전 프로세스와 구분합니다.
+     */
+    private static String resolveNodeId() {
+        String hostname = System.getenv("HOSTNAME");
+        String prefix = hostname != null && !hostname.isBlank() ? hostname : "node";
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,91 @@
+package com.thousandhyehyang.blog.service.post;
+
+import com.thousandhyehyang.blog.dto.post.CategoryResponse;
+import com.thousandhyehyang.blog.entity.CategoryStats;
+import com.thousandhyehyang.blog.repository.CategoryStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 카테고리 통계 서비스
+ * 게시글 변경과 같은 트랜잭션에서 카테고리별 공개 게시글 수를 증감합니다.
+ */
+@Service
+public class CategoryStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryStatsService.class);
+
+    private final CategoryStatsRepository categoryStatsRepository;
+
+    public CategoryStatsService(CategoryStatsRepository categoryStatsRepository) {
+        this.categoryStatsRepository = categoryStatsRepository;
+    }
+
+    /**
+     * 카테고리 목록 조회
+     *
+     * @return 공개 게시글이 있는 카테고리 목록 (이름순)
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryResponse> getCategories() {
+        return categoryStatsRepository.findByPostCountGreaterThanOrderByCategoryAsc(0)
+                .stream()
+                .map(CategoryResponse::from)
+                .toList();
+    }
+
+    /**
+     * 카테고리의 공개 게시글 수 조회
+     *
+     * @param category 카테고리
+     * @return 공개 게시글 수 (통계가 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public long getPostCount(String category) {
+        return categoryStatsRepository.findById(category)
+                .map(CategoryStats::getPostCount)
+                .orElse(0L);
+    }
+
+    /**
+     * 게시글 변경 반영
+     * 공개 게시글 기준으로 이전 카테고리에서 빼고 새 카테고리에 더합니다.
+     * 생성은 이전 상태를 비공개로, 삭제는 이후 상태를 비공개로 전달합니다.
+     *
+     * @param previousCategory 변경 전 카테고리
+     * @param wasPublished 변경 전 공개 여부
+     * @param category 변경 후 카테고리
+     * @param published 변경 후 공개 여부
+     */
+    @Transactional
+    public void applyChange(String previousCategory, boolean wasPublished, String category, boolean published) {
+        boolean sameCategory = Objects.equals(previousCategory, category);
+        if (wasPublished && (!published || !sameCategory)) {
+            categoryStatsRepository.addPostCount(previousCategory, -1);
+        }
+        if (published && (!wasPublished || !sameCategory)) {
+            categoryStatsRepository.addPostCount(category, 1);
+        }
+    }
+
+    /**
+     * 최초 배포 시 통계 채우기
+     * 통계 테이블이 비어 있을 때만 기존 공개 게시글로 한 번 집계합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (categoryStatsRepository.count() > 0) {
+            return;
+        }
+        int count = categoryStatsRepository.rebuildFromPosts();
+        log.info("카테고리 통계 초기화 완료: 카테고리_수={}", count);
+    }
+}
@@ -0,0 +1,140 @@
+package com.thousandhyehyang.blog.service.post;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 상세 응답 본문 캐시
+ * 공개 게시글의 상세 응답을 JSON 직렬화한 바이트와 gzip으로 압축한 바이트로 함께 보관하여,
+ * 자주 조회되는 게시글은 요청마다 직렬화와 압축을 다시 하지 않고 바로 전송합니다.
+ * 키에 게시글 버전(@Version)과 관련 게시글 목록 버전이 포함되므로 둘 중 하나가 바뀌면 새 키로 저장되고,
+ * 이전 항목은 LRU로 밀려납니다. 그 밖에 놓친 변경이 오래 남지 않도록 항목은 일정 시간 후 만료됩니다.
+ * 전체 크기를 바이트 단위로 제한합니다.
+ */
+@Component
+public class PostDetailPayloadCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PostDetailPayloadCache.class);
+
+    // 캐시 전체 최대 크기 (JSON + gzip 바이트 합계)
+    static final long MAX_TOTAL_BYTES = 32L * 1024 * 1024;
+
+    // 한 항목 최대 크기 (이보다 큰 응답은 캐시하지 않음)
+    static final long MAX_ENTRY_BYTES = 4L * 1024 * 1024;
+
+    // 항목 유지 시간
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    private final LinkedHashMap<String, Payload> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ObjectMapper objectMapper;
+    private long totalBytes = 0;
+
+    public PostDetailPayloadCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 캐시된 응답 본문 조회, 없으면 생성 후 저장
+     *
+     * @param postId 게시글 ID
+     * @param version 응답 내용 버전 (게시글 버전과 관련 게시글 목록 버전)
+     * @param body 캐시가 없을 때 응답 객체를 만드는 함수
+     * @return 직렬화 및 압축된 응답 본문
+     */
+    public Payload get(Long postId, String version, Supplier<Object> body) {
+        String key = postId + ":" + version;
+        synchronized (this) {
+            Payload cached = entries.get(key);
+            if (cached != null && cached.createdAtNanos() + TTL.toNanos() - System.nanoTime() > 0) {
+                return cached;
+            }
+        }
+
+        // 직렬화와 압축은 락 밖에서 수행 (동시에 같은 항목을 만들면 마지막 결과로 덮어씀)
+        Payload payload = Payload.of(serialize(body.get()));
+        if (payload.size() <= MAX_ENTRY_BYTES) {
+            put(key, payload);
+        } else {
+            log.debug("게시글 상세 응답이 너무 커서 캐시하지 않음: 게시글_ID={}, 크기={}", postId, payload.size());
+        }
+        return payload;
+    }
+
+    /**
+     * 현재 캐시 크기 (바이트)
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized void put(String key, Payload payload) {
+        Payload previous = entries.put(key, payload);
+        if (previous != null) {
+            totalBytes -= previous.size();
+        }
+        totalBytes += payload.size();
+
+        // 가장 오래 사용되지 않은 항목부터 제거
+        Iterator<Map.Entry<String, Payload>> iterator = entries.entrySet().iterator();
+        while (totalBytes > MAX_TOTAL_BYTES && iterator.hasNext()) {
+            Map.Entry<String, Payload> eldest = iterator.next();
+            totalBytes -= eldest.getValue().size();
+            iterator.remove();
+        }
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 상세 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 직렬화 및 압축된 응답 본문
+     *
+     * @param json JSON 바이트
+     * @param gzip gzip으로 압축한 JSON 바이트
+     * @param createdAtNanos 생성 시각 (System.nanoTime)
+     */
+    public record Payload(byte[] json, byte[] gzip, long createdAtNanos) {
+
+        static Payload of(byte[] json) {
+            return new Payload(json, gzip(json), System.nanoTime());
+        }
+
+        long size() {
+            return (long) json.length + gzip.length;
+        }
+
+        private static byte[] gzip(byte[] data) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(512, data.length / 4));
+            // 캐시된 결과를 반복해서 사용하므로 최고 압축률로 한 번만 압축
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.thousandhyehyang.blog.service.post;
 
+import com.thousandhyehyang.blog.common.KeysetCursor;
 import com.thousandhyehyang.blog.dto.post.PostCreateRequest;
 import com.thousandhyehyang.blog.dto.post.PostDetailResponse;
+import com.thousandhyehyang.blog.dto.post.PostPageResponse;
 import com.thousandhyehyang.blog.dto.post.PostSummaryResponse;
 import com.thousandhyehyang.blog.dto.post.PostUpdateRequest;
+import com.thousandhyehyang.blog.dto.post.RelatedPostResponse;
 import com.thousandhyehyang.blog.entity.Post;
 import com.thousandhyehyang.blog.entity.PostFileMapping;
 import com.thousandhyehyang.blog.exception.AuthenticationException;
 import com.thousandhyehyang.blog.exception.PostNotFoundException;
+import com.thousandhyehyang.blog.repository.FileDeletionCandidateRepository;
 import com.thousandhyehyang.blog.repository.PostFileMappingRepository;
 import com.thousandhyehyang.blog.repository.PostRepository;
 import com.thousandhyehyang.blog.service.email.EmailService;
@@ -17,40 +21,57 @@ import com.thousandhyehyang.blog.util.HtmlParser;
 import com.thousandhyehyang.blog.util.SecurityUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class PostService {
 
     private static final Logger log = LoggerFactory.getLogger(PostService.class);
 
+    // 카테고리별 목록 페이지 크기
+    static final int PAGE_SIZE = 20;
+
     private final PostRepository postRepository;
     private final PostFileMappingRepository postFileMappingRepository;
+    private final FileDeletionCandidateRepository fileDeletionCandidateRepository;
     private final SecurityUtil securityUtil;
     private final TagService tagService;
     private final MediaProcessorService mediaProcessorService;
     private final ThumbnailService thumbnailService;
     private final EmailService emailService;
+    private final RelatedPostService relatedPostService;
+    private final CategoryStatsService categoryStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PostService(PostRepository postRepository,
                        PostFileMappingRepository postFileMappingRepository,
+                       FileDeletionCandidateRepository fileDeletionCandidateRepository,
                        SecurityUtil securityUtil,
                        TagService tagService,
                        MediaProcessorService mediaProcessorService,
                        ThumbnailService thumbnailService,
-                       EmailService emailService) {
+                       EmailService emailService,
+                       RelatedPostService relatedPostService,
+                       CategoryStatsService categoryStatsService,
+                       ApplicationEventPublisher eventPublisher) {
         this.postRepository = postRepository;
         this.postFileMappingRepository = postFileMappingRepository;
+        this.fileDeletionCandidateRepository = fileDeletionCandidateRepository;
         this.securityUtil = securityUtil;
         this.tagService = tagService;
         this.mediaProcessorService = mediaProcessorService;
         this.thumbnailService = thumbnailService;
         this.emailService = emailService;
+        this.relatedPostService = relatedPostService;
+        this.categoryStatsService = categoryStatsService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -73,9 +94,13 @@ public class PostService {
         // 파일 연결 처리
         processPostFiles(savedPost, request);
 
-        // 임시저장이 아닌 경우에만 이메일 알림 발송
+        // 카테고리 게시글 수 반영 (공개 게시글만 집계)
+        categoryStatsService.applyChange(null, false, savedPost.getCategory(), !savedPost.isDraft());
+
+        // 임시저장이 아닌 경우에만 이메일 알림 발송 및 공개 콘텐츠 변경 알림
         if (!savedPost.isDraft()) {
             emailService.sendNewPostNotification(savedPost);
+            eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
         }
 
         return savedPost.getId();
@@ -104,6 +129,9 @@ public class PostService {
                 request.draft()
         );
 
+        // 이메일 알림용 앞부분 HTML은 발송 시가 아닌 저장 시 한 번만 추출
+        post.updateExcerptHtml(HtmlParser.extractExcerptHtml(request.html()));
+
         // 태그 처리 로직
         tagService.processTags(post, request.tags());
 
@@ -143,6 +171,44 @@ public class PostService {
                 .toList();
     }
 
+    /**
+     * 카테고리별 공개 게시글 목록 조회
+     * (생성 시간, ID) 키셋 페이지네이션으로 최신 게시글부터 PAGE_SIZE개씩 조회합니다.
+     * 전체 게시글 수는 카테고리 통계에서 조회합니다.
+     *
+     * @param category 카테고리
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지이면 null)
+     * @return 게시글 페이지
+     * @throws com.thousandhyehyang.blog.exception.InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public PostPageResponse getPostsByCategory(String category, String cursor) {
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        PageRequest limit = PageRequest.of(0, PAGE_SIZE + 1);
+        List<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findPublishedByCategory(category, limit);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            posts = postRepository.findPublishedByCategoryBefore(category, keyset.createdAt(), keyset.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > PAGE_SIZE;
+        List<Post> page = hasNext ? posts.subList(0, PAGE_SIZE) : posts;
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new PostPageResponse(
+                page.stream().map(PostSummaryResponse::from).toList(),
+                nextCursor,
+                hasNext,
+                categoryStatsService.getPostCount(category)
+        );
+    }
+
     /**
      * 사용자의 임시저장 게시글 목록 조회
      * 현재 로그인한 사용자가 임시저장한 게시글의 요약 정보를 조회합니다.
@@ -208,6 +274,7 @@ public class PostService {
     /**
      * ID로 게시글 상세 정보 조회
      * 게시글 정보와 연결된 파일 정보를 함께 조회하여 상세 정보로 반환합니다.
+     * 공개 게시글은 미리 계산된 관련 게시글을 함께 반환합니다.
      * 임시저장 게시글은 작성자만 조회할 수 있습니다.
      *
      * @param id 조회할 게시글의 ID
@@ -229,10 +296,51 @@ public class PostService {
         }
 
         // 게시글과 연결된 파일 매핑 조회
-        List<PostFileMapping> fileMappings = postFileMappingRepository.findByPost(post);
+        List<PostFileMapping> fileMappings = postFileMappingRepository.findAllWithFileByPost(post);
+
+        // 공개 게시글은 미리 계산된 관련 게시글 추가 (Redis 조회만 발생)
+        List<RelatedPostResponse> relatedPosts = post.isDraft()
+                ? List.of()
+                : relatedPostService.getRelatedPosts(id);
 
         // 게시글과 파일 정보를 DTO로 변환하여 반환
-        return PostDetailResponse.from(post, fileMappings);
+        return PostDetailResponse.from(post, fileMappings, relatedPosts);
+    }
+
+    /**
+     * 공개 게시글 버전 정보 조회
+     * 게시글 상세 조회의 조건부 요청(If-None-Match) 처리에 사용합니다.
+     * 임시저장 게시글은 작성자 확인이 필요하므로 제외합니다.
+     *
+     * @param id 게시글 ID
+     * @return 버전 정보 (게시글이 없거나 임시저장인 경우 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<PostRepository.PostVersion> findPublishedPostVersion(Long id) {
+        return postRepository.findVersionById(id)
+                .filter(version -> !Boolean.TRUE.equals(version.getDraft()));
+    }
+
+    /**
+     * 관련 게시글 목록 버전 조회
+     * 관련 게시글은 게시글 버전과 무관하게 백그라운드에서 다시 계산되므로, 게시글 상세 ETag에 함께 반영합니다.
+     *
+     * @param id 게시글 ID
+     * @return 관련 게시글 목록 버전
+     */
+    public String getRelatedPostsVersion(Long id) {
+        return relatedPostService.getRelatedPostsVersion(id);
+    }
+
+    /**
+     * 게시글 목록 버전 정보 조회
+     * 게시글 목록 조회의 조건부 요청(If-None-Match) 처리에 사용합니다.
+     *
+     * @return 목록 버전 정보
+     */
+    @Transactional(readOnly = true)
+    public PostRepository.PostListVersion getPostListVersion() {
+        return postRepository.findListVersion();
     }
 
     /**
@@ -250,14 +358,19 @@ public class PostService {
         // 현재 사용자 닉네임 가져오기
         String currentUserNickname = securityUtil.getCurrentUserNickname();
 
-        // 게시글 조회
-        Post post = getPostById(id);
+        // 게시글 조회 (태그/첨부파일만 바뀌어도 버전이 증가하도록 강제 증가 잠금)
+        Post post = postRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new PostNotFoundException(id));
 
         // 작성자 확인 (작성자만 수정 가능)
         if (!post.getAuthor().equals(currentUserNickname)) {
             throw new AuthenticationException("게시글 수정 권한이 없습니다.");
         }
 
+        // 수정 전 공개 여부와 카테고리 (임시저장 상태로만 머무는 수정은 공개 콘텐츠 변경이 아님)
+        boolean wasPublished = !post.isDraft();
+        String previousCategory = post.getCategory();
+
         // HTML에서 텍스트 추출 (최대 200자)
         String extractedContent = null;
         if (request.html() != null) {
@@ -273,6 +386,9 @@ public class PostService {
             request.thumbnailUrl(),
             request.draft()
         );
+        if (request.html() != null) {
+            post.updateExcerptHtml(HtmlParser.extractExcerptHtml(request.html()));
+        }
 
         // 태그 처리 (기존 태그 삭제 후 새 태그 추가)
         tagService.clearTags(post);
@@ -291,17 +407,24 @@ public class PostService {
 
         // 변경사항 저장
         Post updatedPost = postRepository.save(post);
+
+        // 카테고리 변경이나 공개 여부 변경을 게시글 수에 반영
+        categoryStatsService.applyChange(previousCategory, wasPublished, updatedPost.getCategory(), !updatedPost.isDraft());
         log.info("게시글 수정 완료: ID={}", id);
 
+        if (wasPublished || !updatedPost.isDraft()) {
+            eventPublisher.publishEvent(new PostChangedEvent(id));
+        }
+
         // 수정된 게시글 상세 정보 반환
-        List<PostFileMapping> fileMappings = postFileMappingRepository.findByPost(updatedPost);
+        List<PostFileMapping> fileMappings = postFileMappingRepository.findAllWithFileByPost(updatedPost);
         return PostDetailResponse.from(updatedPost, fileMappings);
     }
 
     /**
      * 게시글 삭제
      * 게시글을 소프트 삭제하고, 연결된 파일 매핑을 정리합니다.
-     * 다른 게시글에서 사용하지 않는 파일은 삭제 대상으로 표시합니다.
+     * 다른 게시글에서 사용하지 않는 파일은 삭제 후보 큐에 등록되어 FileCleanupService가 정리합니다.
      *
      * @param id 삭제할 게시글의 ID
      * @throws PostNotFoundException 게시글을 찾을 수 없는 경우
@@ -310,74 +433,46 @@ public class PostService {
     public void deletePost(Long id) {
         // 게시글 조회
         Post post = getPostById(id);
+        boolean wasPublished = !post.isDraft();
 
-        // 파일 매핑 정리 및 고아 파일 처리
-        List<Long> orphanedFileIds = cleanupFileAssociations(post);
+        // 파일 매핑 정리 및 고아 파일 삭제 후보 등록
+        cleanupFileAssociations(post);
 
         // 게시글 삭제 (소프트 삭제)
         // @SQLDelete 어노테이션에 의해 실제로는 UPDATE 쿼리가 실행됨
         postRepository.delete(post);
+        categoryStatsService.applyChange(post.getCategory(), wasPublished, null, false);
         log.info("게시글 삭제 완료: ID={}", id);
 
-        // 고아 파일 처리
-        markOrphanedFilesForDeletion(orphanedFileIds);
+        if (wasPublished) {
+            eventPublisher.publishEvent(new PostChangedEvent(id));
+        }
     }
 
     /**
      * 파일 연결 정리
-     * 게시글과 연결된 파일 매핑을 삭제하고, 고아가 된 파일 ID 목록을 반환합니다.
+     * 다른 게시글에서 사용하지 않는 파일을 삭제 후보로 등록한 뒤, 게시글과 연결된 파일 매핑을 삭제합니다.
+     * 파일 수와 관계없이 INSERT ... SELECT와 DELETE 두 개의 쿼리로 처리합니다.
      *
      * @param post 삭제할 게시글
-     * @return 다른 게시글에서 사용하지 않는 파일 ID 목록
      */
-    private List<Long> cleanupFileAssociations(Post post) {
-        // 게시글과 연결된 모든 파일 매핑 찾기
-        List<PostFileMapping> fileMappings = postFileMappingRepository.findByPost(post);
-
-        // 파일 ID 목록 추출
-        List<Long> fileIds = fileMappings.stream()
-                .map(mapping -> mapping.getFile().getId())
-                .distinct()
-                .toList();
-
-        // 게시글과 연결된 파일 매핑 삭제
-        postFileMappingRepository.deleteByPost(post);
-        log.info("게시글 파일 매핑 삭제 완료: 게시글_ID={}, 매핑_수={}", post.getId(), fileMappings.size());
-
-        // 다른 게시글에서 사용하지 않는 파일 ID 목록 반환
-        return findOrphanedFileIds(fileIds);
+    private void cleanupFileAssociations(Post post) {
+        // 매핑이 남아 있을 때 고아 여부를 판단해야 하므로 매핑 삭제보다 먼저 실행
+        int candidateCount = fileDeletionCandidateRepository.enqueueOrphanedFilesOfPost(post.getId());
+
+        // 게시글과 연결된 파일 매핑 일괄 삭제
+        int mappingCount = postFileMappingRepository.deleteAllByPostId(post.getId());
+        log.info("게시글 파일 매핑 삭제 완료: 게시글_ID={}, 매핑_수={}, 삭제_후보_수={}",
+                post.getId(), mappingCount, candidateCount);
     }
 
     /**
-     * 고아 파일 ID 찾기
-     * 주어진 파일 ID 목록 중 다른 게시글에서 사용하지 않는 파일 ID를 찾습니다.
+     * 공개 게시글 변경 이벤트
+     * 공개 게시글이 생성/수정/삭제되거나 공개 여부가 바뀐 경우 발행되며,
+     * 트랜잭션 커밋 후 피드와 사이트맵 갱신에 사용됩니다.
      *
-     * @param fileIds 확인할 파일 ID 목록
-     * @return 다른 게시글에서 사용하지 않는 파일 ID 목록
+     * @param postId 게시글 ID
      */
-    private List<Long> findOrphanedFileIds(List<Long> fileIds) {
-        return fileIds.stream()
-                .filter(fileId -> postFileMappingRepository.findByFileId(fileId).isEmpty())
-                .toList();
-    }
-
-    /**
-     * 고아 파일 삭제 표시
-     * 다른 게시글에서 사용하지 않는 파일을 삭제 대상으로 표시합니다.
-     * 실제 파일 삭제는 별도의 배치 작업이나 스케줄러에서 처리합니다.
-     *
-     * @param orphanedFileIds 고아 파일 ID 목록
-     */
-    private void markOrphanedFilesForDeletion(List<Long> orphanedFileIds) {
-        if (orphanedFileIds.isEmpty()) {
-            return;
-        }
-
-        for (Long fileId : orphanedFileIds) {
-            log.info("고아 파일 감지 (삭제 대상): 파일_ID={}", fileId);
-            // TODO: 실제 파일 삭제 로직 구현 또는 삭제 대상으로 표시
-            // 파일 삭제는 별도의 배치 작업이나 스케줄러에서 처리하는 것이 권장됨
-            // fileMetadataRepository.deleteById(fileId);
-        }
+    public record PostChangedEvent(Long postId) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package com.thousandhyehyang.blog.service.post;
+
+import com.thousandhyehyang.blog.dto.post.PopularPostResponse;
+import com.thousandhyehyang.blog.repository.PostStatsRepository;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 서비스
+ * 조회마다 DB 행을 갱신하지 않고, 단계별로 모아서 증분만 반영합니다.
+ *
+ * 1. 조회 시 게시글별 LongAdder에 더합니다. (스레드 간 경합 없음)
+ * 2. 짧은 주기로 인스턴스의 누적값을 Redis 해시에 HINCRBY로 합칩니다.
+ * 3. 락을 획득한 한 노드가 Redis 해시를 가져가 post_stats 테이블에 하나의 배치 UPSERT로 반영합니다.
+ * 인기 게시글은 집계 테이블에서 조회합니다.
+ */
+@Service
+public class PostViewService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewService.class);
+
+    static final String PENDING_KEY = "post_views:pending";
+    static final String FLUSHING_KEY = "post_views:flushing";
+
+    static final String FLUSH_JOB = "post-view-flush";
+    private static final Duration LEASE_TTL = Duration.ofMinutes(2);
+
+    // 인기 게시글 최대 조회 수
+    static final int MAX_POPULAR_SIZE = 50;
+
+    /**
+     * 반영할 조회수 해시 확보
+     * 이전 반영이 실패해 남아 있는 해시가 있으면 그것부터 처리하고,
+     * 없으면 누적 중인 해시의 이름을 바꿔 이후 조회수와 분리합니다.
+     */
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 1 end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final Map<Long, LongAdder> localCounts = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostStatsRepository postStatsRepository;
+    private final JobLockService jobLockService;
+
+    public PostViewService(RedisTemplate<String, String> redisTemplate,
+                           PostStatsRepository postStatsRepository,
+                           JobLockService jobLockService) {
+        this.redisTemplate = redisTemplate;
+        this.postStatsRepository = postStatsRepository;
+        this.jobLockService = jobLockService;
+    }
+
+    /**
+     * 게시글 조회 기록
+     * 메모리 카운터에만 더하므로 요청 처리 중 I/O가 발생하지 않습니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void recordView(Long postId) {
+        localCounts.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 인기 게시글 조회
+     *
+     * @param limit 조회할 게시글 수 (최대 50)
+     * @return 조회수 순 인기 게시글 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PopularPostResponse> getPopularPosts(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_POPULAR_SIZE));
+        return postStatsRepository.findPopularPosts(PageRequest.of(0, size))
+                .stream()
+                .map(PopularPostResponse::from)
+                .toList();
+    }
+
+    /**
+     * 메모리 누적값을 Redis로 이동
+     * 전송에 실패한 값은 메모리 카운터에 되돌려 다음 주기에 다시 시도합니다.
+     *
+     * @return 이동한 게시글 수
+     */
+    @Scheduled(fixedDelay = 5000, initialDelay = 5000) // 이전 실행 종료 5초 후 실행
+    public int drainToRedis() {
+        int drained = 0;
+        for (Map.Entry<Long, LongAdder> entry : localCounts.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                // 카운터는 제거하지 않고 재사용 (제거와 동시에 더해진 조회가 유실되지 않도록)
+                continue;
+            }
+
+            try {
+                redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(entry.getKey()), delta);
+                drained++;
+            } catch (DataAccessException e) {
+                localCounts.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(delta);
+                log.warn("조회수 Redis 반영 실패, 다음 주기에 재시도: 게시글_ID={}", entry.getKey(), e);
+                break;
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 종료 시 남은 메모리 누적값을 Redis로 이동
+     */
+    @PreDestroy
+    void drainOnShutdown() {
+        drainToRedis();
+    }
+
+    /**
+     * Redis 누적값을 DB에 반영
+     * 여러 노드 중 락을 획득한 한 노드만 실행합니다.
+     * 반영할 조회수가 없으면 락을 획득하지 않으므로 실행 이력도 남지 않습니다.
+     *
+     * @return 반영한 게시글 수
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 30000) // 이전 실행 종료 1분 후 실행
+    public int flushToDatabase() {
+        try {
+            Long pending = redisTemplate.countExistingKeys(List.of(PENDING_KEY, FLUSHING_KEY));
+            if (pending == null || pending == 0) {
+                return 0;
+            }
+            return jobLockService.runExclusively(FLUSH_JOB, FLUSH_JOB, LEASE_TTL, this::flush);
+        } catch (RuntimeException e) {
+            // 가져간 해시는 Redis에 남아 있으므로 다음 주기에 다시 반영
+            log.error("조회수 DB 반영 실패", e);
+            return 0;
+        }
+    }
+
+    private int flush(JobLease lease) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY));
+        if (claimed == null || claimed == 0) {
+            return 0;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        redisTemplate.opsForHash().entries(FLUSHING_KEY).forEach((field, value) -> {
+            try {
+                long delta = Long.parseLong(value.toString());
+                if (delta > 0) {
+                    deltas.merge(Long.valueOf(field.toString()), delta, Long::sum);
+                }
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 조회수 항목 무시: {}={}", field, value);
+            }
+        });
+
+        // 락을 잃은 상태에서 같은 해시를 중복 반영하지 않도록 쓰기 직전에 확인
+        jobLockService.ensureHeld(lease, LEASE_TTL);
+        int updated = postStatsRepository.addViewCounts(deltas);
+
+        // DB 반영 후 삭제 전에 실패하면 다음 주기에 같은 값이 한 번 더 더해질 수 있음 (조회수 특성상 허용)
+        redisTemplate.delete(FLUSHING_KEY);
+        log.info("조회수 DB 반영 완료: 게시글_수={}", updated);
+        return updated;
+    }
+}
@@ -0,0 +1,187 @@
+package com.thousandhyehyang.blog.service.post;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 관련 게시글 유사도 색인
+ * 제목과 본문 요약(HtmlParser.extractText 결과)의 TF-IDF 코사인 유사도와 태그 자카드 유사도를 합산합니다.
+ * 색인은 계산할 때마다 새로 만들며, 공개 게시글 수가 수천 건 이하인 규모를 가정합니다.
+ */
+class RelatedPostIndex {
+
+    // 텍스트/태그 유사도 가중치
+    static final double TEXT_WEIGHT = 0.6;
+    static final double TAG_WEIGHT = 0.4;
+
+    // 이 값 이하의 유사도는 관련 게시글로 보지 않음
+    static final double MIN_SCORE = 0.05;
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern SCRIPT_BOUNDARY = Pattern.compile(
+            "(?<=\\p{IsHangul})(?=[^\\p{IsHangul}])|(?<=[^\\p{IsHangul}])(?=\\p{IsHangul})");
+    private static final Pattern HANGUL = Pattern.compile("\\p{IsHangul}+");
+
+    private final Map<Long, Document> documents = new LinkedHashMap<>();
+    private final Map<Long, Map<String, Double>> vectors = new HashMap<>();
+
+    RelatedPostIndex(Collection<Document> documents) {
+        for (Document document : documents) {
+            this.documents.put(document.id(), document);
+        }
+        buildVectors();
+    }
+
+    boolean contains(Long postId) {
+        return documents.containsKey(postId);
+    }
+
+    Set<Long> ids() {
+        return documents.keySet();
+    }
+
+    Document document(Long postId) {
+        return documents.get(postId);
+    }
+
+    /**
+     * 두 게시글의 유사도
+     *
+     * @return 0~1 사이 유사도 (색인에 없는 게시글이면 0)
+     */
+    double similarity(Long a, Long b) {
+        if (a.equals(b) || !contains(a) || !contains(b)) {
+            return 0;
+        }
+        return TEXT_WEIGHT * cosine(vectors.get(a), vectors.get(b))
+                + TAG_WEIGHT * jaccard(documents.get(a).tags(), documents.get(b).tags());
+    }
+
+    /**
+     * 유사도 상위 게시글 조회
+     *
+     * @param postId 기준 게시글 ID
+     * @param k 최대 개수
+     * @return 유사도 내림차순 게시글 목록
+     */
+    List<Document> topK(Long postId, int k) {
+        if (!contains(postId)) {
+            return List.of();
+        }
+
+        List<Map.Entry<Document, Double>> scored = new ArrayList<>();
+        for (Document other : documents.values()) {
+            double score = similarity(postId, other.id());
+            if (score > MIN_SCORE) {
+                scored.add(Map.entry(other, score));
+            }
+        }
+        scored.sort(Map.Entry.<Document, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(entry -> entry.getKey().id(), Comparator.reverseOrder()));
+
+        return scored.stream()
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void buildVectors() {
+        Map<Long, Map<String, Integer>> termCounts = new HashMap<>();
+        Map<String, Integer> documentFrequency = new HashMap<>();
+
+        for (Document document : documents.values()) {
+            Map<String, Integer> counts = new HashMap<>();
+            // 제목은 본문 요약보다 주제를 잘 나타내므로 두 번 반영
+            tokenize(document.title()).forEach(token -> counts.merge(token, 2, Integer::sum));
+            tokenize(document.text()).forEach(token -> counts.merge(token, 1, Integer::sum));
+            termCounts.put(document.id(), counts);
+            counts.keySet().forEach(token -> documentFrequency.merge(token, 1, Integer::sum));
+        }
+
+        int total = documents.size();
+        termCounts.forEach((postId, counts) -> {
+            Map<String, Double> vector = new HashMap<>();
+            double norm = 0;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                double idf = Math.log((1.0 + total) / (1.0 + documentFrequency.get(entry.getKey()))) + 1;
+                double weight = entry.getValue() * idf;
+                vector.put(entry.getKey(), weight);
+                norm += weight * weight;
+            }
+
+            double length = Math.sqrt(norm);
+            if (length > 0) {
+                vector.replaceAll((token, weight) -> weight / length);
+            }
+            vectors.put(postId, vector);
+        });
+    }
+
+    /**
+     * 토큰 분리
+     * 한글은 조사가 붙어 형태가 달라지므로 두 글자 단위(bigram)로 나누고, 그 외 단어는 그대로 사용합니다.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : TOKEN_DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            // "boot에서"처럼 영문과 한글이 붙은 단어는 나누어 처리
+            for (String part : SCRIPT_BOUNDARY.split(word)) {
+                if (part.length() < 2) {
+                    continue;
+                }
+                if (HANGUL.matcher(part).matches()) {
+                    for (int i = 0; i + 2 <= part.length(); i++) {
+                        tokens.add(part.substring(i, i + 2));
+                    }
+                } else {
+                    tokens.add(part);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static double cosine(Map<String, Double> a, Map<String, Double> b) {
+        Map<String, Double> smaller = a.size() <= b.size() ? a : b;
+        Map<String, Double> larger = smaller == a ? b : a;
+
+        double dot = 0;
+        for (Map.Entry<String, Double> entry : smaller.entrySet()) {
+            Double weight = larger.get(entry.getKey());
+            if (weight != null) {
+                dot += entry.getValue() * weight;
+            }
+        }
+        return dot;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / (a.size() + b.size() - intersection.size());
+    }
+
+    /**
+     * 색인 대상 게시글
+     *
+     * @param tags 소문자로 정규화된 태그
+     */
+    record Document(Long id, String title, String category, String thumbnailUrl, String text, Set<String> tags) {
+    }
+}
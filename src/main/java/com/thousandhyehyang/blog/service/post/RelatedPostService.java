@@ -0,0 +1,296 @@
+package com.thousandhyehyang.blog.service.post;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.dto.post.RelatedPostResponse;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.repository.PostTagRepository;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관련 게시글 서비스
+ * 게시글별 관련 게시글 상위 목록을 백그라운드에서 미리 계산하여 Redis에 저장하고,
+ * 게시글 상세 조회 시에는 저장된 목록만 읽습니다.
+ *
+ * 1. 공개 게시글이 변경되면 커밋 후 게시글 ID를 변경 집합에 추가합니다.
+ * 2. 주기적으로 변경 집합을 가져와 영향받는 게시글만 다시 계산합니다.
+ *    (변경된 게시글, 기존 목록에 변경된 게시글이 있던 게시글, 변경된 게시글이 새로 목록에 들어갈 게시글)
+ * 3. 문서 빈도(IDF) 변화는 매일 한 번 전체 재계산으로 반영합니다.
+ */
+@Service
+public class RelatedPostService {
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedPostService.class);
+
+    static final String KEY_PREFIX = "related_posts:";
+    static final String DIRTY_KEY = "related_posts:dirty";
+
+    // 게시글별 관련 게시글 수
+    static final int TOP_K = 5;
+
+    // 한 번에 처리할 변경 게시글 최대 수
+    private static final int MAX_DIRTY_BATCH = 100;
+
+    static final String INCREMENTAL_JOB = "related-posts-incremental";
+    static final String FULL_JOB = "related-posts-full";
+    // 전체/증분 재계산이 동시에 실행되지 않도록 같은 락 사용
+    private static final String LOCK_NAME = "related-posts";
+    private static final Duration LEASE_TTL = Duration.ofMinutes(5);
+
+    // 전체 재계산 주기
+    private static final Duration FULL_PERIOD = Duration.ofDays(1);
+
+    private static final TypeReference<List<RelatedPostResponse>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobLockService jobLockService;
+
+    public RelatedPostService(PostRepository postRepository,
+                              PostTagRepository postTagRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              JobLockService jobLockService) {
+        this.postRepository = postRepository;
+        this.postTagRepository = postTagRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.jobLockService = jobLockService;
+    }
+
+    /**
+     * 미리 계산된 관련 게시글 조회
+     * DB를 조회하지 않으며, 아직 계산되지 않았거나 Redis 장애 시 빈 목록을 반환합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 관련 게시글 목록
+     */
+    public List<RelatedPostResponse> getRelatedPosts(Long postId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+            return json == null ? List.of() : objectMapper.readValue(json, LIST_TYPE);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("관련 게시글 조회 실패: 게시글_ID={}", postId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 미리 계산된 관련 게시글 목록의 버전 조회
+     * 저장된 목록의 해시로, 목록이 다시 계산되어 내용이 바뀌면 값이 달라집니다.
+     *
+     * @param postId 게시글 ID
+     * @return 목록 버전 (아직 계산되지 않았거나 Redis 장애 시 "0")
+     */
+    public String getRelatedPostsVersion(Long postId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+            return json == null ? "0" : DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8)).substring(0, 8);
+        } catch (DataAccessException e) {
+            log.warn("관련 게시글 버전 조회 실패: 게시글_ID={}", postId, e);
+            return "0";
+        }
+    }
+
+    /**
+     * 공개 게시글 변경 트랜잭션 커밋 후 재계산 대상으로 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostChanged(PostService.PostChangedEvent event) {
+        try {
+            redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(event.postId()));
+        } catch (DataAccessException e) {
+            // 다음 전체 재계산에서 반영
+            log.warn("관련 게시글 재계산 대상 등록 실패: 게시글_ID={}", event.postId(), e);
+        }
+    }
+
+    /**
+     * 변경된 게시글 기준 증분 재계산
+     *
+     * @return 다시 계산한 게시글 수
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 45000) // 이전 실행 종료 1분 후 실행
+    public int recomputeChanged() {
+        try {
+            return jobLockService.runExclusively(INCREMENTAL_JOB, LOCK_NAME, LEASE_TTL, this::recomputeDirty);
+        } catch (RuntimeException e) {
+            log.error("관련 게시글 증분 재계산 실패", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 전체 재계산
+     *
+     * @return 다시 계산한 게시글 수
+     */
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 새벽 4시 30분에 실행
+    public int recomputeAll() {
+        try {
+            return jobLockService.runOncePerPeriod(FULL_JOB, LOCK_NAME, LEASE_TTL, FULL_PERIOD, lease -> {
+                // 이후 변경분은 다시 집합에 쌓이므로 전체 계산 전에 비움
+                redisTemplate.delete(DIRTY_KEY);
+                RelatedPostIndex index = loadIndex();
+                return store(index, index.ids(), Set.of(), lease);
+            });
+        } catch (RuntimeException e) {
+            log.error("관련 게시글 전체 재계산 실패", e);
+            return 0;
+        }
+    }
+
+    private int recomputeDirty(JobLease lease) {
+        List<String> popped = redisTemplate.opsForSet().pop(DIRTY_KEY, MAX_DIRTY_BATCH);
+        if (popped == null || popped.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> dirty = new HashSet<>();
+        for (String value : popped) {
+            try {
+                dirty.add(Long.valueOf(value));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 재계산 대상 무시: {}", value);
+            }
+        }
+
+        try {
+            RelatedPostIndex index = loadIndex();
+            Set<Long> affected = findAffected(index, dirty);
+
+            // 삭제되었거나 임시저장으로 바뀐 게시글은 목록 제거
+            Set<Long> removed = new HashSet<>(dirty);
+            removed.removeIf(index::contains);
+
+            int count = store(index, affected, removed, lease);
+            log.info("관련 게시글 증분 재계산 완료: 변경_게시글_수={}, 재계산_게시글_수={}", dirty.size(), count);
+            return count;
+        } catch (RuntimeException e) {
+            // 가져간 대상을 되돌려 다음 주기에 다시 처리
+            redisTemplate.opsForSet().add(DIRTY_KEY, popped.toArray(String[]::new));
+            throw e;
+        }
+    }
+
+    /**
+     * 재계산이 필요한 게시글 선정
+     * 기존 목록에 변경된 게시글이 있거나, 변경된 게시글이 기존 목록의 최저 유사도보다 가까워진 게시글을 포함합니다.
+     */
+    private Set<Long> findAffected(RelatedPostIndex index, Set<Long> dirty) {
+        Set<Long> affected = new LinkedHashSet<>();
+        dirty.stream().filter(index::contains).forEach(affected::add);
+
+        List<Long> ids = new ArrayList<>(index.ids());
+        List<String> stored = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> KEY_PREFIX + id).toList());
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long postId = ids.get(i);
+            if (affected.contains(postId)) {
+                continue;
+            }
+
+            List<Long> current = parseIds(stored == null ? null : stored.get(i));
+            if (current.stream().anyMatch(dirty::contains)) {
+                affected.add(postId);
+                continue;
+            }
+
+            double threshold = current.size() < TOP_K
+                    ? RelatedPostIndex.MIN_SCORE
+                    : current.stream().mapToDouble(id -> index.similarity(postId, id)).min().orElse(0);
+            for (Long changed : dirty) {
+                if (index.similarity(postId, changed) > threshold) {
+                    affected.add(postId);
+                    break;
+                }
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * 관련 게시글 목록 저장
+     */
+    private int store(RelatedPostIndex index, Set<Long> targets, Set<Long> removed, JobLease lease) {
+        Map<String, String> values = new HashMap<>();
+        for (Long postId : targets) {
+            List<RelatedPostResponse> related = index.topK(postId, TOP_K).stream()
+                    .map(document -> new RelatedPostResponse(
+                            document.id(), document.title(), document.category(), document.thumbnailUrl()))
+                    .toList();
+            try {
+                values.put(KEY_PREFIX + postId, objectMapper.writeValueAsString(related));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("관련 게시글 직렬화 실패: 게시글_ID=" + postId, e);
+            }
+        }
+
+        // 락을 잃은 상태에서 오래된 결과로 덮어쓰지 않도록 쓰기 직전에 확인
+        jobLockService.ensureHeld(lease, LEASE_TTL);
+        if (!values.isEmpty()) {
+            redisTemplate.opsForValue().multiSet(values);
+        }
+        if (!removed.isEmpty()) {
+            redisTemplate.delete(removed.stream().map(id -> KEY_PREFIX + id).toList());
+        }
+        return values.size();
+    }
+
+    /**
+     * 공개 게시글 전체로 유사도 색인 생성 (쿼리 2회)
+     */
+    private RelatedPostIndex loadIndex() {
+        Map<Long, Set<String>> tags = new HashMap<>();
+        for (PostTagRepository.PostTagRow row : postTagRepository.findPublishedTags()) {
+            tags.computeIfAbsent(row.getPostId(), id -> new HashSet<>()).add(row.getTag().toLowerCase(Locale.ROOT));
+        }
+
+        List<RelatedPostIndex.Document> documents = postRepository.findRelatedCandidates().stream()
+                .map(post -> new RelatedPostIndex.Document(
+                        post.getId(),
+                        post.getTitle(),
+                        post.getCategory(),
+                        post.getThumbnailUrl(),
+                        post.getContent(),
+                        tags.getOrDefault(post.getId(), Set.of())))
+                .toList();
+        return new RelatedPostIndex(documents);
+    }
+
+    private List<Long> parseIds(String json) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, LIST_TYPE).stream().map(RelatedPostResponse::id).toList();
+        } catch (JsonProcessingException e) {
+            return List.of();
+        }
+    }
+}
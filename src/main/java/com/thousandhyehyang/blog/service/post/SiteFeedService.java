@@ -0,0 +1,361 @@
+package com.thousandhyehyang.blog.service.post;
+
+import com.thousandhyehyang.blog.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 피드(Atom)와 사이트맵 서비스
+ * 공개 게시글 요약을 메모리에 보관하고, 미리 만들어 둔 XML 바이트 배열을 그대로 제공합니다.
+ *
+ * 1. 애플리케이션 시작 시 공개 게시글 요약 전체를 한 번 조회하여 문서를 생성합니다.
+ * 2. 공개 게시글이 변경되면 커밋 후 Redis 채널로 게시글 ID를 전파하고,
+ *    각 인스턴스는 해당 게시글 한 건만 다시 조회하여 문서를 재생성합니다.
+ * 3. 피드/사이트맵 요청은 DB를 조회하지 않습니다.
+ * 유실된 메시지에 대비하여 주기적으로 전체를 다시 조회합니다.
+ */
+@Service
+public class SiteFeedService implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SiteFeedService.class);
+
+    static final String CHANNEL = "post-changes";
+
+    // 피드에 포함할 최신 게시글 수
+    static final int FEED_SIZE = 20;
+
+    // 메시지 유실 대비 전체 재생성 주기
+    private static final long FULL_REBUILD_INTERVAL_MILLIS = 60 * 60 * 1000L;
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final String SITEMAP_NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    // 시각 정보가 없는 경우 사용할 기본값
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private static final Comparator<FeedEntry> LATEST_FIRST = Comparator
+            .comparing(FeedEntry::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FeedEntry::id, Comparator.reverseOrder());
+
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+    // 공개 게시글 요약 (게시글 ID 기준). this 잠금으로 보호
+    private final Map<Long, FeedEntry> entries = new HashMap<>();
+
+    private volatile Documents documents;
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String siteUrl;
+    private final String siteTitle;
+
+    public SiteFeedService(PostRepository postRepository,
+                           RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           @Value("${app.site.url}") String siteUrl,
+                           @Value("${app.site.title}") String siteTitle) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.siteUrl = siteUrl.endsWith("/") ? siteUrl.substring(0, siteUrl.length() - 1) : siteUrl;
+        this.siteTitle = siteTitle;
+    }
+
+    @PostConstruct
+    void registerListener() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Atom 피드 조회
+     *
+     * @return 미리 생성된 피드 문서
+     */
+    public XmlDocument getFeed() {
+        return currentDocuments().feed();
+    }
+
+    /**
+     * 사이트맵 조회
+     *
+     * @return 미리 생성된 사이트맵 문서
+     */
+    public XmlDocument getSitemap() {
+        return currentDocuments().sitemap();
+    }
+
+    /**
+     * 애플리케이션 시작 후 전체 문서 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuildAll();
+        } catch (DataAccessException e) {
+            // 첫 요청 시 다시 시도
+            log.warn("피드/사이트맵 초기 생성 실패", e);
+        }
+    }
+
+    /**
+     * 주기적 전체 재생성
+     * Redis 채널 메시지는 유실될 수 있으므로 일정 주기로 전체를 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelay = FULL_REBUILD_INTERVAL_MILLIS, initialDelay = FULL_REBUILD_INTERVAL_MILLIS)
+    public void scheduledRebuild() {
+        try {
+            rebuildAll();
+        } catch (DataAccessException e) {
+            log.warn("피드/사이트맵 주기적 재생성 실패", e);
+        }
+    }
+
+    /**
+     * 공개 게시글 변경 트랜잭션 커밋 후 Redis 채널에 게시글 ID 발행
+     * 발행에 실패하면 이 인스턴스만이라도 바로 갱신합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostChanged(PostService.PostChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.postId()));
+        } catch (DataAccessException e) {
+            log.warn("게시글 변경 이벤트 발행 실패, 현재 인스턴스만 갱신: 게시글_ID={}", event.postId(), e);
+            refresh(event.postId());
+        }
+    }
+
+    /**
+     * Redis 채널 메시지 수신
+     * 변경된 게시글 한 건만 다시 조회하여 문서를 재생성합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long postId;
+        try {
+            postId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            log.warn("게시글 변경 메시지 해석 실패");
+            return;
+        }
+        try {
+            refresh(postId);
+        } catch (DataAccessException e) {
+            // 다음 주기적 전체 재생성에서 복구
+            log.warn("피드/사이트맵 갱신 실패: 게시글_ID={}", postId, e);
+        }
+    }
+
+    /**
+     * 게시글 한 건 반영
+     * 공개 게시글이면 요약을 교체하고, 삭제되었거나 임시저장으로 바뀐 경우 제거합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    synchronized void refresh(Long postId) {
+        if (documents == null) {
+            rebuildAll();
+            return;
+        }
+
+        Optional<FeedEntry> entry = postRepository.findFeedEntryById(postId).map(FeedEntry::from);
+        if (entry.isPresent()) {
+            entries.put(postId, entry.get());
+        } else if (entries.remove(postId) == null) {
+            // 원래 피드에 없던 게시글이 여전히 비공개인 경우
+            return;
+        }
+        documents = render();
+        log.info("피드/사이트맵 갱신 완료: 게시글_ID={}, 게시글_수={}", postId, entries.size());
+    }
+
+    /**
+     * 공개 게시글 요약 전체를 다시 조회하여 문서 생성
+     */
+    synchronized void rebuildAll() {
+        List<PostRepository.PostFeedEntry> rows = postRepository.findFeedEntries();
+        entries.clear();
+        for (PostRepository.PostFeedEntry row : rows) {
+            entries.put(row.getId(), FeedEntry.from(row));
+        }
+        documents = render();
+        log.info("피드/사이트맵 전체 생성 완료: 게시글_수={}", entries.size());
+    }
+
+    private Documents currentDocuments() {
+        Documents current = documents;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (documents == null) {
+                rebuildAll();
+            }
+            return documents;
+        }
+    }
+
+    private Documents render() {
+        List<FeedEntry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(LATEST_FIRST);
+        return new Documents(
+                XmlDocument.of(renderFeed(sorted.subList(0, Math.min(FEED_SIZE, sorted.size())))),
+                XmlDocument.of(renderSitemap(sorted)));
+    }
+
+    private byte[] renderFeed(List<FeedEntry> latest) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeStartElement("feed");
+            writer.writeDefaultNamespace(ATOM_NAMESPACE);
+
+            writeElement(writer, "title", siteTitle);
+            writeElement(writer, "id", siteUrl + "/");
+            writeLink(writer, siteUrl + "/");
+            writeElement(writer, "updated", formatInstant(latest.stream()
+                    .map(FeedEntry::lastModified)
+                    .max(Comparator.naturalOrder())
+                    .orElse(EPOCH)));
+
+            for (FeedEntry entry : latest) {
+                String link = postUrl(entry.id());
+                writer.writeStartElement("entry");
+                writeElement(writer, "title", entry.title());
+                writeElement(writer, "id", link);
+                writeLink(writer, link);
+                writeElement(writer, "published", formatInstant(entry.published()));
+                writeElement(writer, "updated", formatInstant(entry.lastModified()));
+                writer.writeStartElement("author");
+                writeElement(writer, "name", entry.author());
+                writer.writeEndElement();
+                writer.writeEmptyElement("category");
+                writer.writeAttribute("term", entry.category());
+                writeElement(writer, "summary", entry.summary());
+                writer.writeEndElement();
+            }
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("피드 생성 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] renderSitemap(List<FeedEntry> all) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeStartElement("urlset");
+            writer.writeDefaultNamespace(SITEMAP_NAMESPACE);
+
+            writer.writeStartElement("url");
+            writeElement(writer, "loc", siteUrl + "/");
+            writer.writeEndElement();
+
+            for (FeedEntry entry : all) {
+                writer.writeStartElement("url");
+                writeElement(writer, "loc", postUrl(entry.id()));
+                writeElement(writer, "lastmod", formatInstant(entry.lastModified()));
+                writer.writeEndElement();
+            }
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("사이트맵 생성 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private void writeElement(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(text == null ? "" : text);
+        writer.writeEndElement();
+    }
+
+    private void writeLink(XMLStreamWriter writer, String href) throws XMLStreamException {
+        writer.writeEmptyElement("link");
+        writer.writeAttribute("href", href);
+    }
+
+    private String postUrl(Long postId) {
+        return siteUrl + "/post/" + postId;
+    }
+
+    private String formatInstant(LocalDateTime dateTime) {
+        // 엔티티 시각은 서버 기본 시간대로 저장됨
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime.atZone(ZoneId.systemDefault()));
+    }
+
+    /**
+     * 미리 생성된 XML 문서
+     *
+     * @param body 문서 바이트 배열 (UTF-8)
+     * @param eTag 문서 내용으로 계산한 약한 ETag (강한 ETag가 있으면 Tomcat이 응답을 압축하지 않음)
+     */
+    public record XmlDocument(byte[] body, String eTag) {
+
+        static XmlDocument of(byte[] body) {
+            return new XmlDocument(body, "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+    }
+
+    private record Documents(XmlDocument feed, XmlDocument sitemap) {
+    }
+
+    /**
+     * 피드 항목 (프로젝션 값을 복사해 보관)
+     */
+    private record FeedEntry(Long id, String title, String category, String summary, String author,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static FeedEntry from(PostRepository.PostFeedEntry row) {
+            return new FeedEntry(row.getId(), row.getTitle(), row.getCategory(), row.getContent(),
+                    row.getAuthor(), row.getCreatedAt(), row.getUpdatedAt());
+        }
+
+        LocalDateTime published() {
+            return createdAt != null ? createdAt : EPOCH;
+        }
+
+        LocalDateTime lastModified() {
+            return updatedAt != null ? updatedAt : published();
+        }
+    }
+}
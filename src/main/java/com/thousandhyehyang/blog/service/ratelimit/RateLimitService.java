@@ -0,0 +1,128 @@
+package com.thousandhyehyang.blog.service.ratelimit;
+
+import com.thousandhyehyang.blog.enums.RateLimitPolicy;
+import com.thousandhyehyang.blog.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 속도 제한 서비스
+ * 두 단계로 요청을 제한합니다.
+ * 1. 로컬 차단 목록: Redis에서 거부된 키는 재시도 가능 시각까지 이 인스턴스에서 Redis 호출 없이 바로 거부합니다.
+ * 2. Redis 토큰 버킷: Lua 스크립트로 토큰 보충과 차감을 한 번의 왕복에서 원자적으로 처리하여 모든 인스턴스가 같은 버킷을 공유합니다.
+ * Redis 장애 시에는 서비스 가용성을 위해 요청을 허용합니다.
+ */
+@Service
+public class RateLimitService {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitService.class);
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    // 로컬 차단 목록 최대 크기 (초과 시 만료된 항목부터 정리)
+    private static final int MAX_LOCAL_ENTRIES = 10_000;
+
+    // 토큰 버킷 갱신 (허용 시 0, 거부 시 다음 토큰까지 남은 밀리초 반환)
+    // 인스턴스 간 시계 차이를 없애기 위해 Redis 서버 시간을 사용
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local interval = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(state[1]) or capacity " +
+            "local ts = tonumber(state[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) / interval) " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 " +
+            "else wait = math.ceil((1 - tokens) * interval) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], capacity * interval) " +
+            "return wait",
+            Long.class);
+
+    // 키별 차단 해제 시각 (epoch 밀리초)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitService(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 토큰 획득
+     *
+     * @param policy 제한 정책
+     * @param subject 제한 대상 (IP, 이메일 등)
+     * @throws RateLimitExceededException 제한을 초과한 경우
+     */
+    public void acquire(RateLimitPolicy policy, String subject) {
+        String key = KEY_PREFIX + policy.getKeyPrefix() + ":" + subject;
+        long now = System.currentTimeMillis();
+
+        // 1. 로컬 차단 목록 확인
+        Long until = blockedUntil.get(key);
+        if (until != null) {
+            if (until > now) {
+                rejected(policy, "local").increment();
+                throw new RateLimitExceededException(toRetryAfterSeconds(until - now));
+            }
+            blockedUntil.remove(key, until);
+        }
+
+        // 2. Redis 토큰 버킷 확인
+        Long waitMillis;
+        try {
+            waitMillis = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(policy.getRefillInterval().toMillis()));
+        } catch (DataAccessException e) {
+            meterRegistry.counter("rate_limit.errors", "policy", policy.name()).increment();
+            log.warn("요청 속도 제한 확인 실패, 요청을 허용합니다: 정책={}", policy, e);
+            return;
+        }
+
+        if (waitMillis != null && waitMillis > 0) {
+            if (blockedUntil.size() >= MAX_LOCAL_ENTRIES) {
+                evictExpired();
+            }
+            if (blockedUntil.size() < MAX_LOCAL_ENTRIES) {
+                blockedUntil.put(key, now + waitMillis);
+            }
+            rejected(policy, "redis").increment();
+            throw new RateLimitExceededException(toRetryAfterSeconds(waitMillis));
+        }
+    }
+
+    /**
+     * 만료된 로컬 차단 항목 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        blockedUntil.entrySet().removeIf(entry -> entry.getValue() <= now);
+    }
+
+    private Counter rejected(RateLimitPolicy policy, String tier) {
+        return meterRegistry.counter("rate_limit.rejected", "policy", policy.name(), "tier", tier);
+    }
+
+    private long toRetryAfterSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
@@ -1,12 +1,14 @@
 package com.thousandhyehyang.blog.service.subscription;
 
 import com.thousandhyehyang.blog.entity.Subscriber;
+import com.thousandhyehyang.blog.enums.DeliveryMode;
+import com.thousandhyehyang.blog.enums.RateLimitPolicy;
 import com.thousandhyehyang.blog.enums.SubscriptionStatus;
-import com.thousandhyehyang.blog.exception.DuplicateSubscriptionException;
 import com.thousandhyehyang.blog.exception.SubscriberNotFoundException;
 import com.thousandhyehyang.blog.repository.SubscriberRepository;
-import com.thousandhyehyang.blog.service.email.EmailService;
+import com.thousandhyehyang.blog.service.ratelimit.RateLimitService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,42 +19,69 @@ import java.util.List;
 public class SubscriptionService {
 
     private final SubscriberRepository subscriberRepository;
-    private final EmailService emailService;
+    private final RateLimitService rateLimitService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 구독 신청
+     * 같은 요청이 반복되거나 동시에 들어와도 결과가 같도록 조건부 쓰기로 처리합니다.
+     * 실제로 구독 상태가 된 경우에만 커밋 후 확인 메일을 발송합니다.
+     *
+     * @param email 이메일
+     * @param deliveryMode 발송 방식 (null이면 즉시 발송)
+     * @return 구독 상태가 변경되었는지 여부 (이미 구독 중이면 false)
+     */
     @Transactional
-    public void subscribe(String email) {
-        // 이미 구독 중인 경우 예외 처리
-        boolean isSubscribed = subscriberRepository.existsByEmailAndStatus(email, SubscriptionStatus.SUBSCRIBED);
-        if (isSubscribed) {
-            throw new DuplicateSubscriptionException("이미 구독 중인 이메일입니다: " + email);
+    public boolean subscribe(String email, DeliveryMode deliveryMode) {
+        DeliveryMode mode = deliveryMode != null ? deliveryMode : DeliveryMode.INSTANT;
+
+        // 같은 주소로 확인 메일이 반복 발송되지 않도록 이메일 단위 제한
+        rateLimitService.acquire(RateLimitPolicy.SUBSCRIPTION_EMAIL, email.toLowerCase());
+
+        // 최초 구독이면 추가(1), 이전에 해지한 경우 상태만 변경(2), 이미 구독 중이면 변경 없음(0)
+        boolean changed = subscriberRepository.subscribe(email, mode.name()) > 0;
+
+        if (changed) {
+            // 롤백된 구독에 확인 메일이 발송되지 않도록 커밋 후 발송
+            eventPublisher.publishEvent(new SubscribedEvent(email));
         }
+        return changed;
+    }
 
-        // 이전에 구독했다가 해지한 경우 상태만 변경
-        subscriberRepository.findByEmail(email)
-                .ifPresentOrElse(subscriber -> {
-                    subscriber.updateStatus(SubscriptionStatus.SUBSCRIBED);
-                }, () -> {
-                    // 최초 구독일 경우 새로 생성
-                    Subscriber newSubscriber = Subscriber.builder()
-                            .email(email)
-                            .status(SubscriptionStatus.SUBSCRIBED)
-                            .build();
-                    subscriberRepository.save(newSubscriber);
-                });
-
-        // 확인 이메일 발송
-        emailService.sendSubscriptionConfirmation(email);
+    /**
+     * 구독 해지
+     *
+     * @param email 이메일
+     * @return 구독 상태가 변경되었는지 여부 (이미 해지한 경우 false)
+     * @throws SubscriberNotFoundException 구독 이력이 없는 이메일인 경우
+     */
+    @Transactional
+    public boolean unsubscribe(String email) {
+        if (subscriberRepository.unsubscribe(email) > 0) {
+            return true;
+        }
+        if (!subscriberRepository.existsByEmail(email)) {
+            throw new SubscriberNotFoundException("구독자를 찾을 수 없습니다: " + email);
+        }
+        return false;
     }
 
     @Transactional
-    public void unsubscribe(String email) {
+    public void updateDeliveryMode(String email, DeliveryMode deliveryMode) {
         Subscriber subscriber = subscriberRepository.findByEmail(email)
+                .filter(found -> found.getStatus() == SubscriptionStatus.SUBSCRIBED)
                 .orElseThrow(() -> new SubscriberNotFoundException("구독자를 찾을 수 없습니다: " + email));
-        subscriber.updateStatus(SubscriptionStatus.UNSUBSCRIBED);
+        subscriber.updateDeliveryMode(deliveryMode);
     }
 
     @Transactional(readOnly = true)
     public List<Subscriber> getActiveSubscribers() {
         return subscriberRepository.findAllByStatus(SubscriptionStatus.SUBSCRIBED);
     }
+
+    /**
+     * 구독 완료 이벤트 (확인 메일 발송용)
+     */
+    public record SubscribedEvent(String email) {
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 public class FileValidator {
 
@@ -25,6 +26,23 @@ public class FileValidator {
             "text/plain"
     );
 
+    // 헤더 바이트만으로 감지되는 컨테이너 형식별로 허용하는 문서 타입
+    private static final List<String> OOXML_TYPES = List.of(
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+            "application/vnd.openxmlformats-officedocument.presentationml.presentation"
+    );
+    private static final List<String> OLE2_TYPES = List.of(
+            "application/msword",
+            "application/vnd.ms-excel",
+            "application/vnd.ms-powerpoint"
+    );
+    private static final Map<String, List<String>> CONTAINER_TYPES = Map.of(
+            "application/zip", OOXML_TYPES,
+            "application/x-tika-ooxml", OOXML_TYPES,
+            "application/x-tika-msoffice", OLE2_TYPES
+    );
+
     private static final List<String> IMAGE_EXTS = List.of("jpg", "jpeg", "png", "webp", "gif");
     private static final List<String> VIDEO_EXTS = List.of("mp4", "webm");
     private static final List<String> DOCUMENT_EXTS = List.of("pdf", "doc", "docx", "xls", "xlsx", "ppt", "pptx", "txt");
@@ -53,26 +71,72 @@ public class FileValidator {
             throw new FileUploadException("파일 MIME 타입이 일치하지 않습니다. 선언된 타입: " + declaredContentType + ", 실제 타입: " + actualContentType);
         }
 
+        validateConstraints(type, actualContentType, ext, file.getSize());
+    }
+
+    /**
+     * 사전 서명 업로드 요청 검증
+     * 파일을 받기 전에 클라이언트가 선언한 파일명, MIME 타입, 크기가 업로드 유형의 제약을 만족하는지 확인합니다.
+     * 실제 내용은 업로드 완료 후 validateDetected로 다시 확인해야 합니다.
+     *
+     * @param filename 원본 파일명
+     * @param contentType 선언된 MIME 타입
+     * @param size 선언된 파일 크기 (바이트)
+     * @param type 업로드 유형
+     */
+    public static void validateDeclared(String filename, String contentType, long size, UploadType type) {
+        if (filename == null || filename.isBlank()) throw new FileUploadException("파일명이 비어 있습니다.");
+        if (size <= 0) throw new FileUploadException("파일이 비어 있습니다.");
+
+        validateConstraints(type, contentType, getExtension(filename), size);
+    }
+
+    /**
+     * 저장된 파일의 헤더 바이트 검증
+     * 파일 앞부분으로 실제 MIME 타입을 감지하여 선언된 타입과 일치하는지 확인합니다.
+     * OOXML(docx 등)과 OLE2(doc 등) 문서는 앞부분만으로는 컨테이너 형식까지만 구분되므로,
+     * 선언된 타입이 해당 컨테이너에 속하면 허용합니다.
+     *
+     * @param header 파일 앞부분 바이트
+     * @param declaredContentType 선언된 MIME 타입
+     * @return 감지된 MIME 타입
+     */
+    public static String validateDetected(byte[] header, String declaredContentType) {
+        String actualContentType = tika.detect(header);
+
+        boolean matches = declaredContentType.equals(actualContentType)
+                || CONTAINER_TYPES.getOrDefault(actualContentType, List.of()).contains(declaredContentType);
+        if (!matches) {
+            throw new FileUploadException("파일 MIME 타입이 일치하지 않습니다. 선언된 타입: " + declaredContentType + ", 실제 타입: " + actualContentType);
+        }
+
+        return actualContentType;
+    }
+
+    /**
+     * 업로드 유형별 MIME 타입, 확장자, 크기 제약 검증
+     */
+    private static void validateConstraints(UploadType type, String contentType, String ext, long size) {
         switch (type) {
             case THUMBNAIL -> {
-                if (!IMAGE_TYPES.contains(actualContentType)) throw new FileUploadException("이미지 MIME 타입이 잘못되었습니다.");
+                if (!IMAGE_TYPES.contains(contentType)) throw new FileUploadException("이미지 MIME 타입이 잘못되었습니다.");
                 if (!IMAGE_EXTS.contains(ext)) throw new FileUploadException("지원하지 않는 이미지 확장자입니다.");
-                if (file.getSize() > MAX_THUMBNAIL_SIZE) throw new FileUploadException("썸네일 이미지 크기는 2MB 이하만 허용됩니다.");
+                if (size > MAX_THUMBNAIL_SIZE) throw new FileUploadException("썸네일 이미지 크기는 2MB 이하만 허용됩니다.");
             }
             case EDITOR_IMAGE -> {
-                if (!IMAGE_TYPES.contains(actualContentType)) throw new FileUploadException("이미지 MIME 타입이 잘못되었습니다.");
+                if (!IMAGE_TYPES.contains(contentType)) throw new FileUploadException("이미지 MIME 타입이 잘못되었습니다.");
                 if (!IMAGE_EXTS.contains(ext)) throw new FileUploadException("지원하지 않는 이미지 확장자입니다.");
-                if (file.getSize() > MAX_EDITOR_IMAGE_SIZE) throw new FileUploadException("본문 이미지 크기는 5MB 이하만 허용됩니다.");
+                if (size > MAX_EDITOR_IMAGE_SIZE) throw new FileUploadException("본문 이미지 크기는 5MB 이하만 허용됩니다.");
             }
             case EDITOR_VIDEO -> {
-                if (!VIDEO_TYPES.contains(actualContentType)) throw new FileUploadException("비디오 MIME 타입이 잘못되었습니다.");
+                if (!VIDEO_TYPES.contains(contentType)) throw new FileUploadException("비디오 MIME 타입이 잘못되었습니다.");
                 if (!VIDEO_EXTS.contains(ext)) throw new FileUploadException("지원하지 않는 비디오 확장자입니다.");
-                if (file.getSize() > MAX_VIDEO_SIZE) throw new FileUploadException("비디오는 50MB 이하만 허용됩니다.");
+                if (size > MAX_VIDEO_SIZE) throw new FileUploadException("비디오는 50MB 이하만 허용됩니다.");
             }
             case DOCUMENT -> {
-                if (!DOCUMENT_TYPES.contains(actualContentType)) throw new FileUploadException("문서 MIME 타입이 잘못되었습니다.");
+                if (!DOCUMENT_TYPES.contains(contentType)) throw new FileUploadException("문서 MIME 타입이 잘못되었습니다.");
                 if (!DOCUMENT_EXTS.contains(ext)) throw new FileUploadException("지원하지 않는 문서 확장자입니다.");
-                if (file.getSize() > MAX_DOCUMENT_SIZE) throw new FileUploadException("문서는 10MB 이하만 허용됩니다.");
+                if (size > MAX_DOCUMENT_SIZE) throw new FileUploadException("문서는 10MB 이하만 허용됩니다.");
             }
         }
     }
@@ -8,6 +8,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
 
 /**
  * HTML 콘텐츠에서 미디어 URL을 추출하기 위한 유틸리티 클래스
@@ -145,6 +146,36 @@ public class HtmlParser {
         return text;
     }
 
+    /**
+     * HTML 콘텐츠의 앞부분 블록 요소만 HTML 그대로 추출 (이메일 미리보기용)
+     *
+     * @param html HTML 콘텐츠
+     * @param maxBlocks 추출할 최대 블록 요소 수
+     * @return 앞부분 블록 요소의 HTML
+     */
+    public static String extractExcerptHtml(String html, int maxBlocks) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+
+        Elements blocks = Jsoup.parse(html).body().children();
+        StringBuilder excerpt = new StringBuilder();
+        for (int i = 0; i < Math.min(maxBlocks, blocks.size()); i++) {
+            excerpt.append(blocks.get(i).outerHtml());
+        }
+        return excerpt.toString();
+    }
+
+    /**
+     * HTML 콘텐츠의 앞부분 블록 요소를 기본 개수(3개)만큼 추출
+     *
+     * @param html HTML 콘텐츠
+     * @return 앞부분 블록 요소의 HTML
+     */
+    public static String extractExcerptHtml(String html) {
+        return extractExcerptHtml(html, 3);
+    }
+
     /**
      * HTML 콘텐츠에서 텍스트만 추출하고 기본 최대 길이(200자)로 제한
      * 
@@ -0,0 +1,3 @@
+-- 고아 파일 정리 시 파일 ID로 게시글 매핑 존재 여부를 조회
+CREATE INDEX idx_post_file_mappings_file_id
+    ON post_file_mappings (file_id);
@@ -0,0 +1,9 @@
+-- 게시글 삭제로 고아가 된 파일의 삭제 대기열
+CREATE TABLE file_deletion_candidates (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    file_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_file_deletion_candidates_file_id UNIQUE (file_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,17 @@
+-- 분산 락으로 실행한 스케줄 작업 이력
+CREATE TABLE job_runs (
+    id              BIGINT                                 NOT NULL AUTO_INCREMENT,
+    job_name        VARCHAR(255)                           NOT NULL,
+    lock_name       VARCHAR(255)                           NOT NULL,
+    fencing_token   BIGINT                                 NOT NULL,
+    node_id         VARCHAR(255)                           NOT NULL,
+    status          ENUM ('RUNNING', 'SUCCEEDED', 'FAILED') NOT NULL,
+    started_at      DATETIME(6)                            NOT NULL,
+    finished_at     DATETIME(6),
+    processed_count INT,
+    error_message   VARCHAR(1000),
+    created_at      DATETIME(6)                            NOT NULL,
+    updated_at      DATETIME(6)                            NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_job_runs_lock_name_token (lock_name, fencing_token)
+) ENGINE = InnoDB;
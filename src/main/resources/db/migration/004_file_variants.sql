@@ -0,0 +1,12 @@
+-- 업로드한 이미지의 반응형 파생본 (file_metadata의 값 컬렉션)
+CREATE TABLE file_variants (
+    file_id      BIGINT       NOT NULL,
+    width        INT          NOT NULL,
+    height       INT          NOT NULL,
+    storage_key  VARCHAR(255) NOT NULL,
+    public_url   VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    file_size    BIGINT       NOT NULL,
+    INDEX idx_file_variants_file_id (file_id),
+    CONSTRAINT fk_file_variants_file_id FOREIGN KEY (file_id) REFERENCES file_metadata (id)
+) ENGINE = InnoDB;
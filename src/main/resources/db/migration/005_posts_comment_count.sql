@@ -0,0 +1,11 @@
+-- 게시글 목록/상세에서 COUNT 없이 보여줄 댓글 수 (비정규화)
+ALTER TABLE posts
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 게시글의 댓글 수 채우기
+UPDATE posts p
+SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+-- 게시글별 댓글 목록 키셋 페이지 조회 (post_id, created_at, id 순)
+CREATE INDEX idx_comments_post_created_id
+    ON comments (post_id, created_at, id);
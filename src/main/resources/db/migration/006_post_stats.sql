@@ -0,0 +1,9 @@
+-- 게시글 조회수 (Redis에 모은 증가분을 주기적으로 반영)
+CREATE TABLE post_stats (
+    post_id    BIGINT      NOT NULL,
+    view_count BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (post_id),
+    -- 인기 게시글 조회 (조회수 내림차순)
+    INDEX idx_post_stats_view_count (view_count)
+) ENGINE = InnoDB;
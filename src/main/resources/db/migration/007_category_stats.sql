@@ -0,0 +1,11 @@
+-- 카테고리별 공개 게시글 수 (시작 시와 게시글 변경 시 갱신)
+CREATE TABLE category_stats (
+    category   VARCHAR(50) NOT NULL,
+    post_count BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (category)
+) ENGINE = InnoDB;
+
+-- 카테고리별 게시글 목록 키셋 페이지 조회
+CREATE INDEX idx_posts_category_listing
+    ON posts (category, draft, deleted, created_at, id);
@@ -0,0 +1,4 @@
+-- 게시글 저장 시 미리 만들어 두는 이메일용 본문 요약 HTML
+-- 기존 게시글은 NULL로 두며, 발송 시 본문에서 요약을 만듭니다.
+ALTER TABLE posts
+    ADD COLUMN excerpt_html MEDIUMTEXT NULL;
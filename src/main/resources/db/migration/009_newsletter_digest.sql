@@ -0,0 +1,12 @@
+-- 구독자별 알림 발송 방식 (기존 구독자는 즉시 발송)
+ALTER TABLE subscribers
+    ADD COLUMN delivery_mode VARCHAR(20) NOT NULL DEFAULT 'INSTANT';
+
+-- 게시글이 처음 공개된 시각 (다이제스트 발송 구간 기준)
+ALTER TABLE posts
+    ADD COLUMN published_at DATETIME(6) NULL;
+
+-- 기존 공개 게시글은 작성 시각을 공개 시각으로 사용
+UPDATE posts
+SET published_at = created_at
+WHERE draft = false;
@@ -0,0 +1,2 @@
+-- 보존 기간이 지난 작업 실행 이력 정리용 인덱스
+CREATE INDEX idx_job_runs_started_at ON job_runs (started_at);
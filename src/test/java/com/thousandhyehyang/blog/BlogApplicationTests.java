@@ -2,10 +2,18 @@ package com.thousandhyehyang.blog;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @SpringBootTest
+@ActiveProfiles("test")
 class BlogApplicationTests {
 
+	// 시작 시 Redis에 구독 연결을 맺지 않도록 대체
+	@MockitoBean
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
 	@Test
 	void contextLoads() {
 	}
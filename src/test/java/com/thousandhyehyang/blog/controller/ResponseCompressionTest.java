@@ -0,0 +1,172 @@
+package com.thousandhyehyang.blog.controller;
+
+import com.thousandhyehyang.blog.entity.Post;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.service.post.SiteFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 압축 테스트
+ * 실제 서버로 요청하여 min-response-size 이상의 목록 응답이 gzip으로 압축되는지 확인합니다.
+ * (강한 ETag가 붙은 응답은 Tomcat이 압축하지 않음)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResponseCompressionTest {
+
+    // 시작 시 Redis에 구독 연결을 맺지 않도록 대체
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private SiteFeedService siteFeedService;
+
+    // 압축을 확인하지 않고 그대로 받도록 JDK 클라이언트 사용
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        if (postRepository.count() == 0) {
+            IntStream.range(0, 10).forEach(i -> postRepository.save(
+                    new Post("압축 테스트 게시글 " + i, "개발", "본문 요약 ".repeat(30), "<p>본문</p>", null, "작성자")));
+            // 시작 시 생성된 피드에 추가한 게시글 반영
+            siteFeedService.scheduledRebuild();
+        }
+    }
+
+    @Test
+    @DisplayName("최소_크기_이상의_게시글_목록은_약한_ETag와_함께_gzip_압축")
+    void 최소_크기_이상의_게시글_목록은_약한_ETag와_함께_gzip_압축() throws Exception {
+        // when
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts?limit=10"))
+                        .header("Accept-Encoding", "gzip")
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("ETag")).hasValueSatisfying(eTag -> assertThat(eTag).startsWith("W/"));
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    @DisplayName("피드는_약한_ETag와_함께_gzip_압축")
+    void 피드는_약한_ETag와_함께_gzip_압축() throws Exception {
+        // when
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/feed.xml"))
+                        .header("Accept-Encoding", "gzip")
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("ETag")).hasValueSatisfying(eTag -> assertThat(eTag).startsWith("W/"));
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    @DisplayName("게시글_상세는_약한_ETag와_함께_미리_압축한_본문_전송")
+    void 게시글_상세는_약한_ETag와_함께_미리_압축한_본문_전송() throws Exception {
+        // when
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(postDetailUri())
+                        .header("Accept-Encoding", "gzip")
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // then
+        // gzip 본문과 원본 본문이 같은 ETag를 쓰므로 강한 ETag가 아니어야 함
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("ETag")).hasValueSatisfying(eTag -> assertThat(eTag).startsWith("W/"));
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    @DisplayName("gzip의_q_값이_0이면_게시글_상세를_압축하지_않음")
+    void gzip의_q_값이_0이면_게시글_상세를_압축하지_않음() throws Exception {
+        // when
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(postDetailUri())
+                        .header("Accept-Encoding", "gzip;q=0, identity")
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).startsWith("{");
+    }
+
+    @Test
+    @DisplayName("약한_ETag로_재검증하면_304")
+    void 약한_ETag로_재검증하면_304() throws Exception {
+        // given
+        URI uri = URI.create("http://localhost:" + port + "/api/posts?limit=10");
+        String eTag = httpClient.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .headers().firstValue("ETag").orElseThrow();
+
+        // when
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(uri).header("If-None-Match", eTag).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("게시글_상세는_If_Modified_Since만으로_304를_반환하지_않음")
+    void 게시글_상세는_If_Modified_Since만으로_304를_반환하지_않음() throws Exception {
+        // given
+        URI uri = postDetailUri();
+        HttpResponse<Void> first = httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        // when
+        // 관련 게시글 변경은 수정 시각에 반영되지 않으므로 수정 시각만으로는 재검증하지 않아야 함
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(uri)
+                        .header("If-Modified-Since", "Fri, 31 Dec 2999 23:59:59 GMT")
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        // then
+        assertThat(first.headers().firstValue("Last-Modified")).isEmpty();
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    private URI postDetailUri() {
+        Long id = postRepository.findAll().get(0).getId();
+        return URI.create("http://localhost:" + port + "/api/posts/" + id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.thousandhyehyang.blog.repository;
+
+import com.thousandhyehyang.blog.entity.Subscriber;
+import com.thousandhyehyang.blog.enums.DeliveryMode;
+import com.thousandhyehyang.blog.enums.SubscriptionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구독자 저장소 테스트
+ * 구독 upsert의 영향받은 행 수(1: 추가, 2: 재구독, 0: 변경 없음) 계약을 실제 SQL로 확인합니다.
+ * (테스트 프로필의 MySQL 호환 모드 H2는 useAffectedRows=true인 MySQL과 같은 행 수를 반환함)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SubscriberRepositoryTest {
+
+    @Autowired
+    private SubscriberRepository subscriberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("처음_구독하면_1을_반환하고_구독자_추가")
+    void 처음_구독하면_1을_반환하고_구독자_추가() {
+        // when
+        int result = subscriberRepository.subscribe("a@example.com", "WEEKLY");
+
+        // then
+        assertThat(result).isEqualTo(1);
+        Subscriber subscriber = find("a@example.com");
+        assertThat(subscriber.getStatus()).isEqualTo(SubscriptionStatus.SUBSCRIBED);
+        assertThat(subscriber.getDeliveryMode()).isEqualTo(DeliveryMode.WEEKLY);
+    }
+
+    @Test
+    @DisplayName("이미_구독_중이면_0을_반환하고_발송_방식을_바꾸지_않음")
+    void 이미_구독_중이면_0을_반환하고_발송_방식을_바꾸지_않음() {
+        // given
+        subscriberRepository.subscribe("a@example.com", "INSTANT");
+
+        // when
+        int result = subscriberRepository.subscribe("a@example.com", "DAILY");
+
+        // then
+        assertThat(result).isZero();
+        assertThat(find("a@example.com").getDeliveryMode()).isEqualTo(DeliveryMode.INSTANT);
+    }
+
+    @Test
+    @DisplayName("해지했던_구독자가_다시_구독하면_2를_반환하고_상태와_발송_방식_변경")
+    void 해지했던_구독자가_다시_구독하면_2를_반환하고_상태와_발송_방식_변경() {
+        // given
+        subscriberRepository.subscribe("a@example.com", "INSTANT");
+        subscriberRepository.unsubscribe("a@example.com");
+
+        // when
+        int result = subscriberRepository.subscribe("a@example.com", "DAILY");
+
+        // then
+        assertThat(result).isEqualTo(2);
+        Subscriber subscriber = find("a@example.com");
+        assertThat(subscriber.getStatus()).isEqualTo(SubscriptionStatus.SUBSCRIBED);
+        assertThat(subscriber.getDeliveryMode()).isEqualTo(DeliveryMode.DAILY);
+    }
+
+    private Subscriber find(String email) {
+        entityManager.clear();
+        return subscriberRepository.findByEmail(email).orElseThrow();
+    }
+}
@@ -0,0 +1,144 @@
+package com.thousandhyehyang.blog.security;
+
+import com.thousandhyehyang.blog.entity.Account;
+import com.thousandhyehyang.blog.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CustomOAuth2UserServiceTest {
+
+    private static final Map<String, Object> GOOGLE_ATTRIBUTES = Map.of(
+            "sub", "123", "name", "사용자", "email", "user@example.com", "picture", "https://example.com/a.png");
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        customOAuth2UserService = new CustomOAuth2UserService(accountRepository, meterRegistry, delegate);
+    }
+
+    @Test
+    @DisplayName("프로필이_바뀌지_않은_기존_계정은_저장하지_않음")
+    void 프로필이_바뀌지_않은_기존_계정은_저장하지_않음() {
+        // given
+        when(delegate.loadUser(any())).thenReturn(new DefaultOAuth2User(List.of(), GOOGLE_ATTRIBUTES, "sub"));
+        Account account = new Account("google", "user@example.com", "사용자", "닉네임",
+                "https://example.com/a.png", Account.Role.USER);
+        when(accountRepository.findByEmail("user@example.com")).thenReturn(Optional.of(account));
+
+        // when
+        OAuth2User result = customOAuth2UserService.loadUser(googleRequest());
+
+        // then
+        assertThat(result).isSameAs(account);
+        verify(accountRepository, never()).save(any());
+        assertThat(meterRegistry.get("oauth2.user_info")
+                .tags("provider", "google", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필이_바뀐_기존_계정은_저장")
+    void 프로필이_바뀐_기존_계정은_저장() {
+        // given
+        when(delegate.loadUser(any())).thenReturn(new DefaultOAuth2User(List.of(), GOOGLE_ATTRIBUTES, "sub"));
+        Account account = new Account("google", "user@example.com", "예전_이름", "닉네임",
+                "https://example.com/a.png", Account.Role.USER);
+        when(accountRepository.findByEmail("user@example.com")).thenReturn(Optional.of(account));
+        when(accountRepository.save(account)).thenReturn(account);
+
+        // when
+        customOAuth2UserService.loadUser(googleRequest());
+
+        // then
+        verify(accountRepository).save(account);
+        assertThat(account.getName()).isEqualTo("사용자");
+    }
+
+    @Test
+    @DisplayName("사용자_정보_응답_타임아웃은_timeout으로_기록")
+    void 사용자_정보_응답_타임아웃은_timeout으로_기록() {
+        // given
+        when(delegate.loadUser(any())).thenThrow(networkFailure(new SocketTimeoutException("Read timed out")));
+
+        // when & then
+        assertThrows(OAuth2AuthenticationException.class, () -> customOAuth2UserService.loadUser(googleRequest()));
+        assertThat(meterRegistry.get("oauth2.user_info")
+                .tags("provider", "google", "outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타임아웃이_아닌_네트워크_오류는_io_error로_기록")
+    void 타임아웃이_아닌_네트워크_오류는_io_error로_기록() {
+        // given
+        when(delegate.loadUser(any())).thenThrow(networkFailure(new ConnectException("Connection refused")));
+
+        // when & then
+        assertThrows(OAuth2AuthenticationException.class, () -> customOAuth2UserService.loadUser(googleRequest()));
+        assertThat(meterRegistry.get("oauth2.user_info")
+                .tags("provider", "google", "outcome", "io_error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("oauth2.user_info").tags("outcome", "timeout").timer()).isNull();
+    }
+
+    /**
+     * DefaultOAuth2UserService가 네트워크 오류를 감싸는 형태와 같은 예외 생성
+     */
+    private OAuth2AuthenticationException networkFailure(IOException cause) {
+        return new OAuth2AuthenticationException(new OAuth2Error("invalid_user_info_response"),
+                new ResourceAccessException("I/O error on GET request", cause));
+    }
+
+    private OAuth2UserRequest googleRequest() {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("google")
+                .clientId("client")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("https://example.com/callback")
+                .authorizationUri("https://accounts.example.com/auth")
+                .tokenUri("https://accounts.example.com/token")
+                .userInfoUri("https://accounts.example.com/userinfo")
+                .userNameAttributeName("sub")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token",
+                Instant.now(), Instant.now().plusSeconds(60));
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+}
@@ -0,0 +1,156 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.common.BloomFilter;
+import com.thousandhyehyang.blog.security.AccessTokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccessTokenRevocationServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private AccessTokenRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        revocationService = new AccessTokenRevocationService(redisTemplate, listenerContainer);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("폐기되지_않은_토큰은_Redis_조회_없이_통과")
+    void 폐기되지_않은_토큰은_Redis_조회_없이_통과() {
+        // when
+        boolean revoked = revocationService.isRevoked("token-1");
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(zSetOperations, never()).score(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("폐기한_토큰은_필터에_반영되고_Redis로_확인")
+    void 폐기한_토큰은_필터에_반영되고_Redis로_확인() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(zSetOperations.score("revoked_access_tokens", "token-1")).thenReturn((double) expiresAt);
+
+        // when
+        revocationService.revoke("token-1", expiresAt);
+
+        // then
+        assertThat(revocationService.isRevoked("token-1")).isTrue();
+        verify(zSetOperations).add("revoked_access_tokens", "token-1", (double) expiresAt);
+        verify(redisTemplate).convertAndSend("access-token-revocations", "token-1");
+    }
+
+    @Test
+    @DisplayName("이미_만료된_토큰은_폐기_기록을_남기지_않음")
+    void 이미_만료된_토큰은_폐기_기록을_남기지_않음() {
+        // when
+        revocationService.revoke("token-1", System.currentTimeMillis() - 1);
+
+        // then
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른_인스턴스의_폐기_메시지를_수신하면_필터에_반영")
+    void 다른_인스턴스의_폐기_메시지를_수신하면_필터에_반영() {
+        // given
+        when(zSetOperations.score("revoked_access_tokens", "token-2"))
+                .thenReturn((double) (System.currentTimeMillis() + 60_000));
+
+        // when
+        revocationService.onMessage(new DefaultMessage(
+                "access-token-revocations".getBytes(StandardCharsets.UTF_8),
+                "token-2".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(revocationService.isRevoked("token-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터_재생성은_만료_기록을_정리하고_남은_폐기_토큰으로_구성")
+    void 필터_재생성은_만료_기록을_정리하고_남은_폐기_토큰으로_구성() {
+        // given
+        when(zSetOperations.range("revoked_access_tokens", 0, -1)).thenReturn(Set.of("token-3", "token-4"));
+        when(zSetOperations.score(eq("revoked_access_tokens"), anyString()))
+                .thenReturn((double) (System.currentTimeMillis() + 60_000));
+
+        // when
+        int count = revocationService.rebuild();
+
+        // then
+        assertThat(count).isEqualTo(2);
+        verify(zSetOperations).removeRangeByScore(eq("revoked_access_tokens"), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        assertThat(revocationService.isRevoked("token-3")).isTrue();
+        assertThat(revocationService.isRevoked("token-4")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터에_있는_토큰을_Redis_장애로_확인할_수_없으면_거부")
+    void 필터에_있는_토큰을_Redis_장애로_확인할_수_없으면_거부() {
+        // given
+        revocationService.revoke("token-5", System.currentTimeMillis() + 60_000);
+        when(zSetOperations.score("revoked_access_tokens", "token-5"))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        boolean revoked = revocationService.isRevoked("token-5");
+
+        // then
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("블룸_필터는_추가한_값을_놓치지_않고_오탐률이_설정값_근처")
+    void 블룸_필터는_추가한_값을_놓치지_않고_오탐률이_설정값_근처() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("added-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("added-" + i)).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
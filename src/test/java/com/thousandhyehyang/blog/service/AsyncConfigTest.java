@@ -0,0 +1,46 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.config.AsyncConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncConfigTest {
+
+    @Test
+    @DisplayName("이미지_처리_대기열이_가득_차면_호출_스레드에서_실행하지_않고_거부")
+    void 이미지_처리_대기열이_가득_차면_호출_스레드에서_실행하지_않고_거부() {
+        // given
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) new AsyncConfig().imageProcessingExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 모든 작업 스레드와 대기열을 채움
+            int capacity = executor.getMaxPoolSize() + executor.getQueueCapacity();
+            for (int i = 0; i < capacity; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            AtomicBoolean ran = new AtomicBoolean();
+
+            // when & then
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> ran.set(true)));
+            assertThat(ran).isFalse();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.repository.CategoryStatsRepository;
+import com.thousandhyehyang.blog.service.post.CategoryStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CategoryStatsServiceTest {
+
+    @Mock
+    private CategoryStatsRepository categoryStatsRepository;
+
+    private CategoryStatsService categoryStatsService;
+
+    @BeforeEach
+    void setUp() {
+        categoryStatsService = new CategoryStatsService(categoryStatsRepository);
+    }
+
+    @Test
+    @DisplayName("공개_게시글_생성시_카테고리_게시글_수_증가")
+    void 공개_게시글_생성시_카테고리_게시글_수_증가() {
+        // when
+        categoryStatsService.applyChange(null, false, "개발", true);
+
+        // then
+        verify(categoryStatsRepository).addPostCount("개발", 1);
+        verifyNoMoreInteractions(categoryStatsRepository);
+    }
+
+    @Test
+    @DisplayName("임시저장_게시글은_집계하지_않음")
+    void 임시저장_게시글은_집계하지_않음() {
+        // when
+        categoryStatsService.applyChange(null, false, "개발", false);
+        categoryStatsService.applyChange("개발", false, "일상", false);
+
+        // then
+        verifyNoInteractions(categoryStatsRepository);
+    }
+
+    @Test
+    @DisplayName("카테고리_변경시_이전_카테고리_감소_새_카테고리_증가")
+    void 카테고리_변경시_이전_카테고리_감소_새_카테고리_증가() {
+        // when
+        categoryStatsService.applyChange("개발", true, "일상", true);
+
+        // then
+        verify(categoryStatsRepository).addPostCount("개발", -1);
+        verify(categoryStatsRepository).addPostCount("일상", 1);
+    }
+
+    @Test
+    @DisplayName("카테고리와_공개_여부가_그대로면_변경_없음")
+    void 카테고리와_공개_여부가_그대로면_변경_없음() {
+        // when
+        categoryStatsService.applyChange("개발", true, "개발", true);
+
+        // then
+        verifyNoInteractions(categoryStatsRepository);
+    }
+
+    @Test
+    @DisplayName("공개_게시글_임시저장_전환_또는_삭제시_감소")
+    void 공개_게시글_임시저장_전환_또는_삭제시_감소() {
+        // when
+        categoryStatsService.applyChange("개발", true, "개발", false);
+        categoryStatsService.applyChange("일상", true, null, false);
+
+        // then
+        verify(categoryStatsRepository).addPostCount("개발", -1);
+        verify(categoryStatsRepository).addPostCount("일상", -1);
+        verifyNoMoreInteractions(categoryStatsRepository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.thousandhyehyang.blog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.dto.comment.CommentPageResponse;
+import com.thousandhyehyang.blog.service.comment.CommentPageCache;
+import com.thousandhyehyang.blog.service.post.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommentPageCacheTest {
+
+    private static final List<String> KEYS = List.of("comments:first_page:1", "comments:generation:1");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CommentPageCache commentPageCache;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        commentPageCache = new CommentPageCache(redisTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("캐시된_첫_페이지와_세대를_함께_조회")
+    void 캐시된_첫_페이지와_세대를_함께_조회() throws Exception {
+        // given
+        CommentPageResponse page = new CommentPageResponse(List.of(), null, false, 0L);
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(objectMapper.writeValueAsString(page), "4"));
+
+        // when
+        CommentPageCache.Lookup lookup = commentPageCache.get(1L);
+
+        // then
+        assertThat(lookup.page()).isEqualTo(page);
+        assertThat(lookup.generation()).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("세대가_없으면_0으로_조회")
+    void 세대가_없으면_0으로_조회() {
+        // given
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(null, null));
+
+        // when
+        CommentPageCache.Lookup lookup = commentPageCache.get(1L);
+
+        // then
+        assertThat(lookup.page()).isNull();
+        assertThat(lookup.generation()).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("조회한_세대가_그대로일_때만_저장")
+    void 조회한_세대가_그대로일_때만_저장() {
+        // given
+        CommentPageResponse page = new CommentPageResponse(List.of(), null, false, 0L);
+
+        // when
+        commentPageCache.put(1L, "4", page);
+
+        // then
+        // 세대 비교와 저장은 하나의 스크립트로 원자적으로 실행
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("4"), anyString(), eq("600000"));
+        verify(valueOperations, never()).set(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis_조회_실패_시_저장하지_않음")
+    void Redis_조회_실패_시_저장하지_않음() {
+        // given
+        given(valueOperations.multiGet(anyList())).willThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        CommentPageCache.Lookup lookup = commentPageCache.get(1L);
+        commentPageCache.put(1L, lookup.generation(), new CommentPageResponse(List.of(), null, false, 0L));
+
+        // then
+        // 세대를 모르면 제거 이후에 오래된 페이지를 저장할 수 있으므로 저장을 건너뜀
+        assertThat(lookup.page()).isNull();
+        assertThat(lookup.generation()).isNull();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("게시글_변경_커밋_후_세대를_올리고_캐시_제거")
+    void 게시글_변경_커밋_후_세대를_올리고_캐시_제거() {
+        // when
+        commentPageCache.handlePostChanged(new PostService.PostChangedEvent(1L));
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("86400000"));
+    }
+}
@@ -1,27 +1,36 @@
 package com.thousandhyehyang.blog.service;
 
+import com.thousandhyehyang.blog.common.KeysetCursor;
 import com.thousandhyehyang.blog.dto.comment.CommentCreateRequest;
+import com.thousandhyehyang.blog.dto.comment.CommentPageResponse;
 import com.thousandhyehyang.blog.dto.comment.CommentResponse;
 import com.thousandhyehyang.blog.dto.comment.CommentUpdateRequest;
 import com.thousandhyehyang.blog.entity.Comment;
 import com.thousandhyehyang.blog.entity.Post;
+import com.thousandhyehyang.blog.enums.CommentEventType;
 import com.thousandhyehyang.blog.exception.CommentNotFoundException;
+import com.thousandhyehyang.blog.exception.InvalidCursorException;
 import com.thousandhyehyang.blog.exception.PostNotFoundException;
 import com.thousandhyehyang.blog.repository.CommentRepository;
 import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.service.comment.CommentPageCache;
 import com.thousandhyehyang.blog.service.comment.CommentService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +39,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -43,6 +53,12 @@ class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private CommentPageCache commentPageCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -67,6 +83,9 @@ class CommentServiceTest {
         when(testComment.getBgColor()).thenReturn("#E0F7FA");
         when(testComment.getCreatedAt()).thenReturn(LocalDateTime.now());
 
+        // 캐시 미스 기본 설정
+        when(commentPageCache.get(anyLong())).thenReturn(new CommentPageCache.Lookup(null, "3"));
+
         // 테스트용 요청 객체 설정
         createRequest = new CommentCreateRequest(
                 "테스트닉네임",
@@ -99,6 +118,8 @@ class CommentServiceTest {
         assertThat(response.getNickname()).isEqualTo(testComment.getNickname());
         verify(postRepository).findById(1L);
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).addCommentCount(1L, 1);
+        assertChangedEvent(CommentEventType.CREATED, 1L);
     }
 
     @Test
@@ -117,38 +138,115 @@ class CommentServiceTest {
     @DisplayName("게시글별_댓글_목록_조회_성공")
     void 게시글별_댓글_목록_조회_성공() {
         // given
-        given(postRepository.existsById(anyLong())).willReturn(true);
-        given(commentRepository.findByPostIdOrderByCreatedAtDesc(anyLong())).willReturn(Arrays.asList(testComment));
+        given(postRepository.findCommentCountById(anyLong())).willReturn(Optional.of(1L));
+        given(commentRepository.findLatestByPostId(anyLong(), any(Pageable.class))).willReturn(Arrays.asList(testComment));
+
+        // when
+        CommentPageResponse page = commentService.getCommentsByPostId(1L, null);
+
+        // then
+        assertThat(page.comments()).hasSize(1);
+        assertThat(page.comments().get(0).getId()).isEqualTo(testComment.getId());
+        assertThat(page.comments().get(0).getNickname()).isEqualTo(testComment.getNickname());
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalCount()).isEqualTo(1L);
+        verify(postRepository).findCommentCountById(1L);
+        // DB 조회 전에 받은 세대로 저장
+        verify(commentPageCache).put(1L, "3", page);
+    }
+
+    @Test
+    @DisplayName("게시글별_댓글_목록_조회_다음_페이지_커서_생성")
+    void 게시글별_댓글_목록_조회_다음_페이지_커서_생성() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i <= 20; i++) {
+            Comment comment = mock(Comment.class);
+            when(comment.getId()).thenReturn(100L - i);
+            when(comment.getCreatedAt()).thenReturn(base.minusMinutes(i));
+            comments.add(comment);
+        }
+        given(postRepository.findCommentCountById(anyLong())).willReturn(Optional.of(50L));
+        given(commentRepository.findLatestByPostId(anyLong(), any(Pageable.class))).willReturn(comments);
+
+        // when
+        CommentPageResponse page = commentService.getCommentsByPostId(1L, null);
+
+        // then
+        assertThat(page.comments()).hasSize(20);
+        assertThat(page.hasNext()).isTrue();
+        KeysetCursor cursor = KeysetCursor.decode(page.nextCursor());
+        assertThat(cursor.id()).isEqualTo(81L);
+        assertThat(cursor.createdAt()).isEqualTo(base.minusMinutes(19));
+    }
+
+    @Test
+    @DisplayName("게시글별_댓글_목록_조회_커서_이후_페이지")
+    void 게시글별_댓글_목록_조회_커서_이후_페이지() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 10);
+        String cursor = new KeysetCursor(createdAt, 81L).encode();
+        given(postRepository.findCommentCountById(anyLong())).willReturn(Optional.of(21L));
+        given(commentRepository.findByPostIdBefore(anyLong(), any(), anyLong(), any(Pageable.class)))
+                .willReturn(Arrays.asList(testComment));
+
+        // when
+        CommentPageResponse page = commentService.getCommentsByPostId(1L, cursor);
+
+        // then
+        assertThat(page.comments()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        verify(commentRepository).findByPostIdBefore(eq(1L), eq(createdAt), eq(81L), any(Pageable.class));
+        verify(commentPageCache, never()).get(anyLong());
+        verify(commentPageCache, never()).put(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("게시글별_댓글_목록_조회_캐시_적중")
+    void 게시글별_댓글_목록_조회_캐시_적중() {
+        // given
+        CommentPageResponse cached = new CommentPageResponse(List.of(), null, false, 0L);
+        given(commentPageCache.get(1L)).willReturn(new CommentPageCache.Lookup(cached, "3"));
 
         // when
-        List<CommentResponse> comments = commentService.getCommentsByPostId(1L);
+        CommentPageResponse page = commentService.getCommentsByPostId(1L, null);
 
         // then
-        assertThat(comments).hasSize(1);
-        assertThat(comments.get(0).getId()).isEqualTo(testComment.getId());
-        assertThat(comments.get(0).getNickname()).isEqualTo(testComment.getNickname());
-        verify(postRepository).existsById(1L);
-        verify(commentRepository).findByPostIdOrderByCreatedAtDesc(1L);
+        assertThat(page).isSameAs(cached);
+        verify(postRepository, never()).findCommentCountById(anyLong());
+        verify(commentRepository, never()).findLatestByPostId(anyLong(), any(Pageable.class));
     }
 
     @Test
     @DisplayName("게시글별_댓글_목록_조회_실패_존재하지_않는_게시글")
     void 게시글별_댓글_목록_조회_실패_존재하지_않는_게시글() {
         // given
-        given(postRepository.existsById(anyLong())).willReturn(false);
+        given(postRepository.findCommentCountById(anyLong())).willReturn(Optional.empty());
 
         // when & then
-        assertThrows(PostNotFoundException.class, () -> commentService.getCommentsByPostId(999L));
-        verify(postRepository).existsById(999L);
-        verify(commentRepository, never()).findByPostIdOrderByCreatedAtDesc(anyLong());
+        assertThrows(PostNotFoundException.class, () -> commentService.getCommentsByPostId(999L, null));
+        verify(postRepository).findCommentCountById(999L);
+        verify(commentRepository, never()).findLatestByPostId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("게시글별_댓글_목록_조회_실패_잘못된_커서")
+    void 게시글별_댓글_목록_조회_실패_잘못된_커서() {
+        // given
+        given(postRepository.findCommentCountById(anyLong())).willReturn(Optional.of(1L));
+
+        // when & then
+        assertThrows(InvalidCursorException.class, () -> commentService.getCommentsByPostId(1L, "not-a-cursor"));
+        verify(commentRepository, never()).findByPostIdBefore(anyLong(), any(), anyLong(), any(Pageable.class));
     }
 
     @Test
     @DisplayName("댓글_수정_성공")
     void 댓글_수정_성공() {
         // given
-        given(postRepository.existsById(anyLong())).willReturn(true);
-        given(commentRepository.findById(anyLong())).willReturn(Optional.of(testComment));
+        given(commentRepository.findByIdAndPostId(anyLong(), anyLong())).willReturn(Optional.of(testComment));
         given(commentRepository.save(any(Comment.class))).willReturn(testComment);
 
         // 수정 후 값 설정
@@ -164,8 +262,7 @@ class CommentServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getNickname()).isEqualTo(updateRequest.getNickname());
         assertThat(response.getContent()).isEqualTo(updateRequest.getContent());
-        verify(postRepository).existsById(1L);
-        verify(commentRepository).findById(1L);
+        verify(commentRepository).findByIdAndPostId(1L, 1L);
         verify(testComment).update(
                 updateRequest.getNickname(),
                 updateRequest.getContent(),
@@ -173,31 +270,37 @@ class CommentServiceTest {
                 updateRequest.getBgColor()
         );
         verify(commentRepository).save(testComment);
+        assertChangedEvent(CommentEventType.UPDATED, 1L);
+
+        // 정상 경로에서는 존재 여부 확인 쿼리를 실행하지 않음
+        verify(postRepository, never()).existsById(anyLong());
+        verify(commentRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("댓글_수정_실패_존재하지_않는_게시글")
     void 댓글_수정_실패_존재하지_않는_게시글() {
         // given
+        given(commentRepository.findByIdAndPostId(anyLong(), anyLong())).willReturn(Optional.empty());
         given(postRepository.existsById(anyLong())).willReturn(false);
 
         // when & then
         assertThrows(PostNotFoundException.class, () -> commentService.updateComment(999L, 1L, updateRequest));
         verify(postRepository).existsById(999L);
-        verify(commentRepository, never()).findById(anyLong());
+        verify(commentRepository, never()).save(any(Comment.class));
     }
 
     @Test
     @DisplayName("댓글_수정_실패_존재하지_않는_댓글")
     void 댓글_수정_실패_존재하지_않는_댓글() {
         // given
+        given(commentRepository.findByIdAndPostId(anyLong(), anyLong())).willReturn(Optional.empty());
         given(postRepository.existsById(anyLong())).willReturn(true);
-        given(commentRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(commentRepository.existsById(anyLong())).willReturn(false);
 
         // when & then
         assertThrows(CommentNotFoundException.class, () -> commentService.updateComment(1L, 999L, updateRequest));
-        verify(postRepository).existsById(1L);
-        verify(commentRepository).findById(999L);
+        verify(commentRepository).findByIdAndPostId(999L, 1L);
         verify(commentRepository, never()).save(any(Comment.class));
     }
 
@@ -205,19 +308,13 @@ class CommentServiceTest {
     @DisplayName("댓글_수정_실패_다른_게시글의_댓글")
     void 댓글_수정_실패_다른_게시글의_댓글() {
         // given
-        Post otherPost = mock(Post.class);
-        when(otherPost.getId()).thenReturn(2L);
-
-        Comment commentFromOtherPost = mock(Comment.class);
-        when(commentFromOtherPost.getPost()).thenReturn(otherPost);
-
+        given(commentRepository.findByIdAndPostId(anyLong(), anyLong())).willReturn(Optional.empty());
         given(postRepository.existsById(anyLong())).willReturn(true);
-        given(commentRepository.findById(anyLong())).willReturn(Optional.of(commentFromOtherPost));
+        given(commentRepository.existsById(anyLong())).willReturn(true);
 
         // when & then
         assertThrows(IllegalArgumentException.class, () -> commentService.updateComment(1L, 1L, updateRequest));
-        verify(postRepository).existsById(1L);
-        verify(commentRepository).findById(1L);
+        verify(commentRepository).findByIdAndPostId(1L, 1L);
         verify(commentRepository, never()).save(any(Comment.class));
     }
 
@@ -225,62 +322,71 @@ class CommentServiceTest {
     @DisplayName("댓글_삭제_성공")
     void 댓글_삭제_성공() {
         // given
-        given(postRepository.existsById(anyLong())).willReturn(true);
-        given(commentRepository.findById(anyLong())).willReturn(Optional.of(testComment));
+        given(commentRepository.deleteByIdAndPostId(anyLong(), anyLong())).willReturn(1);
 
         // when
         commentService.deleteComment(1L, 1L);
 
         // then
-        verify(postRepository).existsById(1L);
-        verify(commentRepository).findById(1L);
-        verify(commentRepository).deleteById(1L);
+        verify(commentRepository).deleteByIdAndPostId(1L, 1L);
+        verify(postRepository).addCommentCount(1L, -1);
+        verify(eventPublisher).publishEvent(new CommentService.CommentChangedEvent(1L, CommentEventType.DELETED, 1L, null));
+
+        // 정상 경로에서는 존재 여부 확인 쿼리를 실행하지 않음
+        verify(postRepository, never()).existsById(anyLong());
+        verify(commentRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("댓글_삭제_실패_존재하지_않는_게시글")
     void 댓글_삭제_실패_존재하지_않는_게시글() {
         // given
+        given(commentRepository.deleteByIdAndPostId(anyLong(), anyLong())).willReturn(0);
         given(postRepository.existsById(anyLong())).willReturn(false);
 
         // when & then
         assertThrows(PostNotFoundException.class, () -> commentService.deleteComment(999L, 1L));
         verify(postRepository).existsById(999L);
-        verify(commentRepository, never()).findById(anyLong());
-        verify(commentRepository, never()).deleteById(anyLong());
+        verify(postRepository, never()).addCommentCount(anyLong(), anyLong());
     }
 
     @Test
     @DisplayName("댓글_삭제_실패_존재하지_않는_댓글")
     void 댓글_삭제_실패_존재하지_않는_댓글() {
         // given
+        given(commentRepository.deleteByIdAndPostId(anyLong(), anyLong())).willReturn(0);
         given(postRepository.existsById(anyLong())).willReturn(true);
-        given(commentRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(commentRepository.existsById(anyLong())).willReturn(false);
 
         // when & then
         assertThrows(CommentNotFoundException.class, () -> commentService.deleteComment(1L, 999L));
-        verify(postRepository).existsById(1L);
-        verify(commentRepository).findById(999L);
-        verify(commentRepository, never()).deleteById(anyLong());
+        verify(commentRepository).deleteByIdAndPostId(999L, 1L);
+        verify(postRepository, never()).addCommentCount(anyLong(), anyLong());
     }
 
     @Test
     @DisplayName("댓글_삭제_실패_다른_게시글의_댓글")
     void 댓글_삭제_실패_다른_게시글의_댓글() {
         // given
-        Post otherPost = mock(Post.class);
-        when(otherPost.getId()).thenReturn(2L);
-
-        Comment commentFromOtherPost = mock(Comment.class);
-        when(commentFromOtherPost.getPost()).thenReturn(otherPost);
-
+        given(commentRepository.deleteByIdAndPostId(anyLong(), anyLong())).willReturn(0);
         given(postRepository.existsById(anyLong())).willReturn(true);
-        given(commentRepository.findById(anyLong())).willReturn(Optional.of(commentFromOtherPost));
+        given(commentRepository.existsById(anyLong())).willReturn(true);
 
         // when & then
         assertThrows(IllegalArgumentException.class, () -> commentService.deleteComment(1L, 1L));
-        verify(postRepository).existsById(1L);
-        verify(commentRepository).findById(1L);
-        verify(commentRepository, never()).deleteById(anyLong());
+        verify(commentRepository).deleteByIdAndPostId(1L, 1L);
+        verify(postRepository, never()).addCommentCount(anyLong(), anyLong());
+    }
+
+    private void assertChangedEvent(CommentEventType type, Long commentId) {
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue()).isInstanceOf(CommentService.CommentChangedEvent.class);
+
+        CommentService.CommentChangedEvent event = (CommentService.CommentChangedEvent) eventCaptor.getValue();
+        assertThat(event.postId()).isEqualTo(1L);
+        assertThat(event.type()).isEqualTo(type);
+        assertThat(event.commentId()).isEqualTo(commentId);
+        assertThat(event.comment()).isNotNull();
     }
 }
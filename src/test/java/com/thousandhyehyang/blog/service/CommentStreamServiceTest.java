@@ -0,0 +1,174 @@
+package com.thousandhyehyang.blog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.dto.comment.CommentResponse;
+import com.thousandhyehyang.blog.dto.comment.CommentStreamEvent;
+import com.thousandhyehyang.blog.enums.CommentEventType;
+import com.thousandhyehyang.blog.exception.CommentStreamLimitExceededException;
+import com.thousandhyehyang.blog.exception.PostNotFoundException;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.service.comment.CommentService;
+import com.thousandhyehyang.blog.service.comment.CommentStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommentStreamServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    // 전송 작업을 실행하지 않고 쌓아 두는 실행기 (느린 클라이언트 재현)
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        pendingTasks.clear();
+    }
+
+    private CommentStreamService createService(Executor executor) {
+        return new CommentStreamService(postRepository, redisTemplate, listenerContainer, objectMapper, executor);
+    }
+
+    @Test
+    @DisplayName("구독_실패_존재하지_않는_게시글")
+    void 구독_실패_존재하지_않는_게시글() {
+        // given
+        when(postRepository.existsById(999L)).thenReturn(false);
+        CommentStreamService service = createService(Runnable::run);
+
+        // when & then
+        assertThrows(PostNotFoundException.class, () -> service.subscribe(999L));
+        assertThat(service.getSubscriberCount(999L)).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가_가득_찬_느린_구독자만_연결_종료")
+    void 버퍼가_가득_찬_느린_구독자만_연결_종료() throws Exception {
+        // given
+        CommentStreamService service = createService(pendingTasks::add);
+        service.subscribe(1L);
+        service.subscribe(2L);
+
+        // when: 전송이 진행되지 않는 상태에서 버퍼 크기만큼 이벤트 수신 (연결 이벤트 포함 시 초과)
+        for (int i = 0; i < 64; i++) {
+            service.onMessage(message(1L), null);
+        }
+
+        // then: 다른 게시글 구독자에게는 전달되지 않으므로 영향 없음
+        assertThat(service.getSubscriberCount(1L)).isZero();
+        assertThat(service.getSubscriberCount(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송이_진행되는_구독자는_연결_유지")
+    void 전송이_진행되는_구독자는_연결_유지() throws Exception {
+        // given
+        CommentStreamService service = createService(Runnable::run);
+        service.subscribe(1L);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            service.onMessage(message(1L), null);
+        }
+        service.sendHeartbeats();
+
+        // then
+        assertThat(service.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글별_구독_한도를_넘으면_구독_거부")
+    void 게시글별_구독_한도를_넘으면_구독_거부() throws Exception {
+        // given
+        CommentStreamService service = createService(pendingTasks::add);
+        for (int i = 0; i < 100; i++) {
+            service.subscribe(1L);
+        }
+
+        // when & then
+        assertThrows(CommentStreamLimitExceededException.class, () -> service.subscribe(1L));
+        assertThat(service.getSubscriberCount(1L)).isEqualTo(100);
+        service.subscribe(2L);
+        assertThat(service.getSubscriberCount()).isEqualTo(101);
+
+        // 종료된 구독은 한도에서 제외되어 다시 구독 가능
+        for (int i = 0; i < 64; i++) {
+            service.onMessage(message(1L), null);
+        }
+        service.subscribe(1L);
+        assertThat(service.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체_구독_한도를_넘으면_구독_거부")
+    void 전체_구독_한도를_넘으면_구독_거부() {
+        // given
+        CommentStreamService service = createService(pendingTasks::add);
+        for (int i = 0; i < 1000; i++) {
+            service.subscribe((long) (i % 20));
+        }
+
+        // when & then
+        assertThrows(CommentStreamLimitExceededException.class, () -> service.subscribe(99L));
+        assertThat(service.getSubscriberCount()).isEqualTo(1000);
+        assertThat(service.getSubscriberCount(99L)).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글_변경_커밋_후_Redis_채널에_발행")
+    void 댓글_변경_커밋_후_Redis_채널에_발행() throws Exception {
+        // given
+        CommentStreamService service = createService(Runnable::run);
+        CommentService.CommentChangedEvent event =
+                new CommentService.CommentChangedEvent(1L, CommentEventType.DELETED, 10L, null);
+
+        // when
+        service.handleCommentChanged(event);
+
+        // then
+        ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("comment-events"), payloadCaptor.capture());
+        CommentStreamEvent published = objectMapper.readValue(payloadCaptor.getValue(), CommentStreamEvent.class);
+        assertThat(published.postId()).isEqualTo(1L);
+        assertThat(published.type()).isEqualTo(CommentEventType.DELETED);
+        assertThat(published.commentId()).isEqualTo(10L);
+    }
+
+    private DefaultMessage message(Long postId) throws Exception {
+        CommentResponse comment = new CommentResponse(1L, "방문자", "새 댓글", "😊", "#E0F7FA", LocalDateTime.now());
+        CommentStreamEvent event = new CommentStreamEvent(postId, CommentEventType.CREATED, 1L, comment);
+        return new DefaultMessage("comment-events".getBytes(), objectMapper.writeValueAsBytes(event));
+    }
+}
@@ -1,27 +1,45 @@
 package com.thousandhyehyang.blog.service;
 
+import com.thousandhyehyang.blog.entity.FileDeletionCandidate;
 import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.exception.JobLeaseLostException;
+import com.thousandhyehyang.blog.repository.FileDeletionCandidateRepository;
 import com.thousandhyehyang.blog.repository.FileMetadataRepository;
 import com.thousandhyehyang.blog.service.file.FileCleanupService;
 import com.thousandhyehyang.blog.service.file.FileUploadService;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -32,16 +50,44 @@ class FileCleanupServiceTest {
     @Mock
     private FileMetadataRepository fileMetadataRepository;
 
+    @Mock
+    private FileDeletionCandidateRepository fileDeletionCandidateRepository;
+
     @Mock
     private FileUploadService fileUploadService;
 
-    @InjectMocks
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JobLockService jobLockService;
+
     private FileCleanupService fileCleanupService;
 
     private List<FileMetadata> orphanedFiles;
 
     @BeforeEach
     void setUp() {
+        // FileCleanupService 초기화 (단일 샤드)
+        fileCleanupService = new FileCleanupService(
+                fileMetadataRepository,
+                fileDeletionCandidateRepository,
+                fileUploadService,
+                transactionTemplate,
+                jobLockService,
+                1
+        );
+
+        // 작업 락은 항상 획득된 것으로 가정하고 작업을 그대로 실행
+        doAnswer(invocation -> {
+            ToIntFunction<JobLease> work = invocation.getArgument(3);
+            return work.applyAsInt(new JobLease(invocation.getArgument(1), 1L, "test-node:1"));
+        }).when(jobLockService).runExclusively(anyString(), anyString(), any(Duration.class), any());
+        doAnswer(invocation -> {
+            ToIntFunction<JobLease> work = invocation.getArgument(4);
+            return work.applyAsInt(new JobLease(invocation.getArgument(1), 1L, "test-node:1"));
+        }).when(jobLockService).runOncePerPeriod(anyString(), anyString(), any(Duration.class), any(Duration.class), any());
+
         // 테스트용 고아 파일 목록 설정
         orphanedFiles = new ArrayList<>();
 
@@ -52,132 +98,140 @@ class FileCleanupServiceTest {
             when(file.getStorageKey()).thenReturn("thumbnails/orphaned-file-" + i + ".jpg");
             orphanedFiles.add(file);
         }
+
+        // 고아 여부 재확인 시에는 요청한 ID의 파일이 모두 여전히 고아인 것으로 가정
+        doAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return orphanedFiles.stream()
+                    .filter(file -> ids.contains(file.getId()))
+                    .toList();
+        }).when(fileMetadataRepository).findOrphanedFilesByIdIn(anyList());
+
+        // 트랜잭션 템플릿은 전달받은 작업을 그대로 실행
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(invocation -> {
+            TransactionCallback<?> action = invocation.getArgument(0);
+            return action.doInTransaction(mock(TransactionStatus.class));
+        }).when(transactionTemplate).execute(any());
     }
 
     @Test
     @DisplayName("예약된_고아_파일_정리_성공")
     void 예약된_고아_파일_정리_성공() {
         // given
-        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class))).willReturn(orphanedFiles);
-        doNothing().when(fileUploadService).deleteFile(anyLong());
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
 
         // when
         fileCleanupService.cleanupOrphanedFiles();
 
         // then
-        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class));
-
-        // 각 파일에 대해 삭제 메서드가 호출되었는지 확인
-        for (FileMetadata file : orphanedFiles) {
-            verify(fileUploadService).deleteFile(file.getId());
-        }
+        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class), eq(0L), eq(0), eq(1), any(Pageable.class));
+        verify(fileUploadService).deleteObjects(List.of(
+                "thumbnails/orphaned-file-1.jpg",
+                "thumbnails/orphaned-file-2.jpg",
+                "thumbnails/orphaned-file-3.jpg"));
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
     }
 
     @Test
     @DisplayName("예약된_고아_파일_정리_성공_삭제할_파일_없음")
     void 예약된_고아_파일_정리_성공_삭제할_파일_없음() {
         // given
-        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class))).willReturn(new ArrayList<>());
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(new ArrayList<>());
 
         // when
         fileCleanupService.cleanupOrphanedFiles();
 
         // then
-        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class));
-        verify(fileUploadService, never()).deleteFile(anyLong());
+        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class));
+        verify(fileUploadService, never()).deleteObjects(anyList());
+        verify(fileMetadataRepository, never()).deleteAllByIdInBatch(any());
     }
 
     @Test
-    @DisplayName("예약된_고아_파일_정리_일부_실패_처리")
-    void 예약된_고아_파일_정리_일부_실패_처리() {
+    @DisplayName("예약된_고아_파일_정리_스토리지_삭제_실패해도_메타데이터_삭제")
+    void 예약된_고아_파일_정리_스토리지_삭제_실패해도_메타데이터_삭제() {
         // given
-        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class))).willReturn(orphanedFiles);
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
 
-        // 첫 번째 파일 삭제 시 예외 발생
-        doThrow(new RuntimeException("파일 삭제 실패")).when(fileUploadService).deleteFile(1L);
-
-        // 나머지 파일은 정상 삭제
-        doNothing().when(fileUploadService).deleteFile(2L);
-        doNothing().when(fileUploadService).deleteFile(3L);
+        // 첫 번째 파일은 스토리지 삭제 실패
+        given(fileUploadService.deleteObjects(anyList()))
+                .willReturn(Set.of("thumbnails/orphaned-file-1.jpg"));
 
         // when
         fileCleanupService.cleanupOrphanedFiles();
 
         // then
-        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class));
-
-        // 모든 파일에 대해 삭제 시도가 이루어졌는지 확인
-        verify(fileUploadService).deleteFile(1L);
-        verify(fileUploadService).deleteFile(2L);
-        verify(fileUploadService).deleteFile(3L);
+        // 메타데이터는 스토리지 삭제 전에 커밋되므로 실패 여부와 관계없이 삭제됨
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
     }
 
     @Test
     @DisplayName("수동_고아_파일_정리_성공")
     void 수동_고아_파일_정리_성공() {
         // given
-        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class))).willReturn(orphanedFiles);
-        doNothing().when(fileUploadService).deleteFile(anyLong());
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
 
         // when
         int deletedCount = fileCleanupService.cleanupOrphanedFiles(12); // 12시간 이전 파일 삭제
 
         // then
         assertThat(deletedCount).isEqualTo(3); // 3개 파일 모두 삭제됨
-        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class));
-
-        // 각 파일에 대해 삭제 메서드가 호출되었는지 확인
-        for (FileMetadata file : orphanedFiles) {
-            verify(fileUploadService).deleteFile(file.getId());
-        }
+        verify(fileUploadService).deleteObjects(anyList());
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(transactionTemplate).execute(any());
     }
 
     @Test
     @DisplayName("수동_고아_파일_정리_성공_삭제할_파일_없음")
     void 수동_고아_파일_정리_성공_삭제할_파일_없음() {
         // given
-        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class))).willReturn(new ArrayList<>());
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(new ArrayList<>());
 
         // when
         int deletedCount = fileCleanupService.cleanupOrphanedFiles(12); // 12시간 이전 파일 삭제
 
         // then
         assertThat(deletedCount).isZero(); // 삭제된 파일 없음
-        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class));
-        verify(fileUploadService, never()).deleteFile(anyLong());
+        verify(fileUploadService, never()).deleteObjects(anyList());
+        verify(transactionTemplate, never()).execute(any());
     }
 
     @Test
-    @DisplayName("수동_고아_파일_정리_일부_실패_처리")
-    void 수동_고아_파일_정리_일부_실패_처리() {
+    @DisplayName("수동_고아_파일_정리_스토리지_삭제_실패해도_메타데이터_삭제")
+    void 수동_고아_파일_정리_스토리지_삭제_실패해도_메타데이터_삭제() {
         // given
-        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class))).willReturn(orphanedFiles);
-
-        // 첫 번째 파일 삭제 시 예외 발생
-        doThrow(new RuntimeException("파일 삭제 실패")).when(fileUploadService).deleteFile(1L);
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
 
-        // 나머지 파일은 정상 삭제
-        doNothing().when(fileUploadService).deleteFile(2L);
-        doNothing().when(fileUploadService).deleteFile(3L);
+        // 첫 번째 파일은 스토리지 삭제 실패
+        given(fileUploadService.deleteObjects(anyList()))
+                .willReturn(Set.of("thumbnails/orphaned-file-1.jpg"));
 
         // when
         int deletedCount = fileCleanupService.cleanupOrphanedFiles(12); // 12시간 이전 파일 삭제
 
         // then
-        assertThat(deletedCount).isEqualTo(2); // 2개 파일만 삭제됨
-        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class));
-
-        // 모든 파일에 대해 삭제 시도가 이루어졌는지 확인
-        verify(fileUploadService).deleteFile(1L);
-        verify(fileUploadService).deleteFile(2L);
-        verify(fileUploadService).deleteFile(3L);
+        assertThat(deletedCount).isEqualTo(3); // 참조가 없는 객체는 로그만 남기고 3개 파일 모두 삭제됨
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
     }
 
     @Test
     @DisplayName("수동_고아_파일_정리_저장소_예외_처리")
     void 수동_고아_파일_정리_저장소_예외_처리() {
         // given
-        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class)))
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
                 .willThrow(new RuntimeException("데이터베이스 오류"));
 
         // when
@@ -185,7 +239,224 @@ class FileCleanupServiceTest {
 
         // then
         assertThat(deletedCount).isZero(); // 예외로 인해 삭제된 파일 없음
-        verify(fileMetadataRepository).findOrphanedFiles(any(LocalDateTime.class));
-        verify(fileUploadService, never()).deleteFile(anyLong());
+        verify(fileUploadService, never()).deleteObjects(anyList());
+        verify(fileMetadataRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("삭제_후보_큐_처리_성공")
+    void 삭제_후보_큐_처리_성공() {
+        // given
+        List<FileDeletionCandidate> candidates = createCandidates(1L, 2L, 3L);
+        given(fileDeletionCandidateRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(candidates);
+        given(fileMetadataRepository.findOrphanedFilesByIdIn(anyList())).willReturn(orphanedFiles);
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
+
+        // when
+        int deletedCount = fileCleanupService.drainDeletionQueue();
+
+        // then
+        assertThat(deletedCount).isEqualTo(3);
+        verify(fileMetadataRepository).findOrphanedFilesByIdIn(List.of(1L, 2L, 3L));
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(fileDeletionCandidateRepository).deleteAllByIdInBatch(List.of(11L, 12L, 13L));
+    }
+
+    @Test
+    @DisplayName("삭제_후보_큐_처리_다시_연결된_파일_제외")
+    void 삭제_후보_큐_처리_다시_연결된_파일_제외() {
+        // given
+        List<FileDeletionCandidate> candidates = createCandidates(1L, 2L);
+        given(fileDeletionCandidateRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(candidates);
+
+        // 1번 파일은 다른 게시글에 다시 연결되어 고아가 아님
+        given(fileMetadataRepository.findOrphanedFilesByIdIn(anyList())).willReturn(List.of(orphanedFiles.get(1)));
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
+
+        // when
+        int deletedCount = fileCleanupService.drainDeletionQueue();
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        verify(fileUploadService).deleteObjects(List.of("thumbnails/orphaned-file-2.jpg"));
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(2L));
+
+        // 두 후보 모두 큐에서 제거됨
+        verify(fileDeletionCandidateRepository).deleteAllByIdInBatch(List.of(11L, 12L));
+    }
+
+    @Test
+    @DisplayName("삭제_후보_큐_처리_메타데이터_삭제_커밋_후_스토리지_삭제")
+    void 삭제_후보_큐_처리_메타데이터_삭제_커밋_후_스토리지_삭제() {
+        // given
+        List<FileDeletionCandidate> candidates = createCandidates(1L, 2L);
+        given(fileDeletionCandidateRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(candidates);
+        given(fileMetadataRepository.findOrphanedFilesByIdIn(anyList()))
+                .willReturn(List.of(orphanedFiles.get(0), orphanedFiles.get(1)));
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
+
+        // when
+        fileCleanupService.drainDeletionQueue();
+
+        // then
+        // 고아 여부 재확인과 메타데이터 삭제가 한 트랜잭션에서 끝난 뒤에 스토리지 객체 삭제
+        InOrder inOrder = inOrder(transactionTemplate, fileMetadataRepository, fileUploadService);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(fileMetadataRepository).findOrphanedFilesByIdIn(List.of(1L, 2L));
+        inOrder.verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        inOrder.verify(fileUploadService).deleteObjects(List.of(
+                "thumbnails/orphaned-file-1.jpg", "thumbnails/orphaned-file-2.jpg"));
+    }
+
+    @Test
+    @DisplayName("삭제_후보_큐_처리_스토리지_삭제_실패해도_후보_제거")
+    void 삭제_후보_큐_처리_스토리지_삭제_실패해도_후보_제거() {
+        // given
+        List<FileDeletionCandidate> candidates = createCandidates(1L, 2L);
+        given(fileDeletionCandidateRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(candidates);
+        given(fileMetadataRepository.findOrphanedFilesByIdIn(anyList()))
+                .willReturn(List.of(orphanedFiles.get(0), orphanedFiles.get(1)));
+
+        // 1번 파일은 스토리지 삭제 실패
+        given(fileUploadService.deleteObjects(anyList()))
+                .willReturn(Set.of("thumbnails/orphaned-file-1.jpg"));
+
+        // when
+        int deletedCount = fileCleanupService.drainDeletionQueue();
+
+        // then
+        // 메타데이터는 이미 커밋되었으므로 참조되지 않는 객체만 남음
+        assertThat(deletedCount).isEqualTo(2);
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(fileDeletionCandidateRepository).deleteAllByIdInBatch(List.of(11L, 12L));
+    }
+
+    @Test
+    @DisplayName("삭제_후보_큐_처리_성공_후보_없음")
+    void 삭제_후보_큐_처리_성공_후보_없음() {
+        // given
+        given(fileDeletionCandidateRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .willReturn(new ArrayList<>());
+
+        // when
+        int deletedCount = fileCleanupService.drainDeletionQueue();
+
+        // then
+        assertThat(deletedCount).isZero();
+        verify(fileMetadataRepository, never()).findOrphanedFilesByIdIn(anyList());
+        verify(fileUploadService, never()).deleteObjects(anyList());
+    }
+
+    @Test
+    @DisplayName("고아_파일_정리_시_이미지_파생본도_삭제")
+    void 고아_파일_정리_시_이미지_파생본도_삭제() {
+        // given
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
+
+        FileMetadataRepository.VariantKey variant1 = mock(FileMetadataRepository.VariantKey.class);
+        when(variant1.getFileId()).thenReturn(1L);
+        when(variant1.getStorageKey()).thenReturn("thumbnails/orphaned-file-1-w320.jpg");
+        FileMetadataRepository.VariantKey variant2 = mock(FileMetadataRepository.VariantKey.class);
+        when(variant2.getFileId()).thenReturn(2L);
+        when(variant2.getStorageKey()).thenReturn("thumbnails/orphaned-file-2-w320.jpg");
+        given(fileMetadataRepository.findVariantKeysByFileIdIn(anyList())).willReturn(List.of(variant1, variant2));
+
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
+
+        // when
+        int deletedCount = fileCleanupService.cleanupOrphanedFiles(12);
+
+        // then
+        assertThat(deletedCount).isEqualTo(3);
+        verify(fileUploadService).deleteObjects(List.of(
+                "thumbnails/orphaned-file-1.jpg",
+                "thumbnails/orphaned-file-2.jpg",
+                "thumbnails/orphaned-file-3.jpg",
+                "thumbnails/orphaned-file-1-w320.jpg",
+                "thumbnails/orphaned-file-2-w320.jpg"));
+
+        // 파생본 정보를 먼저 삭제한 뒤 메타데이터 삭제
+        InOrder inOrder = inOrder(fileMetadataRepository);
+        inOrder.verify(fileMetadataRepository).deleteVariantsByFileIdIn(List.of(1L, 2L, 3L));
+        inOrder.verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("고아_파일_정리_시_다시_연결된_파일_제외")
+    void 고아_파일_정리_시_다시_연결된_파일_제외() {
+        // given
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
+
+        // 청크 조회 후 1번, 3번 파일이 다시 게시글에 연결됨
+        doReturn(List.of(orphanedFiles.get(1))).when(fileMetadataRepository).findOrphanedFilesByIdIn(anyList());
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
+
+        // when
+        int deletedCount = fileCleanupService.cleanupOrphanedFiles(12);
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        verify(fileMetadataRepository).findOrphanedFilesByIdIn(List.of(1L, 2L, 3L));
+        verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(fileUploadService).deleteObjects(List.of("thumbnails/orphaned-file-2.jpg"));
+    }
+
+    @Test
+    @DisplayName("고아_파일_정리_시_메타데이터_삭제_커밋_후_스토리지_삭제")
+    void 고아_파일_정리_시_메타데이터_삭제_커밋_후_스토리지_삭제() {
+        // given
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
+        given(fileUploadService.deleteObjects(anyList())).willReturn(Collections.emptySet());
+
+        // when
+        fileCleanupService.cleanupOrphanedFiles(12);
+
+        // then
+        InOrder inOrder = inOrder(transactionTemplate, fileMetadataRepository, fileUploadService);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(fileMetadataRepository).findOrphanedFilesByIdIn(List.of(1L, 2L, 3L));
+        inOrder.verify(fileMetadataRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        inOrder.verify(fileUploadService).deleteObjects(anyList());
+    }
+
+    @Test
+    @DisplayName("예약된_고아_파일_정리_락_상실_시_중단")
+    void 예약된_고아_파일_정리_락_상실_시_중단() {
+        // given
+        given(fileMetadataRepository.findOrphanedFiles(any(LocalDateTime.class), anyLong(), anyInt(), anyInt(), any(Pageable.class)))
+                .willReturn(orphanedFiles);
+
+        // 다른 노드가 더 큰 펜싱 토큰으로 락을 가져감
+        doThrow(new JobLeaseLostException("file-cleanup.orphan-scan:0", 1L))
+                .when(jobLockService).ensureHeld(any(JobLease.class), any(Duration.class));
+
+        // when
+        int deletedCount = fileCleanupService.cleanupOrphanedFiles(12);
+
+        // then
+        assertThat(deletedCount).isZero();
+        verify(fileUploadService, never()).deleteObjects(anyList());
+        verify(fileMetadataRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    /**
+     * 파일 ID 목록으로 삭제 후보 목 객체 생성 (후보 ID는 파일 ID + 10)
+     */
+    private List<FileDeletionCandidate> createCandidates(Long... fileIds) {
+        List<FileDeletionCandidate> candidates = new ArrayList<>();
+        for (Long fileId : fileIds) {
+            FileDeletionCandidate candidate = mock(FileDeletionCandidate.class);
+            when(candidate.getId()).thenReturn(fileId + 10);
+            when(candidate.getFileId()).thenReturn(fileId);
+            candidates.add(candidate);
+        }
+        return candidates;
     }
 }
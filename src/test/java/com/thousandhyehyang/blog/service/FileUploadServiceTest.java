@@ -8,6 +8,7 @@ import com.thousandhyehyang.blog.enums.UploadType;
 import com.thousandhyehyang.blog.exception.FileUploadException;
 import com.thousandhyehyang.blog.repository.FileMetadataRepository;
 import com.thousandhyehyang.blog.service.file.FileUploadService;
+import com.thousandhyehyang.blog.service.file.ImageVariantService;
 import com.thousandhyehyang.blog.util.FileValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -48,6 +50,9 @@ class FileUploadServiceTest {
     @Mock
     private FileMetadataRepository fileMetadataRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private MultipartFile mockFile;
 
@@ -117,6 +122,29 @@ class FileUploadServiceTest {
             fileValidatorMock.verify(() -> FileValidator.validateByType(mockFile, UploadType.THUMBNAIL));
             verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
             verify(fileMetadataRepository).save(any(FileMetadata.class));
+
+            // 이미지 업로드는 파생본 생성 이벤트 발행
+            verify(eventPublisher).publishEvent(any(ImageVariantService.ImageUploadedEvent.class));
+        }
+    }
+
+    @Test
+    @DisplayName("문서_업로드_시_파생본_이벤트_미발행")
+    void 문서_업로드_시_파생본_이벤트_미발행() {
+        // given
+        try (MockedStatic<FileValidator> fileValidatorMock = mockStatic(FileValidator.class)) {
+            fileValidatorMock.when(() -> FileValidator.validateByType(any(MultipartFile.class), any(UploadType.class)))
+                    .thenAnswer(invocation -> null);
+            when(mockFile.getOriginalFilename()).thenReturn("test-document.pdf");
+            when(mockFile.getContentType()).thenReturn("application/pdf");
+            when(fileMetadataRepository.save(any(FileMetadata.class))).thenReturn(testFileMetadata);
+
+            // when
+            fileUploadService.upload(mockFile, UploadType.DOCUMENT);
+
+            // then
+            verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
     }
 
@@ -144,19 +172,24 @@ class FileUploadServiceTest {
     void 파일_다운로드_성공() throws IOException {
         // given
         given(fileMetadataRepository.findById(anyLong())).willReturn(Optional.of(testFileMetadata));
+        when(testFileMetadata.getOriginalFilename()).thenReturn("test.jpg");
+        when(testFileMetadata.getContentType()).thenReturn("image/jpeg");
+        when(testFileMetadata.getFileSize()).thenReturn((long) testFileContent.length);
 
         // S3 응답 모킹
-        ResponseInputStream<GetObjectResponse> mockResponse = mock(ResponseInputStream.class);
-        when(mockResponse.readAllBytes()).thenReturn(testFileContent);
-        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(mockResponse);
-
+        ResponseInputStream<GetObjectResponse> response = new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), new ByteArrayInputStream(testFileContent));
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(response);
 
         // when
-        byte[] downloadedContent = fileUploadService.downloadFile(1L);
+        FileUploadService.FileDownload download = fileUploadService.download(1L);
 
         // then
-        assertThat(downloadedContent).isEqualTo(testFileContent);
-        verify(fileMetadataRepository).findById(1L);
+        assertThat(download.filename()).isEqualTo("test.jpg");
+        assertThat(download.contentType()).isEqualTo("image/jpeg");
+        assertThat(download.contentLength()).isEqualTo(testFileContent.length);
+        assertThat(download.content().readAllBytes()).isEqualTo(testFileContent);
+        verify(fileMetadataRepository, times(1)).findById(1L);
         verify(s3Client).getObject(any(GetObjectRequest.class));
     }
 
@@ -167,7 +200,7 @@ class FileUploadServiceTest {
         given(fileMetadataRepository.findById(anyLong())).willReturn(Optional.empty());
 
         // when & then
-        assertThrows(FileUploadException.class, () -> fileUploadService.downloadFile(999L));
+        assertThrows(FileUploadException.class, () -> fileUploadService.download(999L));
         verify(fileMetadataRepository).findById(999L);
         verify(s3Client, never()).getObject(any(GetObjectRequest.class));
     }
@@ -0,0 +1,293 @@
+package com.thousandhyehyang.blog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.config.R2Properties;
+import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.entity.ImageVariant;
+import com.thousandhyehyang.blog.repository.FileMetadataRepository;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.service.file.ImageVariantService;
+import com.thousandhyehyang.blog.service.file.ImageVariantService.ImageUploadedEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImageVariantServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private R2Properties r2Properties;
+
+    @Mock
+    private FileMetadataRepository fileMetadataRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 테스트에서는 제출된 작업을 바로 실행하고, 거부 여부를 바꿀 수 있는 실행기
+    private boolean rejecting;
+
+    private ImageVariantService imageVariantService;
+
+    private FileMetadata fileMetadata;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantService = new ImageVariantService(s3Client, r2Properties, fileMetadataRepository, postRepository,
+                transactionTemplate, this::execute, redisTemplate, objectMapper);
+        rejecting = false;
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        when(r2Properties.getBucket()).thenReturn("test-bucket");
+        when(r2Properties.getPublicUrl()).thenReturn("https://test-cdn.example.com");
+
+        fileMetadata = mock(FileMetadata.class);
+
+        // 트랜잭션 템플릿은 전달받은 작업을 그대로 실행
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(mock(TransactionStatus.class));
+        });
+    }
+
+    @Test
+    @DisplayName("이미지_파생본_생성_성공")
+    void 이미지_파생본_생성_성공() throws IOException {
+        // given
+        byte[] content = createImage(2000, 1000, "png");
+        given(fileMetadataRepository.findById(anyLong())).willReturn(Optional.of(fileMetadata));
+
+        // when
+        imageVariantService.handleImageUploaded(
+                new ImageUploadedEvent(1L, "thumbnails/test-uuid.png", "image/png", content));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImageVariant>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fileMetadata).addVariants(captor.capture());
+
+        List<ImageVariant> variants = captor.getValue();
+        assertThat(variants).extracting(ImageVariant::getWidth).contains(320, 640, 1280);
+        assertThat(variants).allSatisfy(variant -> {
+            assertThat(variant.getStorageKey()).startsWith("thumbnails/test-uuid-");
+            assertThat(variant.getWidth()).isLessThanOrEqualTo(2000);
+        });
+
+        // 비율 유지 확인
+        ImageVariant smallest = variants.get(0);
+        assertThat(smallest.getWidth()).isEqualTo(320);
+        assertThat(smallest.getHeight()).isEqualTo(160);
+
+        verify(s3Client, times(variants.size())).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    @DisplayName("파생본_기록_시_연결된_게시글_버전_갱신")
+    void 파생본_기록_시_연결된_게시글_버전_갱신() throws IOException {
+        // given
+        byte[] content = createImage(800, 400, "png");
+        given(fileMetadataRepository.findById(1L)).willReturn(Optional.of(fileMetadata));
+
+        // when
+        imageVariantService.handleImageUploaded(
+                new ImageUploadedEvent(1L, "editor-images/test-uuid.png", "image/png", content));
+
+        // then
+        verify(postRepository).touchByFileId(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("실행기가_거부하면_호출_스레드에서_처리하지_않고_보충_목록에_기록")
+    void 실행기가_거부하면_호출_스레드에서_처리하지_않고_보충_목록에_기록() throws IOException {
+        // given
+        rejecting = true;
+        byte[] content = createImage(800, 400, "png");
+
+        // when
+        imageVariantService.handleImageUploaded(
+                new ImageUploadedEvent(1L, "editor-images/test-uuid.png", "image/png", content));
+
+        // then
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(setOperations).add(eq("image_variants:backfill"), json.capture());
+        assertThat(objectMapper.readTree(json.getValue()).get("fileId").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(json.getValue()).get("storageKey").asText()).isEqualTo("editor-images/test-uuid.png");
+    }
+
+    @Test
+    @DisplayName("보충_작업은_스토리지에서_원본을_읽어_파생본_생성")
+    void 보충_작업은_스토리지에서_원본을_읽어_파생본_생성() throws IOException {
+        // given
+        byte[] content = createImage(800, 400, "png");
+        when(setOperations.pop("image_variants:backfill"))
+                .thenReturn("{\"fileId\":1,\"storageKey\":\"editor-images/test-uuid.png\",\"contentType\":\"image/png\"}")
+                .thenReturn(null);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), content));
+        given(fileMetadataRepository.findById(1L)).willReturn(Optional.of(fileMetadata));
+
+        // when
+        int submitted = imageVariantService.backfillVariants();
+
+        // then
+        assertThat(submitted).isEqualTo(1);
+        verify(fileMetadata).addVariants(anyList());
+    }
+
+    @Test
+    @DisplayName("보충_작업_중_실행기가_거부하면_항목을_되돌리고_중단")
+    void 보충_작업_중_실행기가_거부하면_항목을_되돌리고_중단() {
+        // given
+        rejecting = true;
+        String json = "{\"fileId\":1,\"storageKey\":\"editor-images/test-uuid.png\",\"contentType\":\"image/png\"}";
+        when(setOperations.pop("image_variants:backfill")).thenReturn(json);
+
+        // when
+        int submitted = imageVariantService.backfillVariants();
+
+        // then
+        assertThat(submitted).isZero();
+        verify(setOperations).add("image_variants:backfill", json);
+        verify(setOperations, times(1)).pop("image_variants:backfill");
+    }
+
+    @Test
+    @DisplayName("작은_이미지는_원본보다_작은_너비만_생성")
+    void 작은_이미지는_원본보다_작은_너비만_생성() throws IOException {
+        // given
+        byte[] content = createImage(500, 500, "png");
+        given(fileMetadataRepository.findById(anyLong())).willReturn(Optional.of(fileMetadata));
+
+        // when
+        imageVariantService.handleImageUploaded(
+                new ImageUploadedEvent(1L, "editor-images/test-uuid.png", "image/png", content));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImageVariant>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fileMetadata).addVariants(captor.capture());
+        assertThat(captor.getValue()).extracting(ImageVariant::getWidth).doesNotContain(640, 1280);
+    }
+
+    @Test
+    @DisplayName("GIF_이미지는_파생본_생성_건너뜀")
+    void GIF_이미지는_파생본_생성_건너뜀() throws IOException {
+        // given
+        byte[] content = createImage(1000, 1000, "gif");
+
+        // when
+        imageVariantService.handleImageUploaded(
+                new ImageUploadedEvent(1L, "editor-images/test-uuid.gif", "image/gif", content));
+
+        // then
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("이미지가_아닌_내용은_파생본_생성_건너뜀")
+    void 이미지가_아닌_내용은_파생본_생성_건너뜀() {
+        // when
+        imageVariantService.handleImageUploaded(
+                new ImageUploadedEvent(1L, "thumbnails/test-uuid.jpg", "image/jpeg", "이미지 아님".getBytes()));
+
+        // then
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("원본이_삭제된_경우_파생본_정리")
+    void 원본이_삭제된_경우_파생본_정리() throws IOException {
+        // given
+        byte[] content = createImage(800, 400, "png");
+        given(fileMetadataRepository.findById(anyLong())).willReturn(Optional.empty());
+
+        // when
+        imageVariantService.handleImageUploaded(
+                new ImageUploadedEvent(1L, "thumbnails/test-uuid.png", "image/png", content));
+
+        // then
+        verify(s3Client, atLeastOnce()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, atLeastOnce()).deleteObject(any(Consumer.class));
+        verify(postRepository, never()).touchByFileId(anyLong(), any());
+    }
+
+    private void execute(Runnable task) {
+        if (rejecting) {
+            throw new TaskRejectedException("대기열 가득 참");
+        }
+        task.run();
+    }
+
+    /**
+     * 테스트용 이미지 생성 (그라데이션으로 채워 압축 결과가 너무 작아지지 않도록 함)
+     */
+    private byte[] createImage(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        for (int x = 0; x < width; x++) {
+            g.setColor(new Color((x * 255) / width, 128, 255 - (x * 255) / width));
+            g.drawLine(x, 0, x, height);
+        }
+        g.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
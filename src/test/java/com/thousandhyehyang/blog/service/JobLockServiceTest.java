@@ -0,0 +1,276 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.entity.JobRun;
+import com.thousandhyehyang.blog.enums.JobRunStatus;
+import com.thousandhyehyang.blog.exception.JobLeaseLostException;
+import com.thousandhyehyang.blog.repository.JobRunRepository;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JobLockServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private JobRunRepository jobRunRepository;
+
+    private JobLockService jobLockService;
+
+    @BeforeEach
+    void setUp() {
+        jobLockService = new JobLockService(redisTemplate, jobRunRepository, 30);
+
+        // 저장된 실행 이력을 그대로 반환
+        given(jobRunRepository.save(any(JobRun.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("락_획득_성공_작업_실행_및_이력_기록")
+    void 락_획득_성공_작업_실행_및_이력_기록() {
+        // given
+        // 락 획득 스크립트 (인자 2개)는 펜싱 토큰 7 반환
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(7L);
+
+        // when
+        int processedCount = jobLockService.runExclusively("test-job", "test-job", Duration.ofMinutes(1), lease -> {
+            assertThat(lease.fencingToken()).isEqualTo(7L);
+            return 5;
+        });
+
+        // then
+        assertThat(processedCount).isEqualTo(5);
+
+        ArgumentCaptor<JobRun> captor = ArgumentCaptor.forClass(JobRun.class);
+        verify(jobRunRepository, times(2)).save(captor.capture());
+        JobRun run = captor.getValue();
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getFencingToken()).isEqualTo(7L);
+        assertThat(run.getProcessedCount()).isEqualTo(5);
+
+        // 락 해제 스크립트 (인자 1개) 호출 확인
+        verify(redisTemplate).execute(anyScript(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("락_획득_실패_작업_건너뜀")
+    void 락_획득_실패_작업_건너뜀() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(-1L);
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        // when
+        int processedCount = jobLockService.runExclusively("test-job", "test-job", Duration.ofMinutes(1), lease -> {
+            executed.set(true);
+            return 1;
+        });
+
+        // then
+        assertThat(processedCount).isZero();
+        assertThat(executed).isFalse();
+        verify(jobRunRepository, never()).save(any(JobRun.class));
+    }
+
+    @Test
+    @DisplayName("작업_실패_시_이력_기록_후_예외_전파")
+    void 작업_실패_시_이력_기록_후_예외_전파() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(3L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () ->
+                jobLockService.runExclusively("test-job", "test-job", Duration.ofMinutes(1), lease -> {
+                    throw new IllegalStateException("작업 오류");
+                }));
+
+        ArgumentCaptor<JobRun> captor = ArgumentCaptor.forClass(JobRun.class);
+        verify(jobRunRepository, times(2)).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(captor.getValue().getErrorMessage()).isEqualTo("작업 오류");
+
+        // 실패해도 락은 해제됨
+        verify(redisTemplate).execute(anyScript(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("실행_이력_기록에_실패하면_작업을_실행하지_않고_락_해제")
+    void 실행_이력_기록에_실패하면_작업을_실행하지_않고_락_해제() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(3L);
+        given(jobRunRepository.save(any(JobRun.class))).willThrow(new IllegalStateException("DB 오류"));
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () ->
+                jobLockService.runOncePerPeriod("digest", "digest", Duration.ofMinutes(1), Duration.ofDays(1), lease -> {
+                    executed.set(true);
+                    return 1;
+                }));
+
+        assertThat(executed).isFalse();
+        // 완료 표시 없이 락만 해제되어 다른 노드가 이번 주기 작업을 다시 시도할 수 있음
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        verify(redisTemplate).execute(anyScript(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("결과_기록에_실패해도_원래_예외를_전파하고_완료_표시_후_락_해제")
+    void 결과_기록에_실패해도_원래_예외를_전파하고_완료_표시_후_락_해제() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(3L);
+        given(jobRunRepository.save(any(JobRun.class)))
+                .willAnswer(invocation -> invocation.getArgument(0))
+                .willThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () ->
+                jobLockService.runOncePerPeriod("digest", "digest", Duration.ofMinutes(1), Duration.ofDays(1), lease -> {
+                    throw new IllegalArgumentException("작업 오류");
+                }));
+
+        assertThat(thrown).hasMessage("작업 오류");
+        verify(valueOperations).set(eq("job_done:digest:digest"), anyString(), eq(Duration.ofHours(12)));
+        verify(redisTemplate).execute(anyScript(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("락_연장_실패_시_예외")
+    void 락_연장_실패_시_예외() {
+        // given
+        // 락 값이 달라 연장되지 않음 (만료 후 다른 노드가 획득)
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(0L);
+        JobLease lease = new JobLease("test-job", 3L, "node-a:3");
+
+        // when & then
+        assertThrows(JobLeaseLostException.class, () -> jobLockService.ensureHeld(lease, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("더_큰_펜싱_토큰의_실행이_있으면_예외")
+    void 더_큰_펜싱_토큰의_실행이_있으면_예외() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(1L);
+        given(jobRunRepository.existsByLockNameAndFencingTokenGreaterThan(anyString(), anyLong())).willReturn(true);
+        JobLease lease = new JobLease("test-job", 3L, "node-a:3");
+
+        // when & then
+        assertThrows(JobLeaseLostException.class, () -> jobLockService.ensureHeld(lease, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("락_연장_성공")
+    void 락_연장_성공() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(1L);
+        given(jobRunRepository.existsByLockNameAndFencingTokenGreaterThan(anyString(), anyLong())).willReturn(false);
+        JobLease lease = new JobLease("test-job", 3L, "node-a:3");
+
+        // when
+        jobLockService.ensureHeld(lease, Duration.ofMinutes(1));
+
+        // then
+        verify(jobRunRepository).existsByLockNameAndFencingTokenGreaterThan("test-job", 3L);
+    }
+
+    @Test
+    @DisplayName("주기_작업은_완료_표시를_남기고_삭제하지_않음")
+    void 주기_작업은_완료_표시를_남기고_삭제하지_않음() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(7L);
+
+        // when
+        int processedCount = jobLockService.runOncePerPeriod("digest", "digest", Duration.ofMinutes(1),
+                Duration.ofDays(1), lease -> 3);
+
+        // then
+        assertThat(processedCount).isEqualTo(3);
+        // 락 획득 시 완료 표시 키도 함께 확인
+        verify(redisTemplate).execute(anyScript(),
+                eq(List.of("job_lock:digest", "job_lock_fence:digest", "job_done:digest:digest")), any(), any());
+        // 완료 표시는 주기의 절반 동안 유지되고 삭제되지 않음 (락만 해제)
+        verify(valueOperations).set(eq("job_done:digest:digest"), endsWith(":7"), eq(Duration.ofHours(12)));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("이번_주기에_이미_실행된_작업은_건너뜀")
+    void 이번_주기에_이미_실행된_작업은_건너뜀() {
+        // given
+        // 완료 표시가 있으면 락 획득 스크립트가 -2 반환
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(-2L);
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        // when
+        int processedCount = jobLockService.runOncePerPeriod("digest", "digest", Duration.ofMinutes(1),
+                Duration.ofDays(1), lease -> {
+                    executed.set(true);
+                    return 1;
+                });
+
+        // then
+        assertThat(processedCount).isZero();
+        assertThat(executed).isFalse();
+        verify(jobRunRepository, never()).save(any(JobRun.class));
+    }
+
+    @Test
+    @DisplayName("보존_기간이_지난_실행_이력을_배치_단위로_삭제하고_마지막_성공_실행은_보존")
+    void 보존_기간이_지난_실행_이력을_배치_단위로_삭제하고_마지막_성공_실행은_보존() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(3L);
+        given(jobRunRepository.findLatestSucceededIds()).willReturn(List.of(10L, 20L));
+        given(jobRunRepository.deleteStartedBefore(any(LocalDateTime.class), anyList(), anyInt()))
+                .willReturn(1000, 1000, 15);
+
+        // when
+        int deletedCount = jobLockService.pruneJobRuns();
+
+        // then
+        assertThat(deletedCount).isEqualTo(2015);
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRunRepository, times(3)).deleteStartedBefore(cutoff.capture(), eq(List.of(10L, 20L)), eq(1000));
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+    }
+
+    /**
+     * 스크립트 종류와 관계없이 일치하는 매처 (raw 타입 매처로 인한 unchecked 경고 방지)
+     */
+    private static <T> RedisScript<T> anyScript() {
+        return any();
+    }
+}
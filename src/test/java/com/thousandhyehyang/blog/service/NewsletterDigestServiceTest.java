@@ -0,0 +1,316 @@
+package com.thousandhyehyang.blog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.entity.JobRun;
+import com.thousandhyehyang.blog.entity.Post;
+import com.thousandhyehyang.blog.entity.Subscriber;
+import com.thousandhyehyang.blog.enums.DeliveryMode;
+import com.thousandhyehyang.blog.enums.JobRunStatus;
+import com.thousandhyehyang.blog.enums.SubscriptionStatus;
+import com.thousandhyehyang.blog.exception.JobLeaseLostException;
+import com.thousandhyehyang.blog.repository.JobRunRepository;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.repository.SubscriberRepository;
+import com.thousandhyehyang.blog.service.email.EmailService;
+import com.thousandhyehyang.blog.service.email.NewsletterDigestService;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import jakarta.mail.Message;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NewsletterDigestServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private SubscriberRepository subscriberRepository;
+
+    @Mock
+    private JobRunRepository jobRunRepository;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private NewsletterDigestService digestService;
+
+    @BeforeEach
+    void setUp() {
+        digestService = new NewsletterDigestService(postRepository, subscriberRepository, jobRunRepository,
+                jobLockService, emailService, redisTemplate, objectMapper);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // 작업 락은 항상 획득된 것으로 가정하고 작업을 그대로 실행
+        doAnswer(invocation -> {
+            ToIntFunction<JobLease> work = invocation.getArgument(3);
+            return work.applyAsInt(new JobLease(invocation.getArgument(1), 1L, "test-node:1"));
+        }).when(jobLockService).runExclusively(anyString(), anyString(), any(Duration.class), any());
+        doAnswer(invocation -> {
+            ToIntFunction<JobLease> work = invocation.getArgument(4);
+            return work.applyAsInt(new JobLease(invocation.getArgument(1), 1L, "test-node:1"));
+        }).when(jobLockService).runOncePerPeriod(anyString(), anyString(), any(Duration.class), any(Duration.class), any());
+    }
+
+    @Test
+    @DisplayName("마지막_성공_실행_이후_발행된_게시글을_모아_한_번에_발송")
+    void 마지막_성공_실행_이후_발행된_게시글을_모아_한_번에_발송() {
+        // given
+        LocalDateTime lastRun = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.HOURS).plusSeconds(3);
+        JobRun previous = mock(JobRun.class);
+        when(previous.getStartedAt()).thenReturn(lastRun);
+        when(jobRunRepository.findTopByJobNameAndStatusOrderByStartedAtDesc("newsletter-digest.daily", JobRunStatus.SUCCEEDED))
+                .thenReturn(Optional.of(previous));
+
+        List<Post> posts = List.of(mock(Post.class), mock(Post.class), mock(Post.class));
+        when(postRepository.findPublishedBetween(any(), any())).thenReturn(posts);
+        List<Subscriber> subscribers = List.of(new Subscriber("a@example.com"), new Subscriber("b@example.com"));
+        when(subscriberRepository.findAllByStatusAndDeliveryMode(SubscriptionStatus.SUBSCRIBED, DeliveryMode.DAILY))
+                .thenReturn(subscribers);
+        when(emailService.sendDigest(anyString(), anyList(), anyList())).thenReturn(new EmailService.DigestResult(1, List.of()));
+
+        // when
+        int sent = digestService.sendDailyDigest();
+
+        // then
+        assertThat(sent).isEqualTo(1);
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(postRepository).findPublishedBetween(from.capture(), to.capture());
+        assertThat(from.getValue()).isEqualTo(lastRun.truncatedTo(ChronoUnit.HOURS));
+        assertThat(to.getValue()).isEqualTo(to.getValue().truncatedTo(ChronoUnit.HOURS));
+
+        verify(jobLockService).ensureHeld(any(JobLease.class), any(Duration.class));
+        verify(emailService).sendDigest("[천혜향 블로그] 오늘의 새 글 3편", posts, List.of("a@example.com", "b@example.com"));
+    }
+
+    @Test
+    @DisplayName("새_게시글이_없으면_발송하지_않음")
+    void 새_게시글이_없으면_발송하지_않음() {
+        // given
+        when(jobRunRepository.findTopByJobNameAndStatusOrderByStartedAtDesc(anyString(), any())).thenReturn(Optional.empty());
+        when(postRepository.findPublishedBetween(any(), any())).thenReturn(List.of());
+
+        // when
+        int sent = digestService.sendWeeklyDigest();
+
+        // then
+        assertThat(sent).isZero();
+        verify(subscriberRepository, never()).findAllByStatusAndDeliveryMode(any(), any());
+        verify(emailService, never()).sendDigest(anyString(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("발송_직전_락을_잃으면_발송하지_않음")
+    void 발송_직전_락을_잃으면_발송하지_않음() {
+        // given
+        when(jobRunRepository.findTopByJobNameAndStatusOrderByStartedAtDesc(anyString(), any())).thenReturn(Optional.empty());
+        when(postRepository.findPublishedBetween(any(), any())).thenReturn(List.of(mock(Post.class)));
+        when(subscriberRepository.findAllByStatusAndDeliveryMode(any(), any()))
+                .thenReturn(List.of(new Subscriber("a@example.com")));
+        doThrow(new JobLeaseLostException("newsletter-digest.daily", 1L))
+                .when(jobLockService).ensureHeld(any(JobLease.class), any(Duration.class));
+
+        // when
+        int sent = digestService.sendDailyDigest();
+
+        // then
+        assertThat(sent).isZero();
+        verify(emailService, never()).sendDigest(anyString(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("다이제스트는_본문을_한_번만_렌더링하고_50명씩_숨은_참조로_발송")
+    void 다이제스트는_본문을_한_번만_렌더링하고_50명씩_숨은_참조로_발송() throws Exception {
+        // given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        TemplateEngine templateEngine = mock(TemplateEngine.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(templateEngine.process(eq("newsletter-digest"), any(IContext.class))).thenReturn("<html></html>");
+        EmailService realEmailService = new EmailService(mailSender, templateEngine, subscriberRepository);
+
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(1L);
+        when(post.getTitle()).thenReturn("제목");
+        List<String> recipients = IntStream.range(0, 120).mapToObj(i -> "user" + i + "@example.com").toList();
+
+        // when
+        EmailService.DigestResult result = realEmailService.sendDigest("새 글 모음", List.of(post), recipients);
+
+        // then
+        assertThat(result.sent()).isEqualTo(3);
+        assertThat(result.failedRecipients()).isEmpty();
+        verify(templateEngine, times(1)).process(eq("newsletter-digest"), any(IContext.class));
+
+        ArgumentCaptor<MimeMessage> messages = ArgumentCaptor.forClass(MimeMessage.class);
+        verify(mailSender, times(3)).send(messages.capture());
+        assertThat(messages.getAllValues().get(0).getRecipients(Message.RecipientType.BCC)).hasSize(50);
+        assertThat(messages.getAllValues().get(2).getRecipients(Message.RecipientType.BCC)).hasSize(20);
+        assertThat(messages.getAllValues().get(0).getRecipients(Message.RecipientType.TO)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("발송에_실패한_묶음이_있으면_나머지를_보내고_실패한_수신자를_반환")
+    void 발송에_실패한_묶음이_있으면_나머지를_보내고_실패한_수신자를_반환() {
+        // given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        TemplateEngine templateEngine = mock(TemplateEngine.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(templateEngine.process(eq("newsletter-digest"), any(IContext.class))).thenReturn("<html></html>");
+        doThrow(new MailSendException("SMTP 오류")).doNothing().when(mailSender).send(any(MimeMessage.class));
+        EmailService realEmailService = new EmailService(mailSender, templateEngine, subscriberRepository);
+
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(1L);
+        List<String> recipients = IntStream.range(0, 120).mapToObj(i -> "user" + i + "@example.com").toList();
+
+        // when
+        EmailService.DigestResult result = realEmailService.sendDigest("새 글 모음", List.of(post), recipients);
+
+        // then
+        verify(mailSender, times(3)).send(any(MimeMessage.class));
+        assertThat(result.sent()).isEqualTo(2);
+        assertThat(result.failedRecipients()).isEqualTo(recipients.subList(0, 50));
+    }
+
+    @Test
+    @DisplayName("일부_묶음만_실패하면_구간을_넘기고_실패한_수신자만_재발송_대기")
+    void 일부_묶음만_실패하면_구간을_넘기고_실패한_수신자만_재발송_대기() throws Exception {
+        // given
+        when(jobRunRepository.findTopByJobNameAndStatusOrderByStartedAtDesc(anyString(), any())).thenReturn(Optional.empty());
+        when(postRepository.findPublishedBetween(any(), any())).thenReturn(List.of(mock(Post.class)));
+        when(subscriberRepository.findAllByStatusAndDeliveryMode(any(), any()))
+                .thenReturn(List.of(new Subscriber("a@example.com"), new Subscriber("b@example.com")));
+        when(emailService.sendDigest(anyString(), anyList(), anyList()))
+                .thenReturn(new EmailService.DigestResult(1, List.of("b@example.com")));
+
+        // when
+        int sent = digestService.sendDailyDigest();
+
+        // then
+        // 예외 없이 끝나야 실행이 성공으로 기록되어 구간이 넘어감
+        assertThat(sent).isEqualTo(1);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("digest_retry:newsletter-digest.daily"), json.capture(), any(Duration.class));
+        assertThat(objectMapper.readTree(json.getValue()).get(0).get("recipients").get(0).asText())
+                .isEqualTo("b@example.com");
+        assertThat(objectMapper.readTree(json.getValue()).get(0).get("attempts").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든_묶음이_실패하면_실행을_실패로_남기고_재발송_대기에_넣지_않음")
+    void 모든_묶음이_실패하면_실행을_실패로_남기고_재발송_대기에_넣지_않음() {
+        // given
+        when(jobRunRepository.findTopByJobNameAndStatusOrderByStartedAtDesc(anyString(), any())).thenReturn(Optional.empty());
+        when(postRepository.findPublishedBetween(any(), any())).thenReturn(List.of(mock(Post.class)));
+        when(subscriberRepository.findAllByStatusAndDeliveryMode(any(), any()))
+                .thenReturn(List.of(new Subscriber("a@example.com")));
+        when(emailService.sendDigest(anyString(), anyList(), anyList()))
+                .thenReturn(new EmailService.DigestResult(0, List.of("a@example.com")));
+
+        // when
+        int sent = digestService.sendDailyDigest();
+
+        // then
+        // 작업이 예외로 끝나 실패로 기록되므로 다음 실행에서 같은 구간을 모두에게 다시 발송함
+        assertThat(sent).isZero();
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("재발송_대기_수신자에게만_해당_구간을_다시_발송")
+    void 재발송_대기_수신자에게만_해당_구간을_다시_발송() throws Exception {
+        // given
+        LocalDateTime windowStart = LocalDateTime.of(2024, 1, 1, 8, 0);
+        LocalDateTime windowEnd = LocalDateTime.of(2024, 1, 2, 8, 0);
+        when(valueOperations.get("digest_retry:newsletter-digest.daily")).thenReturn(retryJson(
+                windowStart, windowEnd, List.of("b@example.com", "gone@example.com"), 1));
+        when(subscriberRepository.findAllByStatusAndDeliveryMode(SubscriptionStatus.SUBSCRIBED, DeliveryMode.DAILY))
+                .thenReturn(List.of(new Subscriber("a@example.com"), new Subscriber("b@example.com")));
+        List<Post> missed = List.of(mock(Post.class));
+        when(postRepository.findPublishedBetween(windowStart, windowEnd)).thenReturn(missed);
+        when(postRepository.findPublishedBetween(argThat(from -> !windowStart.equals(from)), any())).thenReturn(List.of());
+        when(jobRunRepository.findTopByJobNameAndStatusOrderByStartedAtDesc(anyString(), any())).thenReturn(Optional.empty());
+        when(emailService.sendDigest(anyString(), anyList(), anyList())).thenReturn(new EmailService.DigestResult(1, List.of()));
+
+        // when
+        int sent = digestService.sendDailyDigest();
+
+        // then
+        // 해지한 수신자는 제외하고 실패했던 수신자에게만 발송한 뒤 대기 목록 삭제
+        assertThat(sent).isEqualTo(1);
+        verify(emailService).sendDigest("[천혜향 블로그] 오늘의 새 글 1편", missed, List.of("b@example.com"));
+        verify(redisTemplate).delete("digest_retry:newsletter-digest.daily");
+    }
+
+    @Test
+    @DisplayName("최대_시도_횟수만큼_실패한_수신자는_재발송을_포기")
+    void 최대_시도_횟수만큼_실패한_수신자는_재발송을_포기() throws Exception {
+        // given
+        LocalDateTime windowStart = LocalDateTime.of(2024, 1, 1, 8, 0);
+        LocalDateTime windowEnd = LocalDateTime.of(2024, 1, 2, 8, 0);
+        when(valueOperations.get("digest_retry:newsletter-digest.daily")).thenReturn(retryJson(
+                windowStart, windowEnd, List.of("b@example.com"), 2));
+        when(subscriberRepository.findAllByStatusAndDeliveryMode(any(), any()))
+                .thenReturn(List.of(new Subscriber("b@example.com")));
+        when(postRepository.findPublishedBetween(windowStart, windowEnd)).thenReturn(List.of(mock(Post.class)));
+        when(postRepository.findPublishedBetween(argThat(from -> !windowStart.equals(from)), any())).thenReturn(List.of());
+        when(jobRunRepository.findTopByJobNameAndStatusOrderByStartedAtDesc(anyString(), any())).thenReturn(Optional.empty());
+        when(emailService.sendDigest(anyString(), anyList(), anyList()))
+                .thenReturn(new EmailService.DigestResult(0, List.of("b@example.com")));
+
+        // when
+        digestService.sendDailyDigest();
+
+        // then
+        verify(redisTemplate).delete("digest_retry:newsletter-digest.daily");
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    private String retryJson(LocalDateTime windowStart, LocalDateTime windowEnd, List<String> recipients, int attempts)
+            throws Exception {
+        return objectMapper.writeValueAsString(List.of(Map.of(
+                "windowStart", windowStart, "windowEnd", windowEnd, "recipients", recipients, "attempts", attempts)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.thousandhyehyang.blog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.service.post.PostDetailPayloadCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailPayloadCacheTest {
+
+    private PostDetailPayloadCache cache;
+    private AtomicInteger serializeCount;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostDetailPayloadCache(new ObjectMapper());
+        serializeCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은_버전은_한_번만_직렬화")
+    void 같은_버전은_한_번만_직렬화() {
+        // when
+        PostDetailPayloadCache.Payload first = cache.get(1L, "1-r0", () -> body("본문"));
+        PostDetailPayloadCache.Payload second = cache.get(1L, "1-r0", () -> body("본문"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(serializeCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전이_바뀌면_새로_직렬화")
+    void 버전이_바뀌면_새로_직렬화() {
+        // when
+        PostDetailPayloadCache.Payload v1 = cache.get(1L, "1-r0", () -> body("수정 전"));
+        PostDetailPayloadCache.Payload v2 = cache.get(1L, "2-r0", () -> body("수정 후"));
+
+        // then
+        assertThat(serializeCount.get()).isEqualTo(2);
+        assertThat(new String(v1.json(), StandardCharsets.UTF_8)).contains("수정 전");
+        assertThat(new String(v2.json(), StandardCharsets.UTF_8)).contains("수정 후");
+    }
+
+    @Test
+    @DisplayName("압축_본문은_JSON_본문과_동일하게_복원")
+    void 압축_본문은_JSON_본문과_동일하게_복원() throws IOException {
+        // given
+        String html = "<p>반복되는 긴 본문</p>".repeat(2_000);
+
+        // when
+        PostDetailPayloadCache.Payload payload = cache.get(1L, "1-r0", () -> body(html));
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(payload.json());
+        }
+        assertThat(payload.gzip().length).isLessThan(payload.json().length);
+    }
+
+    @Test
+    @DisplayName("전체_크기를_넘으면_오래된_항목부터_제거")
+    void 전체_크기를_넘으면_오래된_항목부터_제거() {
+        // given: 압축이 거의 되지 않는 1MB 크기의 본문
+        StringBuilder random = new StringBuilder();
+        java.util.Random generator = new java.util.Random(42);
+        while (random.length() < 1024 * 1024) {
+            random.append(Long.toString(generator.nextLong(), 36));
+        }
+        String html = random.toString();
+
+        // when
+        for (long id = 1; id <= 40; id++) {
+            cache.get(id, "1-r0", () -> body(html));
+        }
+
+        // then
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(32L * 1024 * 1024);
+        int before = serializeCount.get();
+        cache.get(1L, "1-r0", () -> body(html));
+        assertThat(serializeCount.get()).isEqualTo(before + 1);
+    }
+
+    private Object body(String html) {
+        serializeCount.incrementAndGet();
+        return Map.of("success", true, "data", Map.of("id", 1, "html", html));
+    }
+}
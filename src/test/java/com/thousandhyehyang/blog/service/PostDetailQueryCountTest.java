@@ -0,0 +1,127 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.dto.post.PostDetailResponse;
+import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.entity.ImageVariant;
+import com.thousandhyehyang.blog.entity.Post;
+import com.thousandhyehyang.blog.entity.PostFileMapping;
+import com.thousandhyehyang.blog.enums.UploadType;
+import com.thousandhyehyang.blog.repository.FileDeletionCandidateRepository;
+import com.thousandhyehyang.blog.repository.PostFileMappingRepository;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.service.email.EmailService;
+import com.thousandhyehyang.blog.service.file.MediaProcessorService;
+import com.thousandhyehyang.blog.service.file.ThumbnailService;
+import com.thousandhyehyang.blog.service.post.CategoryStatsService;
+import com.thousandhyehyang.blog.service.post.PostService;
+import com.thousandhyehyang.blog.service.post.RelatedPostService;
+import com.thousandhyehyang.blog.service.post.TagService;
+import com.thousandhyehyang.blog.util.SecurityUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 상세 조회 쿼리 수 테스트
+ * 첨부파일과 이미지 파생본 수가 늘어나도 실행되는 SQL 수가 일정한지 Hibernate 통계로 확인합니다.
+ */
+@DataJpaTest
+class PostDetailQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFileMappingRepository postFileMappingRepository;
+
+    @Autowired
+    private FileDeletionCandidateRepository fileDeletionCandidateRepository;
+
+    private PostService postService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        RelatedPostService relatedPostService = mock(RelatedPostService.class);
+        when(relatedPostService.getRelatedPosts(anyLong())).thenReturn(List.of());
+
+        postService = new PostService(postRepository, postFileMappingRepository, fileDeletionCandidateRepository,
+                mock(SecurityUtil.class), mock(TagService.class), mock(MediaProcessorService.class),
+                mock(ThumbnailService.class), mock(EmailService.class), relatedPostService,
+                mock(CategoryStatsService.class), mock(ApplicationEventPublisher.class));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("첨부파일_수와_관계없이_상세_조회_쿼리_수가_일정")
+    void 첨부파일_수와_관계없이_상세_조회_쿼리_수가_일정() {
+        // given
+        Long singleAttachmentPostId = createPostWithAttachments(1);
+        Long manyAttachmentsPostId = createPostWithAttachments(5);
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        long singleAttachmentQueries = countQueries(singleAttachmentPostId, 1);
+        long manyAttachmentsQueries = countQueries(manyAttachmentsPostId, 5);
+
+        // then
+        // 게시글(태그 포함) 1회 + 파일 매핑(파일, 파생본 포함) 1회
+        assertThat(singleAttachmentQueries).isEqualTo(2);
+        assertThat(manyAttachmentsQueries).isEqualTo(singleAttachmentQueries);
+    }
+
+    private long countQueries(Long postId, int expectedAttachments) {
+        statistics.clear();
+
+        PostDetailResponse response = postService.getPostDetail(postId);
+
+        List<PostDetailResponse.FileInfo> files = response.attachments().get("CONTENT");
+        assertThat(files).hasSize(expectedAttachments);
+        assertThat(files).allSatisfy(file -> assertThat(file.variants()).hasSize(2));
+        // 2차 캐시 적중으로 쿼리 수가 줄어든 것이 아닌지 확인
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createPostWithAttachments(int attachmentCount) {
+        Post post = new Post("제목", "개발", "내용", "<p>내용</p>", null, "작성자");
+        post.addTag("java");
+        post.addTag("jpa");
+        entityManager.persist(post);
+
+        for (int i = 0; i < attachmentCount; i++) {
+            String key = "editor-images/" + post.getId() + "-" + i;
+            FileMetadata file = new FileMetadata("image" + i + ".png", key, "image/png", 1024L,
+                    UploadType.EDITOR_IMAGE, "https://cdn.example.com/" + key);
+            file.addVariants(List.of(
+                    new ImageVariant(320, 240, key + "-w320", "https://cdn.example.com/" + key + "-w320", "image/webp", 100L),
+                    new ImageVariant(640, 480, key + "-w640", "https://cdn.example.com/" + key + "-w640", "image/webp", 200L)));
+            entityManager.persist(file);
+            entityManager.persist(new PostFileMapping(post, file, "CONTENT"));
+        }
+        return post.getId();
+    }
+}
@@ -2,19 +2,24 @@ package com.thousandhyehyang.blog.service;
 
 import com.thousandhyehyang.blog.dto.post.PostCreateRequest;
 import com.thousandhyehyang.blog.dto.post.PostDetailResponse;
+import com.thousandhyehyang.blog.dto.post.PostPageResponse;
 import com.thousandhyehyang.blog.dto.post.PostSummaryResponse;
 import com.thousandhyehyang.blog.dto.post.PostUpdateRequest;
+import com.thousandhyehyang.blog.dto.post.RelatedPostResponse;
 import com.thousandhyehyang.blog.entity.Account;
 import com.thousandhyehyang.blog.entity.FileMetadata;
 import com.thousandhyehyang.blog.entity.Post;
 import com.thousandhyehyang.blog.entity.PostFileMapping;
 import com.thousandhyehyang.blog.exception.AuthenticationException;
 import com.thousandhyehyang.blog.exception.PostNotFoundException;
+import com.thousandhyehyang.blog.repository.FileDeletionCandidateRepository;
 import com.thousandhyehyang.blog.repository.PostFileMappingRepository;
 import com.thousandhyehyang.blog.repository.PostRepository;
 import com.thousandhyehyang.blog.service.file.MediaProcessorService;
 import com.thousandhyehyang.blog.service.file.ThumbnailService;
+import com.thousandhyehyang.blog.service.post.CategoryStatsService;
 import com.thousandhyehyang.blog.service.post.PostService;
+import com.thousandhyehyang.blog.service.post.RelatedPostService;
 import com.thousandhyehyang.blog.service.post.TagService;
 import com.thousandhyehyang.blog.service.email.EmailService;
 import com.thousandhyehyang.blog.util.HtmlParser;
@@ -23,11 +28,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -50,6 +58,9 @@ class PostServiceTest {
     @Mock
     private PostFileMappingRepository postFileMappingRepository;
 
+    @Mock
+    private FileDeletionCandidateRepository fileDeletionCandidateRepository;
+
     @Mock
     private SecurityUtil securityUtil;
 
@@ -65,6 +76,15 @@ class PostServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private RelatedPostService relatedPostService;
+
+    @Mock
+    private CategoryStatsService categoryStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PostService postService;
 
     private Account testAccount;
@@ -78,11 +98,15 @@ class PostServiceTest {
         postService = new PostService(
                 postRepository,
                 postFileMappingRepository,
+                fileDeletionCandidateRepository,
                 securityUtil,
                 tagService,
                 mediaProcessorService,
                 thumbnailService,
-                emailService
+                emailService,
+                relatedPostService,
+                categoryStatsService,
+                eventPublisher
         );
 
         // 테스트용 계정 설정
@@ -136,19 +160,41 @@ class PostServiceTest {
         // HTML 파서 모킹
         try (MockedStatic<HtmlParser> htmlParserMock = mockStatic(HtmlParser.class)) {
             htmlParserMock.when(() -> HtmlParser.extractText(anyString())).thenReturn("테스트 내용");
+            htmlParserMock.when(() -> HtmlParser.extractExcerptHtml(anyString())).thenReturn("<p>테스트 HTML 내용</p>");
 
             // when
             Long postId = postService.create(createRequest);
 
             // then
             assertThat(postId).isEqualTo(testPost.getId());
-            verify(postRepository).save(any(Post.class));
+            ArgumentCaptor<Post> savedPost = ArgumentCaptor.forClass(Post.class);
+            verify(postRepository).save(savedPost.capture());
+            assertThat(savedPost.getValue().getExcerptHtml()).isEqualTo("<p>테스트 HTML 내용</p>");
             verify(tagService).processTags(any(Post.class), anyList());
             verify(thumbnailService).processThumbnail(any(Post.class), anyString());
             verify(mediaProcessorService).associateFilesFromHtml(any(Post.class), anyString());
+            verify(eventPublisher).publishEvent(new PostService.PostChangedEvent(1L));
+            verify(categoryStatsService).applyChange(null, false, "테스트", true);
         }
     }
 
+    @Test
+    @DisplayName("임시저장_게시글_생성시_변경_이벤트_미발행")
+    void 임시저장_게시글_생성시_변경_이벤트_미발행() {
+        // given
+        PostCreateRequest draftRequest = new PostCreateRequest(
+                "임시 제목", "테스트", "임시 내용", "<p>임시 HTML</p>", "", List.of(), true);
+        when(testPost.isDraft()).thenReturn(true);
+        given(postRepository.save(any(Post.class))).willReturn(testPost);
+
+        // when
+        postService.create(draftRequest);
+
+        // then
+        verify(emailService, never()).sendNewPostNotification(any(Post.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     @DisplayName("게시글_생성_실패_인증정보_없음")
     void 게시글_생성_실패_인증정보_없음() {
@@ -166,7 +212,9 @@ class PostServiceTest {
         // given
         given(postRepository.findById(anyLong())).willReturn(Optional.of(testPost));
         given(postRepository.findByIdWithTags(anyLong())).willReturn(Optional.of(testPost));
-        given(postFileMappingRepository.findByPost(any(Post.class))).willReturn(Collections.emptyList());
+        given(postFileMappingRepository.findAllWithFileByPost(any(Post.class))).willReturn(Collections.emptyList());
+        given(relatedPostService.getRelatedPosts(1L))
+                .willReturn(List.of(new RelatedPostResponse(5L, "관련 게시글", "테스트", null)));
 
         // when
         PostDetailResponse response = postService.getPostDetail(1L);
@@ -175,6 +223,7 @@ class PostServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.id()).isEqualTo(testPost.getId());
         assertThat(response.title()).isEqualTo(testPost.getTitle());
+        assertThat(response.relatedPosts()).extracting(RelatedPostResponse::id).containsExactly(5L);
         verify(postRepository).findByIdWithTags(1L);
     }
 
@@ -254,9 +303,9 @@ class PostServiceTest {
     @DisplayName("게시글_수정_성공")
     void 게시글_수정_성공() {
         // given
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(testPost));
+        given(postRepository.findByIdForUpdate(anyLong())).willReturn(Optional.of(testPost));
         given(postRepository.save(any(Post.class))).willReturn(testPost);
-        given(postFileMappingRepository.findByPost(any(Post.class))).willReturn(Collections.emptyList());
+        given(postFileMappingRepository.findAllWithFileByPost(any(Post.class))).willReturn(Collections.emptyList());
 
         // HTML 파서 모킹
         try (MockedStatic<HtmlParser> htmlParserMock = mockStatic(HtmlParser.class)) {
@@ -289,7 +338,7 @@ class PostServiceTest {
         when(otherUserPost.getAuthor()).thenReturn("다른사용자");
         when(otherUserPost.isDraft()).thenReturn(false);
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(otherUserPost));
+        given(postRepository.findByIdForUpdate(anyLong())).willReturn(Optional.of(otherUserPost));
 
         // when & then
         assertThrows(AuthenticationException.class, () -> postService.updatePost(3L, updateRequest));
@@ -301,13 +350,74 @@ class PostServiceTest {
     void 게시글_삭제_성공() {
         // given
         given(postRepository.findById(anyLong())).willReturn(Optional.of(testPost));
-        given(postFileMappingRepository.findByPost(any(Post.class))).willReturn(Collections.emptyList());
+        given(fileDeletionCandidateRepository.enqueueOrphanedFilesOfPost(1L)).willReturn(2);
+        given(postFileMappingRepository.deleteAllByPostId(1L)).willReturn(3);
+
+        // when
+        postService.deletePost(1L);
+
+        // then
+        // 매핑 삭제 전에 고아 파일이 삭제 후보로 등록되었는지 확인
+        InOrder inOrder = inOrder(fileDeletionCandidateRepository, postFileMappingRepository, postRepository);
+        inOrder.verify(fileDeletionCandidateRepository).enqueueOrphanedFilesOfPost(1L);
+        inOrder.verify(postFileMappingRepository).deleteAllByPostId(1L);
+        inOrder.verify(postRepository).delete(testPost);
+
+        // 파일별 개별 조회는 발생하지 않음
+        verify(postFileMappingRepository, never()).findByFileId(anyLong());
+
+        // 공개 게시글 삭제는 피드/사이트맵 갱신 대상이며 카테고리 게시글 수에서 제외
+        verify(eventPublisher).publishEvent(new PostService.PostChangedEvent(1L));
+        verify(categoryStatsService).applyChange("테스트", true, null, false);
+    }
+
+    @Test
+    @DisplayName("카테고리별_게시글_목록_키셋_페이지_조회")
+    void 카테고리별_게시글_목록_키셋_페이지_조회() {
+        // given: 한 페이지(20개)보다 한 개 많은 게시글
+        LocalDateTime baseTime = LocalDateTime.of(2025, 5, 1, 12, 0);
+        List<Post> posts = new ArrayList<>();
+        for (long i = 0; i < 21; i++) {
+            Post post = mock(Post.class);
+            when(post.getId()).thenReturn(100L - i);
+            when(post.getCreatedAt()).thenReturn(baseTime.minusMinutes(i));
+            posts.add(post);
+        }
+        given(postRepository.findPublishedByCategory(eq("개발"), any(Pageable.class))).willReturn(posts);
+        given(categoryStatsService.getPostCount("개발")).willReturn(35L);
+
+        // when
+        PostPageResponse firstPage = postService.getPostsByCategory("개발", null);
+
+        // then
+        assertThat(firstPage.posts()).hasSize(20);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.totalCount()).isEqualTo(35L);
+
+        // 다음 페이지는 마지막 게시글의 (생성 시간, ID) 이후부터 조회
+        given(postRepository.findPublishedByCategoryBefore(eq("개발"), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .willReturn(posts.subList(20, 21));
+        PostPageResponse secondPage = postService.getPostsByCategory("개발", firstPage.nextCursor());
+
+        assertThat(secondPage.posts()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+        verify(postRepository).findPublishedByCategoryBefore(eq("개발"), eq(baseTime.minusMinutes(19)), eq(81L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("임시저장_게시글_삭제시_변경_이벤트_미발행")
+    void 임시저장_게시글_삭제시_변경_이벤트_미발행() {
+        // given
+        when(testPost.isDraft()).thenReturn(true);
+        given(postRepository.findById(anyLong())).willReturn(Optional.of(testPost));
 
         // when
         postService.deletePost(1L);
 
         // then
         verify(postRepository).delete(testPost);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -319,6 +429,7 @@ class PostServiceTest {
         // when & then
         assertThrows(PostNotFoundException.class, () -> postService.deletePost(999L));
         verify(postRepository, never()).delete(any(Post.class));
+        verify(fileDeletionCandidateRepository, never()).enqueueOrphanedFilesOfPost(anyLong());
     }
 
     @Test
@@ -340,4 +451,37 @@ class PostServiceTest {
         // when & then
         assertThrows(AuthenticationException.class, () -> postService.getPostDetail(4L));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("공개_게시글_버전_조회_성공")
+    void 공개_게시글_버전_조회_성공() {
+        // given
+        PostRepository.PostVersion version = mock(PostRepository.PostVersion.class);
+        when(version.getId()).thenReturn(1L);
+        when(version.getVersion()).thenReturn(3L);
+        when(version.getDraft()).thenReturn(false);
+        given(postRepository.findVersionById(1L)).willReturn(Optional.of(version));
+
+        // when
+        Optional<PostRepository.PostVersion> result = postService.findPublishedPostVersion(1L);
+
+        // then
+        assertThat(result).containsSame(version);
+        verify(postRepository, never()).findByIdWithTags(anyLong());
+    }
+
+    @Test
+    @DisplayName("공개_게시글_버전_조회_임시저장_게시글_제외")
+    void 공개_게시글_버전_조회_임시저장_게시글_제외() {
+        // given
+        PostRepository.PostVersion version = mock(PostRepository.PostVersion.class);
+        when(version.getDraft()).thenReturn(true);
+        given(postRepository.findVersionById(4L)).willReturn(Optional.of(version));
+
+        // when
+        Optional<PostRepository.PostVersion> result = postService.findPublishedPostVersion(4L);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
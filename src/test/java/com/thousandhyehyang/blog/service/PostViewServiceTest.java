@@ -0,0 +1,175 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.exception.JobLeaseLostException;
+import com.thousandhyehyang.blog.repository.PostStatsRepository;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import com.thousandhyehyang.blog.service.post.PostViewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostViewServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private PostStatsRepository postStatsRepository;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    private PostViewService postViewService;
+
+    @BeforeEach
+    void setUp() {
+        postViewService = new PostViewService(redisTemplate, postStatsRepository, jobLockService);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.countExistingKeys(anyCollection())).thenReturn(1L);
+
+        // 작업 락은 항상 획득된 것으로 가정하고 작업을 그대로 실행
+        doAnswer(invocation -> {
+            ToIntFunction<JobLease> work = invocation.getArgument(3);
+            return work.applyAsInt(new JobLease(invocation.getArgument(1), 1L, "test-node:1"));
+        }).when(jobLockService).runExclusively(anyString(), anyString(), any(Duration.class), any());
+    }
+
+    @Test
+    @DisplayName("조회수는_게시글별로_합산하여_Redis에_반영")
+    void 조회수는_게시글별로_합산하여_Redis에_반영() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            postViewService.recordView(1L);
+        }
+        postViewService.recordView(2L);
+
+        // when
+        int drained = postViewService.drainToRedis();
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        verify(hashOperations).increment("post_views:pending", "1", 3L);
+        verify(hashOperations).increment("post_views:pending", "2", 1L);
+
+        // 이미 옮긴 값은 다시 전송하지 않음
+        assertThat(postViewService.drainToRedis()).isZero();
+        verifyNoMoreInteractions(hashOperations);
+    }
+
+    @Test
+    @DisplayName("Redis_반영_실패시_다음_주기에_재시도")
+    void Redis_반영_실패시_다음_주기에_재시도() {
+        // given
+        postViewService.recordView(1L);
+        postViewService.recordView(1L);
+        when(hashOperations.increment("post_views:pending", "1", 2L))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"))
+                .thenReturn(2L);
+
+        // when
+        int first = postViewService.drainToRedis();
+        int second = postViewService.drainToRedis();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        verify(hashOperations, times(2)).increment("post_views:pending", "1", 2L);
+    }
+
+    @Test
+    @DisplayName("누적된_조회수를_한_번에_DB에_반영")
+    @SuppressWarnings("unchecked")
+    void 누적된_조회수를_한_번에_DB에_반영() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList())).thenReturn(1L);
+        when(hashOperations.entries("post_views:flushing")).thenReturn(Map.of("1", "10", "2", "3", "x", "잘못된값"));
+        when(postStatsRepository.addViewCounts(anyMap())).thenReturn(2);
+
+        // when
+        int updated = postViewService.flushToDatabase();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        ArgumentCaptor<Map<Long, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(postStatsRepository).addViewCounts(deltas.capture());
+        assertThat(deltas.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 10L, 2L, 3L));
+        verify(redisTemplate).delete("post_views:flushing");
+    }
+
+    @Test
+    @DisplayName("반영할_조회수가_없으면_DB_미접근")
+    void 반영할_조회수가_없으면_DB_미접근() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList())).thenReturn(0L);
+
+        // when
+        int updated = postViewService.flushToDatabase();
+
+        // then
+        assertThat(updated).isZero();
+        verify(postStatsRepository, never()).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영할_조회수가_없으면_락_획득과_실행_이력_생략")
+    void 반영할_조회수가_없으면_락_획득과_실행_이력_생략() {
+        // given
+        when(redisTemplate.countExistingKeys(List.of("post_views:pending", "post_views:flushing"))).thenReturn(0L);
+
+        // when
+        int updated = postViewService.flushToDatabase();
+
+        // then
+        assertThat(updated).isZero();
+        verify(jobLockService, never()).runExclusively(anyString(), anyString(), any(Duration.class), any());
+    }
+
+    @Test
+    @DisplayName("락을_잃으면_DB_반영_없이_Redis_해시_유지")
+    void 락을_잃으면_DB_반영_없이_Redis_해시_유지() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList())).thenReturn(1L);
+        when(hashOperations.entries("post_views:flushing")).thenReturn(Map.of("1", "10"));
+        doThrow(new JobLeaseLostException("post-view-flush", 1L))
+                .when(jobLockService).ensureHeld(any(JobLease.class), any(Duration.class));
+
+        // when
+        int updated = postViewService.flushToDatabase();
+
+        // then
+        assertThat(updated).isZero();
+        verify(postStatsRepository, never()).addViewCounts(anyMap());
+        verify(redisTemplate, never()).delete("post_views:flushing");
+    }
+
+    /**
+     * 스크립트 종류와 관계없이 일치하는 매처 (raw 타입 매처로 인한 unchecked 경고 방지)
+     */
+    private static <T> RedisScript<T> anyScript() {
+        return any();
+    }
+}
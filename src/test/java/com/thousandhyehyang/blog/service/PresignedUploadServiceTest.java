@@ -0,0 +1,306 @@
+package com.thousandhyehyang.blog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.common.ApiResponse;
+import com.thousandhyehyang.blog.config.R2Properties;
+import com.thousandhyehyang.blog.dto.file.FileUploadResponse;
+import com.thousandhyehyang.blog.dto.file.PresignedUploadRequest;
+import com.thousandhyehyang.blog.dto.file.PresignedUploadResponse;
+import com.thousandhyehyang.blog.entity.FileMetadata;
+import com.thousandhyehyang.blog.enums.UploadType;
+import com.thousandhyehyang.blog.exception.FileUploadException;
+import com.thousandhyehyang.blog.service.file.FileUploadService;
+import com.thousandhyehyang.blog.service.file.PresignedUploadService;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PresignedUploadServiceTest {
+
+    // PNG 시그니처
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0x0D, 'I', 'H', 'D', 'R'};
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private R2Properties r2Properties;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PresignedUploadService presignedUploadService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(r2Properties.getBucket()).thenReturn("test-bucket");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(jobLockService.runExclusively(anyString(), anyString(), any(Duration.class), any()))
+                .thenAnswer(invocation -> invocation.<ToIntFunction<JobLease>>getArgument(3)
+                        .applyAsInt(new JobLease("presigned-upload.staging-sweep", 1L, "node")));
+
+        presignedUploadService = new PresignedUploadService(
+                s3Client, s3Presigner, r2Properties, fileUploadService, redisTemplate, objectMapper, jobLockService);
+    }
+
+    @Test
+    @DisplayName("사전_서명_URL_발급_성공")
+    void 사전_서명_URL_발급_성공() throws Exception {
+        // given
+        PresignedUploadRequest request = new PresignedUploadRequest("video.mp4", "video/mp4", 1024L, UploadType.EDITOR_VIDEO);
+        when(fileUploadService.buildStorageKey(UploadType.EDITOR_VIDEO, "video.mp4")).thenReturn("editor-videos/uuid.mp4");
+
+        PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+        when(presigned.url()).thenReturn(new URL("https://r2.example.com/test-bucket/editor-videos/uuid.mp4?X-Amz-Signature=abc"));
+        when(presigned.expiration()).thenReturn(Instant.parse("2025-01-01T00:10:00Z"));
+        when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+
+        // when
+        PresignedUploadResponse response = presignedUploadService.issue(request);
+
+        // then
+        ArgumentCaptor<PutObjectPresignRequest> presignCaptor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+        verify(s3Presigner).presignPutObject(presignCaptor.capture());
+        PutObjectRequest signed = presignCaptor.getValue().putObjectRequest();
+        // URL은 임시 경로에 대해서만 발급되고 최종 키는 업로드 정보에만 저장됨
+        assertThat(signed.key()).isEqualTo("pending-uploads/" + response.uploadId());
+        assertThat(signed.contentType()).isEqualTo("video/mp4");
+        assertThat(signed.contentLength()).isEqualTo(1024L);
+
+        assertThat(response.uploadId()).isNotBlank();
+        assertThat(response.headers()).containsEntry("Content-Type", "video/mp4").containsEntry("Content-Length", "1024");
+        ArgumentCaptor<String> pendingCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("pending_upload:" + response.uploadId()), pendingCaptor.capture(), any(Duration.class));
+        assertThat(pendingCaptor.getValue()).contains("\"key\":\"editor-videos/uuid.mp4\"");
+    }
+
+    @Test
+    @DisplayName("사전_서명_URL_발급_실패_허용되지_않는_타입")
+    void 사전_서명_URL_발급_실패_허용되지_않는_타입() {
+        // given
+        PresignedUploadRequest request = new PresignedUploadRequest("script.exe", "application/octet-stream", 1024L, UploadType.DOCUMENT);
+
+        // when & then
+        assertThrows(FileUploadException.class, () -> presignedUploadService.issue(request));
+        verify(s3Presigner, never()).presignPutObject(any(PutObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("업로드_확인_성공")
+    void 업로드_확인_성공() throws Exception {
+        // given
+        when(valueOperations.getAndDelete("pending_upload:upload-1")).thenReturn(pending("image/png", PNG_HEADER.length));
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength((long) PNG_HEADER.length).build());
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), PNG_HEADER));
+
+        FileMetadata metadata = new FileMetadata("image.png", "editor-images/uuid.png", "image/png",
+                (long) PNG_HEADER.length, UploadType.EDITOR_IMAGE, "https://test-cdn.example.com/editor-images/uuid.png");
+        when(fileUploadService.saveMetadata("image.png", "editor-images/uuid.png", "image/png",
+                PNG_HEADER.length, UploadType.EDITOR_IMAGE, null)).thenReturn(metadata);
+
+        // when
+        ApiResponse<FileUploadResponse> response = presignedUploadService.confirm("upload-1");
+
+        // then
+        assertThat(response.getData().url()).isEqualTo("https://test-cdn.example.com/editor-images/uuid.png");
+
+        ArgumentCaptor<GetObjectRequest> getCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObjectAsBytes(getCaptor.capture());
+        assertThat(getCaptor.getValue().key()).isEqualTo("pending-uploads/upload-1");
+        assertThat(getCaptor.getValue().range()).isEqualTo("bytes=0-4095");
+
+        // 검증한 임시 객체를 최종 키로 복사한 뒤 임시 객체 삭제
+        ArgumentCaptor<CopyObjectRequest> copyCaptor = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(s3Client).copyObject(copyCaptor.capture());
+        assertThat(copyCaptor.getValue().sourceKey()).isEqualTo("pending-uploads/upload-1");
+        assertThat(copyCaptor.getValue().destinationKey()).isEqualTo("editor-images/uuid.png");
+        ArgumentCaptor<DeleteObjectRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(s3Client).deleteObject(deleteCaptor.capture());
+        assertThat(deleteCaptor.getValue().key()).isEqualTo("pending-uploads/upload-1");
+    }
+
+    @Test
+    @DisplayName("같은_업로드를_동시에_확인하면_한_요청만_처리")
+    void 같은_업로드를_동시에_확인하면_한_요청만_처리() throws Exception {
+        // given
+        // GETDEL로 업로드 정보를 가져오므로 두 번째 요청은 빈 값을 받음
+        when(valueOperations.getAndDelete("pending_upload:upload-1"))
+                .thenReturn(pending("image/png", PNG_HEADER.length))
+                .thenReturn(null);
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength((long) PNG_HEADER.length).build());
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), PNG_HEADER));
+        when(fileUploadService.saveMetadata(any(), any(), any(), anyLong(), any(), any()))
+                .thenReturn(new FileMetadata("image.png", "editor-images/uuid.png", "image/png",
+                        (long) PNG_HEADER.length, UploadType.EDITOR_IMAGE, "https://test-cdn.example.com/editor-images/uuid.png"));
+
+        // when
+        presignedUploadService.confirm("upload-1");
+
+        // then
+        assertThrows(FileUploadException.class, () -> presignedUploadService.confirm("upload-1"));
+        verify(fileUploadService, times(1)).saveMetadata(any(), any(), any(), anyLong(), any(), any());
+        verify(s3Client, times(1)).copyObject(any(CopyObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("업로드_확인_실패_실제_타입_불일치시_객체_삭제")
+    void 업로드_확인_실패_실제_타입_불일치시_객체_삭제() throws Exception {
+        // given
+        byte[] notAnImage = "<html><body>not an image</body></html>".getBytes();
+        when(valueOperations.getAndDelete("pending_upload:upload-1")).thenReturn(pending("image/png", notAnImage.length));
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength((long) notAnImage.length).build());
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), notAnImage));
+
+        // when & then
+        assertThrows(FileUploadException.class, () -> presignedUploadService.confirm("upload-1"));
+
+        ArgumentCaptor<DeleteObjectRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(s3Client).deleteObject(deleteCaptor.capture());
+        assertThat(deleteCaptor.getValue().key()).isEqualTo("pending-uploads/upload-1");
+        verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+        verify(fileUploadService, never()).saveMetadata(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("업로드_확인_실패_크기_불일치시_객체_삭제")
+    void 업로드_확인_실패_크기_불일치시_객체_삭제() throws Exception {
+        // given
+        when(valueOperations.getAndDelete("pending_upload:upload-1")).thenReturn(pending("image/png", 1024));
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(4096L).build());
+
+        // when & then
+        assertThrows(FileUploadException.class, () -> presignedUploadService.confirm("upload-1"));
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3Client, never()).getObjectAsBytes(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("업로드_확인_실패_만료된_업로드")
+    void 업로드_확인_실패_만료된_업로드() {
+        // given
+        when(valueOperations.getAndDelete("pending_upload:expired")).thenReturn(null);
+
+        // when & then
+        assertThrows(FileUploadException.class, () -> presignedUploadService.confirm("expired"));
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("업로드_확인_실패_업로드되지_않은_객체")
+    void 업로드_확인_실패_업로드되지_않은_객체() throws Exception {
+        // given
+        String pending = pending("image/png", 1024);
+        when(valueOperations.getAndDelete("pending_upload:upload-1")).thenReturn(pending);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        // when & then
+        assertThrows(FileUploadException.class, () -> presignedUploadService.confirm("upload-1"));
+        verify(fileUploadService, never()).saveMetadata(any(), any(), any(), anyLong(), any(), any());
+        // 업로드를 마친 뒤 다시 확인할 수 있도록 업로드 정보를 되돌림
+        verify(valueOperations).setIfAbsent(eq("pending_upload:upload-1"), eq(pending), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("유지_시간이_지난_임시_업로드_객체만_정리")
+    void 유지_시간이_지난_임시_업로드_객체만_정리() {
+        // given
+        ListObjectsV2Iterable pages = mock(ListObjectsV2Iterable.class);
+        when(pages.contents()).thenReturn(() -> List.of(
+                S3Object.builder().key("pending-uploads/old").lastModified(Instant.now().minus(Duration.ofHours(2))).build(),
+                S3Object.builder().key("pending-uploads/recent").lastModified(Instant.now()).build()).iterator());
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class))).thenReturn(pages);
+        when(fileUploadService.deleteObjects(anyList())).thenReturn(Set.of());
+
+        // when
+        int deletedCount = presignedUploadService.sweepStagingObjects();
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        ArgumentCaptor<ListObjectsV2Request> listCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(s3Client).listObjectsV2Paginator(listCaptor.capture());
+        assertThat(listCaptor.getValue().prefix()).isEqualTo("pending-uploads/");
+        verify(fileUploadService).deleteObjects(List.of("pending-uploads/old"));
+    }
+
+    @Test
+    @DisplayName("업로드_확인은_메타데이터_저장만_트랜잭션으로_처리")
+    void 업로드_확인은_메타데이터_저장만_트랜잭션으로_처리() throws Exception {
+        // when
+        Method confirm = PresignedUploadService.class.getMethod("confirm", String.class);
+        Method saveMetadata = FileUploadService.class.getMethod("saveMetadata",
+                String.class, String.class, String.class, long.class, UploadType.class, byte[].class);
+
+        // then
+        // 스토리지 확인과 복사 동안에는 DB 커넥션을 점유하지 않아야 함
+        assertThat(confirm.isAnnotationPresent(Transactional.class)).isFalse();
+        assertThat(PresignedUploadService.class.isAnnotationPresent(Transactional.class)).isFalse();
+        assertThat(saveMetadata.isAnnotationPresent(Transactional.class)).isTrue();
+    }
+
+    private String pending(String contentType, long size) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "stagingKey", "pending-uploads/upload-1",
+                "key", "editor-images/uuid.png",
+                "filename", "image.png",
+                "contentType", contentType,
+                "size", size,
+                "type", UploadType.EDITOR_IMAGE.name(),
+                "expiresAt", Instant.now().plus(Duration.ofMinutes(30)).toEpochMilli()));
+    }
+}
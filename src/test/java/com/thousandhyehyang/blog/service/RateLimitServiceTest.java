@@ -0,0 +1,116 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.enums.RateLimitPolicy;
+import com.thousandhyehyang.blog.exception.RateLimitExceededException;
+import com.thousandhyehyang.blog.service.ratelimit.RateLimitService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RateLimitServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitService = new RateLimitService(redisTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("토큰이_남아_있으면_요청_허용")
+    void 토큰이_남아_있으면_요청_허용() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(0L);
+
+        // when & then
+        assertThatCode(() -> rateLimitService.acquire(RateLimitPolicy.COMMENT_CREATE_IP, "127.0.0.1"))
+                .doesNotThrowAnyException();
+        verify(redisTemplate).execute(anyScript(), eq(List.of("rate_limit:comment_ip:127.0.0.1")),
+                eq("5"), eq("12000"));
+    }
+
+    @Test
+    @DisplayName("토큰이_없으면_거부하고_이후_요청은_로컬에서_거부")
+    void 토큰이_없으면_거부하고_이후_요청은_로컬에서_거부() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any())).willReturn(4_200L);
+
+        // when
+        RateLimitExceededException first = assertThrows(RateLimitExceededException.class,
+                () -> rateLimitService.acquire(RateLimitPolicy.COMMENT_CREATE_IP, "127.0.0.1"));
+        RateLimitExceededException second = assertThrows(RateLimitExceededException.class,
+                () -> rateLimitService.acquire(RateLimitPolicy.COMMENT_CREATE_IP, "127.0.0.1"));
+
+        // then
+        assertThat(first.getRetryAfterSeconds()).isEqualTo(5L);
+        assertThat(second.getRetryAfterSeconds()).isBetween(1L, 5L);
+        verify(redisTemplate, times(1)).execute(anyScript(), anyList(), any(), any());
+        assertThat(meterRegistry.counter("rate_limit.rejected", "policy", "COMMENT_CREATE_IP", "tier", "redis").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("rate_limit.rejected", "policy", "COMMENT_CREATE_IP", "tier", "local").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른_대상은_로컬_차단에_영향받지_않음")
+    void 다른_대상은_로컬_차단에_영향받지_않음() {
+        // given
+        given(redisTemplate.execute(anyScript(), eq(List.of("rate_limit:subscription_ip:10.0.0.1")), any(), any()))
+                .willReturn(60_000L);
+        given(redisTemplate.execute(anyScript(), eq(List.of("rate_limit:subscription_ip:10.0.0.2")), any(), any()))
+                .willReturn(0L);
+
+        // when & then
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimitService.acquire(RateLimitPolicy.SUBSCRIPTION_IP, "10.0.0.1"));
+        assertThatCode(() -> rateLimitService.acquire(RateLimitPolicy.SUBSCRIPTION_IP, "10.0.0.2"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Redis_장애시_요청_허용")
+    void Redis_장애시_요청_허용() {
+        // given
+        given(redisTemplate.execute(anyScript(), anyList(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertThatCode(() -> rateLimitService.acquire(RateLimitPolicy.SUBSCRIPTION_EMAIL, "user@example.com"))
+                .doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("rate_limit.errors", "policy", "SUBSCRIPTION_EMAIL").count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 스크립트 종류와 관계없이 일치하는 매처 (raw 타입 매처로 인한 unchecked 경고 방지)
+     */
+    private static <T> RedisScript<T> anyScript() {
+        return any();
+    }
+}
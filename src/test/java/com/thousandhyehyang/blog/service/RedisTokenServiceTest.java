@@ -0,0 +1,176 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.config.JwtProperties;
+import com.thousandhyehyang.blog.security.RedisTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisTokenServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private RedisTokenService redisTokenService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRefreshTokenExpirationMs(14 * 24 * 60 * 60 * 1000L);
+        redisTokenService = new RedisTokenService(redisTemplate, jwtProperties);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("리프레시_토큰은_원본이_아닌_해시로_저장")
+    void 리프레시_토큰은_원본이_아닌_해시로_저장() {
+        // when
+        redisTokenService.storeRefreshToken(1L, "device-1", "raw-refresh-token");
+
+        // then
+        ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> ttl = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(anyScript(), eq(List.of("refresh_tokens:1")),
+                eq("device-1"), value.capture(), ttl.capture(), any());
+
+        String stored = (String) value.getValue();
+        assertThat(stored).doesNotContain("raw-refresh-token");
+        assertThat(stored.substring(0, stored.indexOf('|'))).matches("[0-9a-f]{64}");
+        assertThat(ttl.getValue()).isEqualTo(String.valueOf(14 * 24 * 60 * 60));
+    }
+
+    @Test
+    @DisplayName("저장된_해시와_일치하면_교체_성공")
+    void 저장된_해시와_일치하면_교체_성공() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn("ROTATED");
+
+        // when
+        RedisTokenService.Rotation rotation =
+                redisTokenService.rotateRefreshToken(1L, "device-1", "old-token", "new-token");
+
+        // then
+        assertThat(rotation.result()).isEqualTo(RedisTokenService.RotationResult.ROTATED);
+        assertThat(rotation.refreshToken()).isEqualTo("new-token");
+
+        ArgumentCaptor<Object> presented = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> next = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> sealed = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate, times(1)).execute(anyScript(), eq(List.of("refresh_tokens:1")),
+                eq("device-1"), presented.capture(), next.capture(), any(), any(), sealed.capture(), any());
+        assertThat((String) presented.getValue()).matches("[0-9a-f]{64}");
+        assertThat((String) next.getValue()).doesNotContain("new-token");
+        assertThat((String) sealed.getValue()).doesNotContain("new-token");
+    }
+
+    @Test
+    @DisplayName("저장된_토큰이_없으면_유효하지_않음")
+    void 저장된_토큰이_없으면_유효하지_않음() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn("INVALID");
+
+        // when
+        RedisTokenService.Rotation rotation =
+                redisTokenService.rotateRefreshToken(1L, "device-1", "old-token", "new-token");
+
+        // then
+        assertThat(rotation.result()).isEqualTo(RedisTokenService.RotationResult.INVALID);
+    }
+
+    @Test
+    @DisplayName("이미_교체된_토큰을_다시_사용하면_재사용으로_판단")
+    void 이미_교체된_토큰을_다시_사용하면_재사용으로_판단() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn("REUSED");
+
+        // when
+        RedisTokenService.Rotation rotation =
+                redisTokenService.rotateRefreshToken(1L, "device-1", "stale-token", "new-token");
+
+        // then
+        assertThat(rotation.result()).isEqualTo(RedisTokenService.RotationResult.REUSED);
+        assertThat(rotation.refreshToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("유예_시간_안에_이전_토큰을_다시_사용하면_이미_발급된_토큰_반환")
+    void 유예_시간_안에_이전_토큰을_다시_사용하면_이미_발급된_토큰_반환() {
+        // given: 첫 교체에서 봉인되어 저장된 후속 토큰
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn("ROTATED");
+        redisTokenService.rotateRefreshToken(1L, "device-1", "old-token", "first-successor");
+        ArgumentCaptor<Object> sealed = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(anyScript(), anyList(),
+                any(), any(), any(), any(), any(), sealed.capture(), any());
+
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn("GRACE|" + sealed.getValue());
+
+        // when: 동시에 보낸 다른 요청이 같은 이전 토큰으로 교체 시도
+        RedisTokenService.Rotation rotation =
+                redisTokenService.rotateRefreshToken(1L, "device-1", "old-token", "second-successor");
+
+        // then
+        assertThat(rotation.result()).isEqualTo(RedisTokenService.RotationResult.ROTATED);
+        assertThat(rotation.refreshToken()).isEqualTo("first-successor");
+    }
+
+    @Test
+    @DisplayName("교체_시_유예_기한은_현재_시각_이후로_전달")
+    void 교체_시_유예_기한은_현재_시각_이후로_전달() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn("ROTATED");
+
+        // when
+        redisTokenService.rotateRefreshToken(1L, "device-1", "old-token", "new-token");
+
+        // then
+        ArgumentCaptor<Object> graceUntil = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> now = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(anyScript(), anyList(),
+                any(), any(), any(), any(), graceUntil.capture(), any(), now.capture());
+        long window = Long.parseLong((String) graceUntil.getValue()) - Long.parseLong((String) now.getValue());
+        assertThat(window).isBetween(10_000L, 30_000L);
+    }
+
+    @Test
+    @DisplayName("기기_로그아웃은_해당_기기_항목만_삭제")
+    void 기기_로그아웃은_해당_기기_항목만_삭제() {
+        // when
+        redisTokenService.deleteRefreshToken(1L, "device-1");
+
+        // then
+        verify(hashOperations).delete("refresh_tokens:1", "device-1");
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    /**
+     * 스크립트 종류와 관계없이 일치하는 매처 (raw 타입 매처로 인한 unchecked 경고 방지)
+     */
+    private static <T> RedisScript<T> anyScript() {
+        return any();
+    }
+}
@@ -0,0 +1,209 @@
+package com.thousandhyehyang.blog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thousandhyehyang.blog.dto.post.RelatedPostResponse;
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.repository.PostTagRepository;
+import com.thousandhyehyang.blog.service.job.JobLease;
+import com.thousandhyehyang.blog.service.job.JobLockService;
+import com.thousandhyehyang.blog.service.post.PostService;
+import com.thousandhyehyang.blog.service.post.RelatedPostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RelatedPostServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RelatedPostService relatedPostService;
+
+    @BeforeEach
+    void setUp() {
+        relatedPostService = new RelatedPostService(
+                postRepository, postTagRepository, redisTemplate, objectMapper, jobLockService);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // 작업 락은 항상 획득된 것으로 가정하고 작업을 그대로 실행
+        doAnswer(invocation -> {
+            ToIntFunction<JobLease> work = invocation.getArgument(3);
+            return work.applyAsInt(new JobLease(invocation.getArgument(1), 1L, "test-node:1"));
+        }).when(jobLockService).runExclusively(anyString(), anyString(), any(Duration.class), any());
+        doAnswer(invocation -> {
+            ToIntFunction<JobLease> work = invocation.getArgument(4);
+            return work.applyAsInt(new JobLease(invocation.getArgument(1), 1L, "test-node:1"));
+        }).when(jobLockService).runOncePerPeriod(anyString(), anyString(), any(Duration.class), any(Duration.class), any());
+
+        // 스프링 관련 게시글 2개와 주제가 다른 게시글 1개
+        List<PostRepository.RelatedCandidate> candidates = List.of(
+                candidate(1L, "스프링 부트 트랜잭션 정리", "스프링 트랜잭션 전파와 격리 수준"),
+                candidate(2L, "스프링 트랜잭션 전파 속성", "트랜잭션 전파 속성별 동작 비교"),
+                candidate(3L, "제주도 여행 기록", "바다와 오름 사진"));
+        List<PostTagRepository.PostTagRow> tags = List.of(
+                tag(1L, "Spring"), tag(2L, "spring"), tag(3L, "여행"));
+        when(postRepository.findRelatedCandidates()).thenReturn(candidates);
+        when(postTagRepository.findPublishedTags()).thenReturn(tags);
+    }
+
+    @Test
+    @DisplayName("저장된_관련_게시글_조회")
+    void 저장된_관련_게시글_조회() throws Exception {
+        // given
+        when(valueOperations.get("related_posts:1"))
+                .thenReturn(objectMapper.writeValueAsString(List.of(new RelatedPostResponse(2L, "스프링", "개발", null))));
+
+        // when
+        List<RelatedPostResponse> related = relatedPostService.getRelatedPosts(1L);
+        List<RelatedPostResponse> missing = relatedPostService.getRelatedPosts(9L);
+
+        // then
+        assertThat(related).extracting(RelatedPostResponse::id).containsExactly(2L);
+        assertThat(missing).isEmpty();
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("관련_게시글_목록이_다시_계산되면_목록_버전이_바뀜")
+    void 관련_게시글_목록이_다시_계산되면_목록_버전이_바뀜() throws Exception {
+        // given
+        when(valueOperations.get("related_posts:1"))
+                .thenReturn(objectMapper.writeValueAsString(List.of(new RelatedPostResponse(2L, "스프링", "개발", null))))
+                .thenReturn(objectMapper.writeValueAsString(List.of(new RelatedPostResponse(3L, "여행", "일상", null))));
+
+        // when
+        String before = relatedPostService.getRelatedPostsVersion(1L);
+        String after = relatedPostService.getRelatedPostsVersion(1L);
+
+        // then
+        assertThat(before).isNotEqualTo(after);
+        assertThat(relatedPostService.getRelatedPostsVersion(9L)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("전체_재계산시_유사한_게시글만_관련_게시글로_저장")
+    @SuppressWarnings("unchecked")
+    void 전체_재계산시_유사한_게시글만_관련_게시글로_저장() throws Exception {
+        // when
+        int count = relatedPostService.recomputeAll();
+
+        // then
+        assertThat(count).isEqualTo(3);
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(valueOperations).multiSet(captor.capture());
+
+        Map<String, String> stored = captor.getValue();
+        assertThat(ids(stored.get("related_posts:1"))).containsExactly(2L);
+        assertThat(ids(stored.get("related_posts:2"))).containsExactly(1L);
+        assertThat(ids(stored.get("related_posts:3"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("증분_재계산시_영향받는_게시글만_다시_계산")
+    @SuppressWarnings("unchecked")
+    void 증분_재계산시_영향받는_게시글만_다시_계산() throws Exception {
+        // given: 삭제된 게시글 9가 게시글 1의 기존 목록에 포함되어 있음
+        when(setOperations.pop("related_posts:dirty", 100)).thenReturn(List.of("9"));
+        List<String> stored = Arrays.asList(
+                objectMapper.writeValueAsString(List.of(new RelatedPostResponse(9L, "삭제된 글", "개발", null))),
+                objectMapper.writeValueAsString(List.of(new RelatedPostResponse(1L, "스프링 부트 트랜잭션 정리", "개발", null))),
+                objectMapper.writeValueAsString(List.of()));
+        when(valueOperations.multiGet(anyList())).thenReturn(stored);
+
+        // when
+        int count = relatedPostService.recomputeChanged();
+
+        // then
+        assertThat(count).isEqualTo(1);
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(valueOperations).multiSet(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys("related_posts:1");
+        assertThat(ids(captor.getValue().get("related_posts:1"))).containsExactly(2L);
+        verify(redisTemplate).delete(List.of("related_posts:9"));
+    }
+
+    @Test
+    @DisplayName("변경된_게시글이_없으면_DB_미조회")
+    void 변경된_게시글이_없으면_DB_미조회() {
+        // given
+        when(setOperations.pop("related_posts:dirty", 100)).thenReturn(new ArrayList<>());
+
+        // when
+        int count = relatedPostService.recomputeChanged();
+
+        // then
+        assertThat(count).isZero();
+        verify(postRepository, never()).findRelatedCandidates();
+    }
+
+    @Test
+    @DisplayName("게시글_변경시_재계산_대상으로_등록")
+    void 게시글_변경시_재계산_대상으로_등록() {
+        // when
+        relatedPostService.handlePostChanged(new PostService.PostChangedEvent(4L));
+
+        // then
+        verify(setOperations).add("related_posts:dirty", "4");
+    }
+
+    private List<Long> ids(String json) throws Exception {
+        return Arrays.stream(objectMapper.readValue(json, RelatedPostResponse[].class))
+                .map(RelatedPostResponse::id)
+                .toList();
+    }
+
+    private PostRepository.RelatedCandidate candidate(Long id, String title, String content) {
+        PostRepository.RelatedCandidate candidate = mock(PostRepository.RelatedCandidate.class);
+        when(candidate.getId()).thenReturn(id);
+        when(candidate.getTitle()).thenReturn(title);
+        when(candidate.getCategory()).thenReturn("개발");
+        when(candidate.getContent()).thenReturn(content);
+        return candidate;
+    }
+
+    private PostTagRepository.PostTagRow tag(Long postId, String tag) {
+        PostTagRepository.PostTagRow row = mock(PostTagRepository.PostTagRow.class);
+        when(row.getPostId()).thenReturn(postId);
+        when(row.getTag()).thenReturn(tag);
+        return row;
+    }
+}
@@ -0,0 +1,74 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.entity.Account;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 설정 테스트
+ * 엔티티에 지정한 캐시 영역이 application.conf 설정으로 실제 생성되는지 확인합니다.
+ * (설정되지 않은 영역이 있으면 missing_cache_strategy: fail에 의해 컨텍스트 로딩이 실패함)
+ */
+@DataJpaTest
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("엔티티에_지정한_모든_캐시_영역이_생성됨")
+    void 엔티티에_지정한_모든_캐시_영역이_생성됨() {
+        // given
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        // when & then
+        assertThat(sessionFactory.getCache().getCacheRegionNames())
+                .contains("accounts", "file_metadata", "file_metadata_variants", "post_tags", "posts_tags");
+    }
+
+    @Test
+    @DisplayName("한_번_조회한_계정은_다음_조회에서_캐시_적중")
+    void 한_번_조회한_계정은_다음_조회에서_캐시_적중() {
+        // given
+        Long id = entityManager.persistAndFlush(
+                new Account("google", "cache@example.com", "이름", "캐시", null, Account.Role.USER)).getId();
+        // 같은 트랜잭션에서 추가한 엔티티는 캐시에 저장되지 않으므로 커밋 후 새 트랜잭션에서 조회
+        commitAndBeginNewTransaction();
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 첫 조회는 DB에서 읽어 캐시에 저장
+        entityManager.find(Account.class, id);
+        // 캐시에 저장된 항목은 저장한 트랜잭션보다 나중에 시작한 트랜잭션에서만 읽을 수 있음
+        commitAndBeginNewTransaction();
+        statistics.clear();
+
+        // when
+        Account account = entityManager.find(Account.class, id);
+
+        // then
+        assertThat(account.getEmail()).isEqualTo("cache@example.com");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private void commitAndBeginNewTransaction() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,151 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.repository.PostRepository;
+import com.thousandhyehyang.blog.service.post.PostService;
+import com.thousandhyehyang.blog.service.post.SiteFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SiteFeedServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SiteFeedService siteFeedService;
+
+    @BeforeEach
+    void setUp() {
+        siteFeedService = new SiteFeedService(postRepository, redisTemplate, listenerContainer,
+                "https://blog.example.com/", "테스트 블로그");
+        List<PostRepository.PostFeedEntry> entries = List.of(
+                entry(2L, "두 번째 글", LocalDateTime.of(2025, 5, 2, 9, 0)),
+                entry(1L, "첫 번째 글 <특수문자 & 포함>", LocalDateTime.of(2025, 5, 1, 9, 0)));
+        when(postRepository.findFeedEntries()).thenReturn(entries);
+        siteFeedService.initialize();
+    }
+
+    @Test
+    @DisplayName("피드_사이트맵_요청시_DB_미조회")
+    void 피드_사이트맵_요청시_DB_미조회() {
+        // when
+        String feed = body(siteFeedService.getFeed());
+        String sitemap = body(siteFeedService.getSitemap());
+        siteFeedService.getFeed();
+
+        // then
+        assertThat(feed).contains("<title>테스트 블로그</title>");
+        assertThat(feed).contains("첫 번째 글 &lt;특수문자 &amp; 포함&gt;");
+        assertThat(feed.indexOf("두 번째 글")).isLessThan(feed.indexOf("첫 번째 글"));
+        assertThat(sitemap).contains("<loc>https://blog.example.com/post/1</loc>");
+        assertThat(sitemap).contains("<loc>https://blog.example.com/post/2</loc>");
+
+        verify(postRepository, times(1)).findFeedEntries();
+        verify(postRepository, never()).findFeedEntryById(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글_변경_메시지_수신시_해당_게시글만_재조회")
+    void 게시글_변경_메시지_수신시_해당_게시글만_재조회() {
+        // given
+        String previousETag = siteFeedService.getFeed().eTag();
+        PostRepository.PostFeedEntry created = entry(3L, "새 글", LocalDateTime.of(2025, 5, 3, 9, 0));
+        when(postRepository.findFeedEntryById(3L)).thenReturn(Optional.of(created));
+
+        // when
+        siteFeedService.onMessage(message("3"), null);
+
+        // then
+        assertThat(body(siteFeedService.getFeed())).contains("새 글");
+        assertThat(body(siteFeedService.getSitemap())).contains("/post/3</loc>");
+        assertThat(siteFeedService.getFeed().eTag()).isNotEqualTo(previousETag);
+        verify(postRepository, times(1)).findFeedEntries();
+        verify(postRepository).findFeedEntryById(3L);
+    }
+
+    @Test
+    @DisplayName("비공개_전환된_게시글은_피드에서_제거")
+    void 비공개_전환된_게시글은_피드에서_제거() {
+        // given
+        when(postRepository.findFeedEntryById(2L)).thenReturn(Optional.empty());
+
+        // when
+        siteFeedService.onMessage(message("2"), null);
+
+        // then
+        assertThat(body(siteFeedService.getFeed())).doesNotContain("두 번째 글");
+        assertThat(body(siteFeedService.getSitemap())).doesNotContain("/post/2</loc>");
+    }
+
+    @Test
+    @DisplayName("변경_이벤트는_Redis_채널로_발행")
+    void 변경_이벤트는_Redis_채널로_발행() {
+        // when
+        siteFeedService.handlePostChanged(new PostService.PostChangedEvent(1L));
+
+        // then
+        verify(redisTemplate).convertAndSend("post-changes", "1");
+        verify(postRepository, never()).findFeedEntryById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis_발행_실패시_현재_인스턴스만_갱신")
+    void Redis_발행_실패시_현재_인스턴스만_갱신() {
+        // given
+        doThrow(new RedisConnectionFailureException("연결 실패"))
+                .when(redisTemplate).convertAndSend(anyString(), any());
+        PostRepository.PostFeedEntry updated = entry(1L, "수정된 글", LocalDateTime.of(2025, 5, 1, 9, 0));
+        when(postRepository.findFeedEntryById(1L)).thenReturn(Optional.of(updated));
+
+        // when
+        siteFeedService.handlePostChanged(new PostService.PostChangedEvent(1L));
+
+        // then
+        assertThat(body(siteFeedService.getFeed())).contains("수정된 글");
+    }
+
+    private PostRepository.PostFeedEntry entry(Long id, String title, LocalDateTime createdAt) {
+        PostRepository.PostFeedEntry entry = mock(PostRepository.PostFeedEntry.class);
+        when(entry.getId()).thenReturn(id);
+        when(entry.getTitle()).thenReturn(title);
+        when(entry.getCategory()).thenReturn("개발");
+        when(entry.getContent()).thenReturn(title + " 요약");
+        when(entry.getAuthor()).thenReturn("천혜향");
+        when(entry.getCreatedAt()).thenReturn(createdAt);
+        when(entry.getUpdatedAt()).thenReturn(createdAt);
+        return entry;
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("post-changes".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String body(SiteFeedService.XmlDocument document) {
+        return new String(document.body(), StandardCharsets.UTF_8);
+    }
+}
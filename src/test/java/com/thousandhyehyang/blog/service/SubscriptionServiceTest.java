@@ -0,0 +1,110 @@
+package com.thousandhyehyang.blog.service;
+
+import com.thousandhyehyang.blog.enums.DeliveryMode;
+import com.thousandhyehyang.blog.enums.RateLimitPolicy;
+import com.thousandhyehyang.blog.exception.SubscriberNotFoundException;
+import com.thousandhyehyang.blog.repository.SubscriberRepository;
+import com.thousandhyehyang.blog.service.ratelimit.RateLimitService;
+import com.thousandhyehyang.blog.service.subscription.SubscriptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SubscriptionServiceTest {
+
+    @Mock
+    private SubscriberRepository subscriberRepository;
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SubscriptionService subscriptionService;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionService = new SubscriptionService(subscriberRepository, rateLimitService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("신규_구독은_한_번의_쓰기로_추가하고_확인_메일_이벤트_발행")
+    void 신규_구독은_한_번의_쓰기로_추가하고_확인_메일_이벤트_발행() {
+        // given
+        when(subscriberRepository.subscribe("a@example.com", "INSTANT")).thenReturn(1);
+
+        // when
+        boolean changed = subscriptionService.subscribe("a@example.com", null);
+
+        // then
+        assertThat(changed).isTrue();
+        verify(rateLimitService).acquire(RateLimitPolicy.SUBSCRIPTION_EMAIL, "a@example.com");
+        verify(eventPublisher).publishEvent(new SubscriptionService.SubscribedEvent("a@example.com"));
+    }
+
+    @Test
+    @DisplayName("해지했던_이메일은_상태만_변경하고_확인_메일_이벤트_발행")
+    void 해지했던_이메일은_상태만_변경하고_확인_메일_이벤트_발행() {
+        // given
+        when(subscriberRepository.subscribe("a@example.com", "WEEKLY")).thenReturn(2);
+
+        // when
+        boolean changed = subscriptionService.subscribe("a@example.com", DeliveryMode.WEEKLY);
+
+        // then
+        assertThat(changed).isTrue();
+        verify(eventPublisher).publishEvent(new SubscriptionService.SubscribedEvent("a@example.com"));
+    }
+
+    @Test
+    @DisplayName("이미_구독_중이면_변경_없이_확인_메일을_보내지_않음")
+    void 이미_구독_중이면_변경_없이_확인_메일을_보내지_않음() {
+        // given
+        when(subscriberRepository.subscribe(anyString(), anyString())).thenReturn(0);
+
+        // when
+        boolean changed = subscriptionService.subscribe("a@example.com", DeliveryMode.INSTANT);
+
+        // then
+        assertThat(changed).isFalse();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("이미_해지한_구독자의_해지는_변경_없이_성공")
+    void 이미_해지한_구독자의_해지는_변경_없이_성공() {
+        // given
+        when(subscriberRepository.unsubscribe("a@example.com")).thenReturn(0);
+        when(subscriberRepository.existsByEmail("a@example.com")).thenReturn(true);
+
+        // when
+        boolean changed = subscriptionService.unsubscribe("a@example.com");
+
+        // then
+        assertThat(changed).isFalse();
+    }
+
+    @Test
+    @DisplayName("구독_이력이_없는_이메일의_해지는_예외_발생")
+    void 구독_이력이_없는_이메일의_해지는_예외_발생() {
+        // given
+        when(subscriberRepository.unsubscribe("none@example.com")).thenReturn(0);
+        when(subscriberRepository.existsByEmail("none@example.com")).thenReturn(false);
+
+        // when & then
+        assertThrows(SubscriberNotFoundException.class, () -> subscriptionService.unsubscribe("none@example.com"));
+    }
+}